@@ -21,6 +21,7 @@ repositories {
 dependencies {
     api(project(":swagger-coverage-commons"))
     implementation("io.swagger.parser.v3:swagger-parser")
+    implementation("io.swagger:swagger-models")
     implementation("org.slf4j:slf4j-api")
     implementation("ch.qos.logback:logback-classic")
     implementation("com.beust:jcommander")
@@ -6,6 +6,7 @@ import com.beust.jcommander.ParameterException;
 import com.beust.jcommander.Parameters;
 import com.beust.jcommander.ParametersDelegate;
 import com.github.viclovsky.swagger.coverage.core.generator.Generator;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
 import com.github.viclovsky.swagger.coverage.option.MainOptions;
 import com.github.viclovsky.swagger.coverage.option.VerboseOptions;
 import org.slf4j.Logger;
@@ -71,10 +72,31 @@ public class CommandLine {
             return ExitCode.NO_ERROR;
         }
 
-        new Generator().setInputPath(mainOptions.getInputPath())
+        Generator generator = new Generator().setInputPath(mainOptions.getInputPath())
                 .setSpecPaths(mainOptions.getSpecPaths())
                 .setConfigurationPath(mainOptions.getConfiguration())
-                .run();
+                .setCollectorPort(mainOptions.getCollectorPort())
+                .setFollow(mainOptions.isFollow())
+                .setProjectionPath(mainOptions.getProjectionPath())
+                .setBaselinePath(mainOptions.getBaselinePath())
+                .setInputs(mainOptions.getInputs());
+
+        if (mainOptions.getProjectionPath() != null) {
+            generator.writeProjection();
+            return ExitCode.NO_ERROR;
+        }
+
+        if (mainOptions.getInputPath() == null && mainOptions.getInputs().isEmpty()) {
+            LOGGER.info("Could not parse arguments: The following option is required: [-i | --input]");
+            printUsage(commander);
+            return ExitCode.ARGUMENT_PARSING_ERROR;
+        }
+
+        Results results = generator.run();
+        if (!results.getLatencyRegressions().isEmpty()) {
+            results.getLatencyRegressions().forEach(regression -> LOGGER.warn("Regression: {}", regression));
+            return ExitCode.LATENCY_REGRESSION;
+        }
 
         return ExitCode.NO_ERROR;
     }
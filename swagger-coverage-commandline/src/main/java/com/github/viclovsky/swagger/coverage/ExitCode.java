@@ -4,6 +4,7 @@ public enum ExitCode {
 
     NO_ERROR(0),
     GENERIC_ERROR(1),
+    LATENCY_REGRESSION(2),
     ARGUMENT_PARSING_ERROR(127);
 
     private final int code;
@@ -1,6 +1,8 @@
 package com.github.viclovsky.swagger.coverage.configuration;
 
 import com.github.viclovsky.swagger.coverage.configuration.options.ConfigurationOptions;
+import com.github.viclovsky.swagger.coverage.configuration.options.PipelineOptions;
+import com.github.viclovsky.swagger.coverage.configuration.options.RegressionOptions;
 import com.github.viclovsky.swagger.coverage.configuration.options.RuleConfigurationOptions;
 import com.github.viclovsky.swagger.coverage.core.results.builder.core.StatisticsBuilder;
 import com.github.viclovsky.swagger.coverage.core.rule.core.ConditionRule;
@@ -28,7 +30,7 @@ public class Configuration {
     public List<ConditionRule> getRulesList() {
         if (configuredRules == null) {
             configuredRules = defaultRules.stream()
-                    .filter(rule -> enableByRuleOptions(rule.getId()))
+                    .filter(this::enableByRuleOptions)
                     .map(rule -> rule.configure(options.getRules().getOrDefault(rule.getId(),
                             new RuleConfigurationOptions())))
                     .collect(Collectors.toList());
@@ -49,13 +51,13 @@ public class Configuration {
         return configuredBuilders;
     }
 
-    protected boolean enableByRuleOptions(String id) {
-        RuleConfigurationOptions option = options.getRules().get(id);
+    protected boolean enableByRuleOptions(ConditionRule rule) {
+        RuleConfigurationOptions option = options.getRules().get(rule.getId());
         if (option != null) {
             return option.isEnable();
         }
 
-        return true;
+        return rule.isEnabledByDefault();
     }
 
     public Configuration setOptions(ConfigurationOptions options) {
@@ -98,4 +100,12 @@ public class Configuration {
     public List<String> getExcludedOperations() {
         return options.getExcludedOperations();
     }
+
+    public RegressionOptions getRegressionOptions() {
+        return options.getRegression();
+    }
+
+    public PipelineOptions getPipelineOptions() {
+        return options.getPipeline();
+    }
 }
@@ -6,6 +6,8 @@ import com.github.viclovsky.swagger.coverage.core.results.builder.core.Statistic
 import com.github.viclovsky.swagger.coverage.core.results.builder.postbuilder.ConditionStatisticsBuilder;
 import com.github.viclovsky.swagger.coverage.core.results.builder.postbuilder.ConfigurationStatisticsBuilder;
 import com.github.viclovsky.swagger.coverage.core.results.builder.postbuilder.FlatOperationBuilder;
+import com.github.viclovsky.swagger.coverage.core.results.builder.postbuilder.HeatmapStatisticsBuilder;
+import com.github.viclovsky.swagger.coverage.core.results.builder.postbuilder.LatencyRegressionBuilder;
 import com.github.viclovsky.swagger.coverage.core.results.builder.postbuilder.SwaggerInfoBuilder;
 import com.github.viclovsky.swagger.coverage.core.results.builder.postbuilder.TagStatisticsBuilder;
 import com.github.viclovsky.swagger.coverage.core.results.builder.postbuilder.ZeroCallStatisticsBuilder;
@@ -16,13 +18,17 @@ import com.github.viclovsky.swagger.coverage.core.rule.body.PropertyNotEmptyRule
 import com.github.viclovsky.swagger.coverage.core.rule.body.PropertyNotOnlyEnumValuesRule;
 import com.github.viclovsky.swagger.coverage.core.rule.core.ConditionRule;
 import com.github.viclovsky.swagger.coverage.core.rule.parameter.EmptyHeaderRule;
+import com.github.viclovsky.swagger.coverage.core.rule.body.BodyVariantRule;
 import com.github.viclovsky.swagger.coverage.core.rule.body.NotEmptyBodyRule;
 import com.github.viclovsky.swagger.coverage.core.rule.parameter.EnumAllValuesRule;
 import com.github.viclovsky.swagger.coverage.core.rule.parameter.NotEmptyParameterRule;
 import com.github.viclovsky.swagger.coverage.core.rule.parameter.NotOnlyEnumValuesRule;
+import com.github.viclovsky.swagger.coverage.core.rule.response.ResponsePropertyRule;
+import com.github.viclovsky.swagger.coverage.core.rule.response.ResponseVariantRule;
 import com.github.viclovsky.swagger.coverage.core.rule.status.HTTPStatusRule;
 import com.github.viclovsky.swagger.coverage.core.rule.status.OnlyDeclaredHTTPStatusesRule;
 import com.github.viclovsky.swagger.coverage.core.writer.CoverageResultsWriter;
+import com.github.viclovsky.swagger.coverage.core.writer.DataReportResultsWriter;
 import com.github.viclovsky.swagger.coverage.core.writer.FileSystemResultsWriter;
 import com.github.viclovsky.swagger.coverage.core.writer.HtmlReportResultsWriter;
 import com.github.viclovsky.swagger.coverage.core.writer.LogResultsWriter;
@@ -73,6 +79,11 @@ public class ConfigurationBuilder {
                                         new HtmlReportResultsWriter(value)
                                 );
                                 break;
+                            case "data":
+                                configuredResultsWriters.add(
+                                        new DataReportResultsWriter(value)
+                                );
+                                break;
                             case "LOGGER":
                                 configuredResultsWriters.add(
                                         new LogResultsWriter()
@@ -103,6 +114,9 @@ public class ConfigurationBuilder {
         registeredRules.add(new PropertyEnumAllValuesRule());
         registeredRules.add(new PropertyNotOnlyEnumValuesRule());
         registeredRules.add(new PropertyNotEmptyRule());
+        registeredRules.add(new ResponsePropertyRule());
+        registeredRules.add(new ResponseVariantRule());
+        registeredRules.add(new BodyVariantRule());
 
         return registeredRules;
     }
@@ -114,6 +128,8 @@ public class ConfigurationBuilder {
         registeredBuilders.add(new GenerationStatisticsBuilder());
         registeredBuilders.add(new ConditionStatisticsBuilder());
         registeredBuilders.add(new ZeroCallStatisticsBuilder());
+        registeredBuilders.add(new HeatmapStatisticsBuilder());
+        registeredBuilders.add(new LatencyRegressionBuilder());
         registeredBuilders.add(new TagStatisticsBuilder());
         registeredBuilders.add(new ConfigurationStatisticsBuilder());
         registeredBuilders.add(new FlatOperationBuilder());
@@ -12,6 +12,8 @@ public class ConfigurationOptions {
     private Map<String, RuleConfigurationOptions> rules = new HashMap<>();
     private Map<String, ResultsWriterOptions> writers = new HashMap<>();
     private List<String> excludedOperations = new ArrayList<>();
+    private RegressionOptions regression = new RegressionOptions();
+    private PipelineOptions pipeline = new PipelineOptions();
 
     public Map<String, RuleConfigurationOptions> getRules() {
         return rules;
@@ -40,12 +42,32 @@ public class ConfigurationOptions {
         return this;
     }
 
+    public RegressionOptions getRegression() {
+        return regression;
+    }
+
+    public ConfigurationOptions setRegression(RegressionOptions regression) {
+        this.regression = regression;
+        return this;
+    }
+
+    public PipelineOptions getPipeline() {
+        return pipeline;
+    }
+
+    public ConfigurationOptions setPipeline(PipelineOptions pipeline) {
+        this.pipeline = pipeline;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "ConfigurationOptions{" +
                 "rules=" + rules.toString() +
                 ", writers=" + writers.toString() +
                 ", excludedOperations=" + excludedOperations.toString() +
+                ", regression=" + regression +
+                ", pipeline=" + pipeline +
                 '}';
     }
 }
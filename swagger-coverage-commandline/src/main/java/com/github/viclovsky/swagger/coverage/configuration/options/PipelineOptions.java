@@ -0,0 +1,69 @@
+package com.github.viclovsky.swagger.coverage.configuration.options;
+
+/**
+ * Workers and queues of the ingestion pipeline, defaults depend on number of processors.
+ */
+public class PipelineOptions {
+
+    private int decodeParallelism = Runtime.getRuntime().availableProcessors();
+    private int routeParallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private int evaluateParallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private int queueCapacity = 16;
+    private int batchSize = 256;
+
+    public int getDecodeParallelism() {
+        return decodeParallelism;
+    }
+
+    public PipelineOptions setDecodeParallelism(int decodeParallelism) {
+        this.decodeParallelism = decodeParallelism;
+        return this;
+    }
+
+    public int getRouteParallelism() {
+        return routeParallelism;
+    }
+
+    public PipelineOptions setRouteParallelism(int routeParallelism) {
+        this.routeParallelism = routeParallelism;
+        return this;
+    }
+
+    public int getEvaluateParallelism() {
+        return evaluateParallelism;
+    }
+
+    public PipelineOptions setEvaluateParallelism(int evaluateParallelism) {
+        this.evaluateParallelism = evaluateParallelism;
+        return this;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public PipelineOptions setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public PipelineOptions setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "PipelineOptions{" +
+                "decodeParallelism=" + decodeParallelism +
+                ", routeParallelism=" + routeParallelism +
+                ", evaluateParallelism=" + evaluateParallelism +
+                ", queueCapacity=" + queueCapacity +
+                ", batchSize=" + batchSize +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.viclovsky.swagger.coverage.configuration.options;
+
+/**
+ * Comparison of response times with a baseline results file, disabled without baseline.
+ */
+public class RegressionOptions {
+
+    private String baseline;
+    private double p95Increase = 0.2;
+    private double errorShareIncrease = 0.05;
+    private long minCalls = 20;
+    private double significance = 0.05;
+
+    public String getBaseline() {
+        return baseline;
+    }
+
+    public RegressionOptions setBaseline(String baseline) {
+        this.baseline = baseline;
+        return this;
+    }
+
+    public double getP95Increase() {
+        return p95Increase;
+    }
+
+    public RegressionOptions setP95Increase(double p95Increase) {
+        this.p95Increase = p95Increase;
+        return this;
+    }
+
+    public double getErrorShareIncrease() {
+        return errorShareIncrease;
+    }
+
+    public RegressionOptions setErrorShareIncrease(double errorShareIncrease) {
+        this.errorShareIncrease = errorShareIncrease;
+        return this;
+    }
+
+    public long getMinCalls() {
+        return minCalls;
+    }
+
+    public RegressionOptions setMinCalls(long minCalls) {
+        this.minCalls = minCalls;
+        return this;
+    }
+
+    public double getSignificance() {
+        return significance;
+    }
+
+    public RegressionOptions setSignificance(double significance) {
+        this.significance = significance;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "RegressionOptions{" +
+                "baseline='" + baseline + '\'' +
+                ", p95Increase=" + p95Increase +
+                ", errorShareIncrease=" + errorShareIncrease +
+                ", minCalls=" + minCalls +
+                ", significance=" + significance +
+                '}';
+    }
+}
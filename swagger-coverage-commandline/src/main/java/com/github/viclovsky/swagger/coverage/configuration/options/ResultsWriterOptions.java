@@ -5,6 +5,7 @@ public class ResultsWriterOptions {
     private String locale = "en";
     private String customTemplatePath;
     private String numberFormat = "0.###";
+    private boolean split;
 
     public String getFilename() {
         return filename;
@@ -31,6 +32,7 @@ public class ResultsWriterOptions {
                 ", locale='" + locale + '\'' +
                 ", customTemplatePath='" + customTemplatePath + '\'' +
                 ", numberFormat='" + numberFormat + '\'' +
+                ", split=" + split +
                 '}';
     }
 
@@ -49,4 +51,16 @@ public class ResultsWriterOptions {
         this.numberFormat = numberFormat;
         return this;
     }
+
+    public boolean isSplit() {
+        return split;
+    }
+
+    /**
+     * Html report as a small index page and fragments which the page loads when they are shown.
+     */
+    public ResultsWriterOptions setSplit(boolean split) {
+        this.split = split;
+        return this;
+    }
 }
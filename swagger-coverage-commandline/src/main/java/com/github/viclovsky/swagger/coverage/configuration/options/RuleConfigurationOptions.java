@@ -6,6 +6,7 @@ public class RuleConfigurationOptions {
     private boolean enable = true;
     private List<String> filter;
     private List<String> ignore;
+    private boolean nested = false;
 
     public boolean isEnable() {
         return enable;
@@ -34,11 +35,24 @@ public class RuleConfigurationOptions {
         return this;
     }
 
+    /**
+     * Property rules: create conditions for nested properties and for bodies given by {@code $ref}.
+     */
+    public boolean isNested() {
+        return nested;
+    }
+
+    public RuleConfigurationOptions setNested(boolean nested) {
+        this.nested = nested;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "RuleConfigurationOptions{" +
                 "enable=" + enable +
                 ", filter=" + filter +
+                ", nested=" + nested +
                 '}';
     }
 }
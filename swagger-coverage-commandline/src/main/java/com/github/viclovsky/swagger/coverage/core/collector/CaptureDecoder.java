@@ -0,0 +1,41 @@
+package com.github.viclovsky.swagger.coverage.core.collector;
+
+import com.github.viclovsky.swagger.coverage.CaptureRecordCodec;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Turns records written by {@link CaptureRecordCodec} back into OpenAPI model.
+ * Swagger v2 records are converted the same way as v2 output files.
+ */
+public class CaptureDecoder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaptureDecoder.class);
+
+    private final OpenAPIParser parser = new OpenAPIParser();
+
+    public OpenAPI decode(byte[] record) {
+        byte format = CaptureRecordCodec.getFormat(record);
+        if (format != CaptureRecordCodec.SWAGGER && format != CaptureRecordCodec.OPENAPI) {
+            LOGGER.warn("Unknown capture record format [{}], skip it", (char) format);
+            return null;
+        }
+
+        return decode(CaptureRecordCodec.getContent(record));
+    }
+
+    /**
+     * Decodes content of an output file, Swagger v2 or OpenAPI.
+     */
+    public OpenAPI decode(String content) {
+        SwaggerParseResult parsed = parser.readContents(content, null, null);
+        if (parsed == null) {
+            return null;
+        }
+        parsed.getMessages().forEach(LOGGER::debug);
+        return parsed.getOpenAPI();
+    }
+}
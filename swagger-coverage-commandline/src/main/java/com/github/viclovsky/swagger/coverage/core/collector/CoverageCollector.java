@@ -0,0 +1,158 @@
+package com.github.viclovsky.swagger.coverage.core.collector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.viclovsky.swagger.coverage.CaptureRecordCodec;
+import com.github.viclovsky.swagger.coverage.NetworkOutputWriter;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.model.SwaggerCoverage2ModelJackson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loopback HTTP service which collects calls from several test processes into one {@link CoverageSession}.
+ * <ul>
+ * <li>{@code POST /captures} - batch of frames written by {@link NetworkOutputWriter}</li>
+ * <li>{@code GET /results} - current results as json</li>
+ * <li>{@code POST /finish} - signals that tests are over</li>
+ * </ul>
+ */
+public class CoverageCollector implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoverageCollector.class);
+
+    public static final String CAPTURES_PATH = NetworkOutputWriter.CAPTURES_PATH;
+    public static final String RESULTS_PATH = "/results";
+    public static final String FINISH_PATH = "/finish";
+
+    private final CoverageSession session;
+    private final CaptureDecoder decoder = new CaptureDecoder();
+    private final ObjectMapper mapper = SwaggerCoverage2ModelJackson.createJsonMapper();
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final AtomicLong received = new AtomicLong();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public CoverageCollector(CoverageSession session, int port) throws IOException {
+        this.session = session;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+        server.createContext(CAPTURES_PATH, this::handleCaptures);
+        server.createContext(RESULTS_PATH, this::handleResults);
+        server.createContext(FINISH_PATH, this::handleFinish);
+        server.setExecutor(executor);
+    }
+
+    public CoverageCollector start() {
+        server.start();
+        LOGGER.info("Coverage collector is listening on {}", server.getAddress());
+        return this;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public long getReceived() {
+        return received.get();
+    }
+
+    public void awaitFinish() throws InterruptedException {
+        finished.await();
+    }
+
+    public boolean isFinished() {
+        return finished.getCount() == 0;
+    }
+
+    private void handleCaptures(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, new byte[0]);
+            return;
+        }
+
+        //Batch is added only when all its frames are decoded, the writer spools a rejected batch as a whole
+        List<OpenAPI> captures = new ArrayList<>();
+        long remaining = contentLength(exchange);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(exchange.getRequestBody()))) {
+            byte[] record;
+            while ((record = CaptureRecordCodec.readFrame(in, remaining - Integer.BYTES)) != null) {
+                remaining -= Integer.BYTES + record.length;
+                OpenAPI operations = decoder.decode(record);
+                if (operations != null) {
+                    captures.add(operations);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Could not process captured calls", e);
+            respond(exchange, 400, new byte[0]);
+            return;
+        }
+        session.addAll(captures);
+
+        long count = captures.size();
+        LOGGER.debug("Received {} calls", count);
+        received.addAndGet(count);
+        respond(exchange, 204, new byte[0]);
+    }
+
+    private static long contentLength(HttpExchange exchange) {
+        String length = exchange.getRequestHeaders().getFirst("Content-Length");
+        try {
+            return length == null ? Long.MAX_VALUE : Long.parseLong(length.trim());
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private void handleResults(HttpExchange exchange) throws IOException {
+        byte[] body = session.snapshot(results -> {
+            try {
+                return mapper.writeValueAsBytes(results);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not write results", e);
+            }
+        });
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        respond(exchange, 200, body);
+    }
+
+    private void handleFinish(HttpExchange exchange) throws IOException {
+        respond(exchange, 204, new byte[0]);
+        finished.countDown();
+    }
+
+    private static void respond(HttpExchange exchange, int code, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(code, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        }
+        exchange.close();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,220 @@
+package com.github.viclovsky.swagger.coverage.core.collector;
+
+import com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter;
+import com.github.viclovsky.swagger.coverage.MemoryFences;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.CAPACITY_OFFSET;
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.CLOSED_OFFSET;
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.FILE_SUFFIX;
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.HEADER_SIZE;
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.MAGIC;
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.MAGIC_OFFSET;
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.READ_CURSOR_OFFSET;
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.RECORD_CLAIMED_OFFSET;
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.RECORD_HEADER_SIZE;
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.VERSION;
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.VERSION_OFFSET;
+import static com.github.viclovsky.swagger.coverage.MappedRingBufferOutputWriter.WRITE_CURSOR_OFFSET;
+
+/**
+ * Drains ring buffer files written by {@link MappedRingBufferOutputWriter} into {@link CoverageSession}.
+ * {@link #poll()} can be called periodically while tests are running, drained files of closed writers are removed.
+ * A claimed slot which is not published for {@code claimTimeout}, e.g. because its writer died, is skipped.
+ */
+public class MappedRingBufferReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedRingBufferReader.class);
+
+    private final Path directory;
+    private final CoverageSession session;
+    private final CaptureDecoder decoder = new CaptureDecoder();
+    private final Map<Path, Ring> rings = new HashMap<>();
+
+    private long claimTimeout = TimeUnit.SECONDS.toNanos(10);
+
+    public MappedRingBufferReader(Path directory, CoverageSession session) {
+        this.directory = directory;
+        this.session = session;
+    }
+
+    public MappedRingBufferReader setClaimTimeout(long timeout, TimeUnit unit) {
+        this.claimTimeout = unit.toNanos(timeout);
+        return this;
+    }
+
+    public static boolean isRingBuffer(Path path) {
+        return path.getFileName().toString().endsWith(FILE_SUFFIX);
+    }
+
+    /**
+     * @return count of calls passed to session
+     */
+    public synchronized long poll() {
+        discover();
+
+        long count = 0;
+        Iterator<Map.Entry<Path, Ring>> iterator = rings.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, Ring> entry = iterator.next();
+            Ring ring = entry.getValue();
+            boolean closed = ring.isClosed();
+            count += ring.drain();
+            if (closed && ring.isDrained()) {
+                iterator.remove();
+                delete(entry.getKey());
+            }
+        }
+        return count;
+    }
+
+    private void discover() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.filter(MappedRingBufferReader::isRingBuffer)
+                    .filter(path -> !rings.containsKey(path))
+                    .forEach(path -> {
+                        Ring ring = open(path);
+                        if (ring != null) {
+                            rings.put(path, ring);
+                        }
+                    });
+        } catch (IOException e) {
+            LOGGER.error("can't list ring buffers in {}", directory, e);
+        }
+    }
+
+    private Ring open(Path path) {
+        try (RandomAccessFile raf = new RandomAccessFile(path.toFile(), "rw")) {
+            if (raf.length() < HEADER_SIZE) {
+                return null;
+            }
+            MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, raf.length());
+            if (buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+                return null;
+            }
+            MemoryFences.loadFence();
+            if (buffer.getInt(VERSION_OFFSET) != VERSION) {
+                LOGGER.warn("Skip ring buffer {} of version {}", path, buffer.getInt(VERSION_OFFSET));
+                return null;
+            }
+            LOGGER.info("Read ring buffer {}", path);
+            return new Ring(buffer);
+        } catch (IOException e) {
+            LOGGER.error("can't open ring buffer {}", path, e);
+            return null;
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.warn("can't delete ring buffer {}", path);
+        }
+    }
+
+    private class Ring {
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private long readCursor;
+        private long stalledCursor = -1;
+        private long stalledSince;
+
+        Ring(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+            this.capacity = (int) buffer.getLong(CAPACITY_OFFSET);
+            this.readCursor = buffer.getLong(READ_CURSOR_OFFSET);
+        }
+
+        boolean isClosed() {
+            boolean closed = buffer.getInt(CLOSED_OFFSET) != 0;
+            MemoryFences.loadFence();
+            return closed;
+        }
+
+        /**
+         * Exact for closed rings only, writer publishes the final cursor on close.
+         */
+        boolean isDrained() {
+            return readCursor >= buffer.getLong(WRITE_CURSOR_OFFSET);
+        }
+
+        long drain() {
+            long count = 0;
+            while (true) {
+                int position = HEADER_SIZE + (int) (readCursor & (capacity - 1));
+                int length = buffer.getInt(position);
+                MemoryFences.loadFence();
+                if (length == 0) {
+                    int claimed = buffer.getInt(position + RECORD_CLAIMED_OFFSET);
+                    if (claimed <= 0 || !isAbandoned()) {
+                        return count;
+                    }
+                    LOGGER.warn("Skip call of ring buffer which was claimed but not written for {} ms",
+                            TimeUnit.NANOSECONDS.toMillis(claimTimeout));
+                    release(position, claimed);
+                    continue;
+                }
+
+                if (length < 0) {
+                    release(position, -length);
+                    continue;
+                }
+
+                byte[] record = new byte[length];
+                ByteBuffer content = buffer.duplicate();
+                content.position(position + RECORD_HEADER_SIZE);
+                content.get(record);
+                release(position, MappedRingBufferOutputWriter.align(RECORD_HEADER_SIZE + length));
+
+                OpenAPI operations = decoder.decode(record);
+                if (operations != null) {
+                    session.add(operations);
+                    count++;
+                }
+            }
+        }
+
+        /**
+         * @return true if the slot at read cursor is not published for claim timeout since it was first seen
+         */
+        private boolean isAbandoned() {
+            long now = System.nanoTime();
+            if (stalledCursor != readCursor) {
+                stalledCursor = readCursor;
+                stalledSince = now;
+                return false;
+            }
+            return now - stalledSince > claimTimeout;
+        }
+
+        private void release(int position, int size) {
+            for (int i = 0; i < size; i += 8) {
+                buffer.putLong(position + i, 0L);
+            }
+            readCursor += size;
+            // writer must not see the space freed before it is zeroed
+            MemoryFences.storeFence();
+            buffer.putLong(READ_CURSOR_OFFSET, readCursor);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.github.viclovsky.swagger.coverage.core.collector;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.COMPLETION_MARKER;
+
+/**
+ * Adds output files and ring buffers to {@link CoverageSession} while tests are still writing them.
+ * <p>
+ * New files are found with {@link WatchService} in output directory and its subdirectories, or by scanning
+ * the directory if watching is not available.
+ * File is added when its size did not change between two polls, so half written files are not parsed.
+ * Tests signal completion by creating {@code swagger-coverage.done} in output directory. Markers older than
+ * the follower are ignored, and the marker is deleted once following is completed.
+ */
+public class OutputFollower implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutputFollower.class);
+
+    private static final long DEFAULT_POLL_INTERVAL = 200;
+
+    private final Path directory;
+    private final CoverageSession session;
+    private final MappedRingBufferReader ringBufferReader;
+
+    private final Set<Path> processed = new HashSet<>();
+    private final Map<Path, Long> pending = new HashMap<>();
+    private final Map<WatchKey, Path> watched = new HashMap<>();
+    //Whole seconds, file systems may keep modification time with second precision
+    private final long started = System.currentTimeMillis() / 1000 * 1000;
+
+    private long pollInterval = DEFAULT_POLL_INTERVAL;
+    private WatchService watchService;
+
+    public OutputFollower(Path directory, CoverageSession session) {
+        this.directory = directory;
+        this.session = session;
+        this.ringBufferReader = new MappedRingBufferReader(directory, session);
+    }
+
+    public OutputFollower setPollInterval(long pollInterval) {
+        this.pollInterval = pollInterval;
+        return this;
+    }
+
+    public boolean isCompleted() {
+        try {
+            return Files.getLastModifiedTime(directory.resolve(COMPLETION_MARKER)).toMillis() >= started;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Adds new calls until {@code completed} returns true.
+     */
+    public void follow(BooleanSupplier completed) {
+        watch();
+        scan();
+        while (!completed.getAsBoolean()) {
+            try {
+                await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            poll();
+        }
+        try {
+            Files.deleteIfExists(directory.resolve(COMPLETION_MARKER));
+        } catch (IOException e) {
+            LOGGER.warn("can't delete {}", directory.resolve(COMPLETION_MARKER), e);
+        }
+    }
+
+    private void watch() {
+        try {
+            Files.createDirectories(directory);
+            watchService = FileSystems.getDefault().newWatchService();
+            register(directory);
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.info("can't watch directory {}, use polling", directory);
+            watchService = null;
+        }
+    }
+
+    /**
+     * Watches directory and all its subdirectories, the service reports changes of direct children only.
+     */
+    private void register(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isDirectory)::iterator) {
+                WatchKey key = path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                watched.put(key, path);
+            }
+        }
+    }
+
+    private void await() throws InterruptedException {
+        if (watchService == null) {
+            TimeUnit.MILLISECONDS.sleep(pollInterval);
+            scan();
+            return;
+        }
+
+        WatchKey key = watchService.poll(pollInterval, TimeUnit.MILLISECONDS);
+        if (key == null) {
+            return;
+        }
+        Path parent = watched.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || parent == null) {
+                scan();
+                continue;
+            }
+            Path path = parent.resolve((Path) event.context());
+            if (!Files.isDirectory(path)) {
+                candidate(path);
+            } else if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                //Files could be written before the directory was registered
+                watchDirectory(path);
+                scan();
+            }
+        }
+        if (!key.reset()) {
+            watched.remove(key);
+            if (directory.equals(parent)) {
+                LOGGER.warn("Directory {} is not available anymore, use polling", directory);
+                watchService = null;
+            }
+        }
+    }
+
+    private void watchDirectory(Path path) {
+        try {
+            register(path);
+        } catch (IOException e) {
+            LOGGER.info("can't watch directory {}, use polling", path);
+            close();
+            watchService = null;
+        }
+    }
+
+    /**
+     * Adds ring buffer records and files which are not changing anymore.
+     */
+    public synchronized void poll() {
+        ringBufferReader.poll();
+
+        Iterator<Map.Entry<Path, Long>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, Long> entry = iterator.next();
+            long size = size(entry.getKey());
+            if (size > 0 && size == entry.getValue()) {
+                iterator.remove();
+                add(entry.getKey());
+            } else {
+                entry.setValue(size);
+            }
+        }
+    }
+
+    /**
+     * Adds everything left, tests are over at this moment.
+     */
+    public synchronized void finish() {
+        ringBufferReader.poll();
+        scan();
+        pending.keySet().forEach(this::add);
+        pending.clear();
+    }
+
+    private synchronized void scan() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.filter(Files::isRegularFile).forEach(this::candidate);
+        } catch (IOException e) {
+            LOGGER.error("can't read coverage files in {}", directory, e);
+        }
+    }
+
+    private synchronized void candidate(Path path) {
+        if (processed.contains(path) || pending.containsKey(path)
+                || MappedRingBufferReader.isRingBuffer(path)
+                || COMPLETION_MARKER.equals(path.getFileName().toString())) {
+            return;
+        }
+        pending.put(path, -1L);
+    }
+
+    private void add(Path path) {
+        if (processed.add(path) && Files.isRegularFile(path)) {
+            session.addFile(path);
+        }
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.warn("can't close watch service", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.github.viclovsky.swagger.coverage.core.generator;
+
+import com.github.viclovsky.swagger.coverage.configuration.options.PipelineOptions;
+import com.github.viclovsky.swagger.coverage.core.collector.CaptureDecoder;
+import com.github.viclovsky.swagger.coverage.core.results.builder.prebuilder.CoverageStatisticsBuilder;
+import com.github.viclovsky.swagger.coverage.core.results.builder.prebuilder.CoverageStatisticsBuilder.RoutedCall;
+import com.github.viclovsky.swagger.coverage.core.source.CaptureSink;
+import com.github.viclovsky.swagger.coverage.core.source.EncodedCapture;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Staged ingestion of captures into {@link CoverageSession}: decode, route and evaluate run on their own workers
+ * and are connected by bounded queues of batches.
+ * <p>
+ * Capture sources are the read stage. They block while the queue of the next stage is full, so every stage is slowed
+ * down to the speed of the slowest one and memory does not depend on number of captures. Undecoded output files go
+ * to the decode stage, captures which sources already decoded go straight to routing. Routing uses the immutable
+ * {@link OperationRouter} and runs in parallel. Evaluation is sharded by operation of the specification and a shard
+ * has one worker, so coverage of an operation is updated without locks.
+ * <p>
+ * Results of the session must not be built before the pipeline is closed. Metrics of the stages are logged on close,
+ * see {@link PipelineStage}.
+ */
+public class CapturePipeline implements CaptureSink, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CapturePipeline.class);
+
+    private static final List<?> END = Collections.unmodifiableList(new ArrayList<>());
+
+    private final CoverageSession session;
+    private final CoverageStatisticsBuilder coverage;
+    private final int batchSize;
+
+    private final BlockingQueue<List<EncodedCapture>> decodeQueue;
+    private final BlockingQueue<List<Capture>> routeQueue;
+    private final List<BlockingQueue<List<RoutedCall>>> evaluateQueues = new ArrayList<>();
+
+    private final PipelineStage decode;
+    private final PipelineStage route;
+    private final PipelineStage evaluate;
+
+    private final ExecutorService decoders;
+    private final ExecutorService routers;
+    private final ExecutorService evaluators;
+    private final List<Future<?>> decoding = new ArrayList<>();
+    private final List<Future<?>> routing = new ArrayList<>();
+    private final List<Future<?>> evaluating = new ArrayList<>();
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final long start = System.nanoTime();
+    private boolean closed;
+
+    CapturePipeline(CoverageSession session, CoverageStatisticsBuilder coverage, PipelineOptions options) {
+        this.session = session;
+        this.coverage = coverage;
+        this.batchSize = Math.max(1, options.getBatchSize());
+
+        int capacity = Math.max(1, options.getQueueCapacity());
+        int decodeWorkers = Math.max(1, options.getDecodeParallelism());
+        int routeWorkers = Math.max(1, options.getRouteParallelism());
+        int shards = Math.max(1, options.getEvaluateParallelism());
+
+        decodeQueue = new ArrayBlockingQueue<>(capacity);
+        routeQueue = new ArrayBlockingQueue<>(capacity);
+        for (int i = 0; i < shards; i++) {
+            evaluateQueues.add(new ArrayBlockingQueue<>(capacity));
+        }
+        decode = new PipelineStage("decode", decodeWorkers, Collections.singletonList(decodeQueue));
+        route = new PipelineStage("route", routeWorkers, Collections.singletonList(routeQueue));
+        evaluate = new PipelineStage("evaluate", shards, evaluateQueues);
+
+        decoders = Executors.newFixedThreadPool(decodeWorkers, threads("pipeline-decode"));
+        routers = Executors.newFixedThreadPool(routeWorkers, threads("pipeline-route"));
+        evaluators = Executors.newFixedThreadPool(shards, threads("pipeline-evaluate"));
+
+        for (int i = 0; i < decodeWorkers; i++) {
+            CaptureDecoder decoder = new CaptureDecoder();
+            decoding.add(decoders.submit(() -> work(decodeQueue, decode, batch -> decode(decoder, batch))));
+        }
+        for (int i = 0; i < routeWorkers; i++) {
+            routing.add(routers.submit(() -> work(routeQueue, route, this::route)));
+        }
+        for (BlockingQueue<List<RoutedCall>> queue : evaluateQueues) {
+            evaluating.add(evaluators.submit(() -> work(queue, evaluate, this::evaluate)));
+        }
+    }
+
+    @Override
+    public CapturePipeline addAll(Collection<OpenAPI> captures) {
+        List<Capture> batch = new ArrayList<>(Math.min(batchSize, captures.size()));
+        for (OpenAPI capture : captures) {
+            batch.add(new Capture(null, capture));
+            if (batch.size() >= batchSize) {
+                put(routeQueue, route, batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        put(routeQueue, route, batch);
+        return this;
+    }
+
+    @Override
+    public CapturePipeline addFile(Path file, OpenAPI capture) {
+        put(routeQueue, route, Collections.singletonList(new Capture(file, capture)));
+        return this;
+    }
+
+    @Override
+    public CapturePipeline addEncoded(List<EncodedCapture> captures) {
+        for (int from = 0; from < captures.size(); from += batchSize) {
+            put(decodeQueue, decode, new ArrayList<>(captures.subList(from,
+                    Math.min(captures.size(), from + batchSize))));
+        }
+        return this;
+    }
+
+    private <T> void put(BlockingQueue<List<T>> queue, PipelineStage stage, List<T> batch) {
+        if (failure.get() != null) {
+            throw new IllegalStateException("Could not process captures", failure.get());
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            stage.put(queue, batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Processing of captures is interrupted", e);
+        }
+    }
+
+    private void decode(CaptureDecoder decoder, List<EncodedCapture> batch) {
+        List<Capture> decoded = new ArrayList<>(batch.size());
+        for (EncodedCapture encoded : batch) {
+            OpenAPI capture = decoder.decode(encoded.getContent());
+            if (capture != null) {
+                decoded.add(new Capture(encoded.getFile(), capture));
+            }
+        }
+        put(routeQueue, route, decoded);
+    }
+
+    private void route(List<Capture> batch) {
+        List<List<RoutedCall>> shards = new ArrayList<>(evaluateQueues.size());
+        for (int i = 0; i < evaluateQueues.size(); i++) {
+            shards.add(new ArrayList<>());
+        }
+        List<Path> files = new ArrayList<>(batch.size());
+        List<OpenAPI> captures = new ArrayList<>(batch.size());
+        for (Capture capture : batch) {
+            files.add(capture.file);
+            captures.add(capture.openAPI);
+        }
+        // one lock of the session per batch, routing itself does not lock
+        session.addStatistics(files, captures);
+
+        for (Capture capture : batch) {
+            if (coverage == null) {
+                continue;
+            }
+            for (RoutedCall call : coverage.route(capture.openAPI)) {
+                // router returns the keys of the specification, so identity is the same for all calls of an operation
+                int shard = Math.floorMod(System.identityHashCode(call.getOperationKey()), shards.size());
+                shards.get(shard).add(call);
+            }
+        }
+        for (int i = 0; i < shards.size(); i++) {
+            put(evaluateQueues.get(i), evaluate, shards.get(i));
+        }
+    }
+
+    private void evaluate(List<RoutedCall> batch) {
+        batch.forEach(coverage::evaluate);
+    }
+
+    /**
+     * Takes batches until the end marker. After a failure batches are still taken but dropped, so producers do not
+     * block on a full queue.
+     */
+    private <T> Void work(BlockingQueue<List<T>> queue, PipelineStage stage, BatchHandler<T> handler)
+            throws InterruptedException {
+        while (true) {
+            List<T> batch = queue.take();
+            if (batch == END) {
+                return null;
+            }
+            if (failure.get() != null) {
+                continue;
+            }
+            long started = System.nanoTime();
+            try {
+                handler.handle(batch);
+            } catch (Throwable e) {
+                // errors are recorded too, a dead worker would leave its queue full and close() waiting
+                failure.compareAndSet(null, e);
+            }
+            stage.processed(batch.size(), System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Waits until all stages are drained, stops the workers and logs metrics of the stages.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            drain(Collections.singletonList(decodeQueue), decoding);
+            drain(Collections.singletonList(routeQueue), routing);
+            drain(evaluateQueues, evaluating);
+        } finally {
+            decoders.shutdownNow();
+            routers.shutdownNow();
+            evaluators.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        getStages().forEach(stage -> {
+            stage.finish(elapsed);
+            LOGGER.info("Pipeline stage {}", stage);
+        });
+        if (failure.get() != null) {
+            throw new IllegalStateException("Could not process captures", failure.get());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain(List<? extends BlockingQueue<?>> queues, List<Future<?>> workers) {
+        try {
+            if (queues.size() == workers.size()) {
+                for (BlockingQueue<?> queue : queues) {
+                    ((BlockingQueue<Object>) queue).put(END);
+                }
+            } else {
+                for (int i = 0; i < workers.size(); i++) {
+                    ((BlockingQueue<Object>) queues.get(0)).put(END);
+                }
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Processing of captures is interrupted", e);
+        } catch (ExecutionException e) {
+            failure.compareAndSet(null, e.getCause());
+        }
+    }
+
+    public List<PipelineStage> getStages() {
+        return Arrays.asList(decode, route, evaluate);
+    }
+
+    private static ThreadFactory threads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private interface BatchHandler<T> {
+        void handle(List<T> batch);
+    }
+
+    /**
+     * Decoded capture with its output file, file is {@code null} for captures of other sources.
+     */
+    private static class Capture {
+
+        private final Path file;
+        private final OpenAPI openAPI;
+
+        private Capture(Path file, OpenAPI openAPI) {
+            this.file = file;
+            this.openAPI = openAPI;
+        }
+    }
+}
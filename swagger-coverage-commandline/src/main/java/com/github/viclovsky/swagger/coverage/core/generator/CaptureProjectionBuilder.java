@@ -0,0 +1,43 @@
+package com.github.viclovsky.swagger.coverage.core.generator;
+
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.model.ConditionOperationCoverage;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.rule.core.ConditionRule;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds {@link CaptureProjection} from conditions which the enabled rules create for the specification.
+ * Only names are kept for presence rules, values are kept for enum and value rules.
+ */
+public final class CaptureProjectionBuilder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaptureProjectionBuilder.class);
+
+    private CaptureProjectionBuilder() {
+        throw new IllegalStateException("Do not instance");
+    }
+
+    public static CaptureProjection build(OpenAPI specification, List<ConditionRule> rules) {
+        Map<OperationKey, ConditionOperationCoverage> operations =
+                OperationConditionGenerator.getOperationMap(specification, rules);
+
+        CaptureProjection projection = new CaptureProjection();
+        for (Map.Entry<OperationKey, ConditionOperationCoverage> operation : operations.entrySet()) {
+            for (Condition condition : operation.getValue().getConditions()) {
+                if (!condition.project(projection)) {
+                    LOGGER.warn("Condition «{}» of {} does not tell what it reads, calls are captured completely",
+                            condition.getName(), operation.getKey());
+                    return CaptureProjection.all();
+                }
+            }
+        }
+        return projection;
+    }
+}
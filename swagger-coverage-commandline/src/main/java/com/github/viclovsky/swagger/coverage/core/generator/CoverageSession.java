@@ -0,0 +1,161 @@
+package com.github.viclovsky.swagger.coverage.core.generator;
+
+import com.github.viclovsky.swagger.coverage.CoverageOutputWriter;
+import com.github.viclovsky.swagger.coverage.configuration.Configuration;
+import com.github.viclovsky.swagger.coverage.configuration.ConfigurationBuilder;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.results.builder.core.StatisticsBuilder;
+import com.github.viclovsky.swagger.coverage.core.results.builder.prebuilder.CoverageStatisticsBuilder;
+import com.github.viclovsky.swagger.coverage.core.source.CaptureSink;
+import io.swagger.models.Swagger;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.parser.util.SwaggerDeserializationResult;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.converter.SwaggerConverter;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Embeddable coverage engine for test suites where capture and report happen in the same JVM.
+ * <p>
+ * The specification is loaded once and captured calls are handed over by the filters through the
+ * {@link CoverageOutputWriter} interface, so nothing is written to disk or parsed again.
+ * {@link #addFile(Path)} keeps file based output usable, e.g. for results of other processes.
+ */
+public class CoverageSession implements CoverageOutputWriter, CaptureSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoverageSession.class);
+
+    private final Configuration configuration;
+    private final List<StatisticsBuilder> statisticsBuilders;
+
+    private final OpenAPIParser parser = new OpenAPIParser();
+    private final SwaggerConverter converter = new SwaggerConverter();
+
+    public CoverageSession(OpenAPI specification, Configuration configuration) {
+        this.configuration = configuration;
+        this.statisticsBuilders = configuration.getStatisticsBuilders(specification);
+    }
+
+    public static CoverageSession open(List<URI> specPaths, Path configurationPath) {
+        return new CoverageSession(SpecificationLoader.load(specPaths, null),
+                ConfigurationBuilder.build(configurationPath));
+    }
+
+    @Override
+    public void write(Swagger swagger) {
+        SwaggerDeserializationResult deserialized = new SwaggerDeserializationResult();
+        deserialized.setSwagger(swagger);
+        SwaggerParseResult converted = converter.convert(deserialized);
+        if (converted == null || converted.getOpenAPI() == null) {
+            LOGGER.warn("Could not convert captured swagger call, skip it");
+            return;
+        }
+        add(converted.getOpenAPI());
+    }
+
+    @Override
+    public void write(OpenAPI openAPI) {
+        add(openAPI);
+    }
+
+    public synchronized CoverageSession add(OpenAPI capture) {
+        statisticsBuilders.stream().filter(StatisticsBuilder::isPreBuilder).forEach(builder ->
+                builder.add(capture));
+        return this;
+    }
+
+    /**
+     * Adds calls under one lock, for readers which parse in parallel.
+     */
+    @Override
+    public synchronized CoverageSession addAll(Collection<OpenAPI> captures) {
+        captures.forEach(this::add);
+        return this;
+    }
+
+    public CoverageSession addFile(Path path) {
+        SwaggerParseResult parsed = parser.readLocation(path.toUri().toString(), null, null);
+        parsed.getMessages().forEach(LOGGER::info);
+        return addFile(path, parsed.getOpenAPI());
+    }
+
+    /**
+     * Adds capture which is already decoded from the output file.
+     */
+    @Override
+    public synchronized CoverageSession addFile(Path path, OpenAPI capture) {
+        statisticsBuilders.stream().filter(StatisticsBuilder::isPreBuilder).forEach(builder ->
+                builder.add(path.toString(), capture));
+        return this;
+    }
+
+    /**
+     * Opens a pipeline which decodes, routes and evaluates captures in parallel stages, see {@link CapturePipeline}.
+     * The pipeline must be closed before results are built.
+     */
+    public CapturePipeline pipeline() {
+        CoverageStatisticsBuilder coverage = statisticsBuilders.stream()
+                .filter(builder -> builder instanceof CoverageStatisticsBuilder)
+                .map(CoverageStatisticsBuilder.class::cast)
+                .findFirst().orElse(null);
+        return new CapturePipeline(this, coverage, configuration.getPipelineOptions());
+    }
+
+    /**
+     * Adds a batch of captures to prebuilders other than coverage, which the pipeline evaluates itself.
+     * Files are {@code null} for captures of other sources.
+     */
+    synchronized void addStatistics(List<Path> files, List<OpenAPI> captures) {
+        statisticsBuilders.stream().filter(StatisticsBuilder::isPreBuilder)
+                .filter(builder -> !(builder instanceof CoverageStatisticsBuilder))
+                .forEach(builder -> {
+                    for (int i = 0; i < captures.size(); i++) {
+                        if (files.get(i) != null) {
+                            builder.add(files.get(i).toString(), captures.get(i));
+                        } else {
+                            builder.add(captures.get(i));
+                        }
+                    }
+                });
+    }
+
+    public synchronized Results build() {
+        Results result = new Results();
+
+        statisticsBuilders.stream().filter(StatisticsBuilder::isPreBuilder).forEach(
+                statisticsBuilder -> statisticsBuilder.build(result, configuration));
+
+        statisticsBuilders.stream().filter(StatisticsBuilder::isPostBuilder).forEach(
+                statisticsBuilder -> statisticsBuilder.build(result, configuration));
+
+        return result;
+    }
+
+    /**
+     * Builds results and maps them while no other call can be added, so the view stays consistent.
+     */
+    public synchronized <T> T snapshot(Function<Results, T> view) {
+        return view.apply(build());
+    }
+
+    /**
+     * Builds results and passes them to all configured results writers.
+     */
+    public synchronized Results finish() {
+        Results result = build();
+        configuration.getConfiguredResultsWriters().forEach(writer -> writer.write(result));
+        return result;
+    }
+
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+}
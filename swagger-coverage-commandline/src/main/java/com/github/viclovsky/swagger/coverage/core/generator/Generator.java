@@ -1,22 +1,23 @@
 package com.github.viclovsky.swagger.coverage.core.generator;
 
-import com.github.viclovsky.swagger.coverage.CoverageOutputReader;
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import com.github.viclovsky.swagger.coverage.FileSystemOutputReader;
 import com.github.viclovsky.swagger.coverage.configuration.Configuration;
 import com.github.viclovsky.swagger.coverage.configuration.ConfigurationBuilder;
+import com.github.viclovsky.swagger.coverage.core.collector.CoverageCollector;
+import com.github.viclovsky.swagger.coverage.core.collector.MappedRingBufferReader;
+import com.github.viclovsky.swagger.coverage.core.collector.OutputFollower;
 import com.github.viclovsky.swagger.coverage.core.results.Results;
-import com.github.viclovsky.swagger.coverage.core.results.builder.core.StatisticsBuilder;
-import io.swagger.parser.OpenAPIParser;
+import com.github.viclovsky.swagger.coverage.core.source.CaptureSources;
+import com.github.viclovsky.swagger.coverage.core.source.FileCaptureSource;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.oas.models.PathItem;
-import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
-import io.swagger.v3.parser.core.models.ParseOptions;
-import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,80 +33,92 @@ public class Generator {
 
     private Path configurationPath;
 
-    private final OpenAPIParser parser = new OpenAPIParser();
+    private Integer collectorPort;
 
-    private List<StatisticsBuilder> statisticsBuilders = new ArrayList<>();
+    private boolean follow;
 
-    public void run() {
+    private Path projectionPath;
+
+    private Path baselinePath;
+
+    private List<String> inputs = new ArrayList<>();
+
+    private CoverageSession session;
+
+    public Results run() {
         Configuration configuration = ConfigurationBuilder.build(configurationPath);
-        ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
-        
-        // Parse and merge multiple specs
-        OpenAPI mergedSpec = null;
-        for (URI specPath : specPaths) {
-            LOGGER.info("Loading spec from: {}", specPath);
-            SwaggerParseResult parsed = parser.readLocation(specPath.toString(), specAuths, parseOptions);
-            parsed.getMessages().forEach(LOGGER::info);
-            OpenAPI spec = parsed.getOpenAPI();
-            
-            if (spec == null) {
-                LOGGER.warn("Failed to parse spec from: {}", specPath);
-                continue;
+        if (baselinePath != null) {
+            configuration.getRegressionOptions().setBaseline(baselinePath.toString());
+        }
+        OpenAPI spec = SpecificationLoader.load(specPaths, specAuths);
+        session = new CoverageSession(spec, configuration);
+
+        if (!inputs.isEmpty()) {
+            try (CapturePipeline pipeline = session.pipeline()) {
+                inputs.forEach(input -> CaptureSources.read(input, pipeline,
+                        Runtime.getRuntime().availableProcessors()));
             }
-            
-            if (mergedSpec == null) {
-                mergedSpec = spec;
-                LOGGER.info("Using spec from {} as base", specPath);
-            } else {
-                // Merge paths from this spec into the merged spec
-                if (spec.getPaths() != null) {
-                    if (mergedSpec.getPaths() == null) {
-                        mergedSpec.setPaths(new Paths());
-                    }
-                    for (String path : spec.getPaths().keySet()) {
-                        PathItem pathItem = spec.getPaths().get(path);
-                        if (mergedSpec.getPaths().containsKey(path)) {
-                            LOGGER.warn("Path {} already exists in merged spec, skipping from {}", path, specPath);
-                        } else {
-                            mergedSpec.getPaths().addPathItem(path, pathItem);
-                            LOGGER.debug("Added path {} from {}", path, specPath);
-                        }
-                    }
+        }
+
+        if (inputPath != null) {
+            if (collectorPort != null || follow) {
+                try (OutputFollower follower = new OutputFollower(getInputPath(), session)) {
+                    followUntilCompleted(follower);
+                    follower.finish();
                 }
-                LOGGER.info("Merged spec from {}, total paths: {}", specPath, 
-                    mergedSpec.getPaths() != null ? mergedSpec.getPaths().size() : 0);
+            } else {
+                readInput();
             }
         }
-        
-        if (mergedSpec == null) {
-            throw new IllegalStateException("Failed to load any valid spec files");
-        }
-
-        LOGGER.info("Final merged spec has {} paths", 
-            mergedSpec.getPaths() != null ? mergedSpec.getPaths().size() : 0);
-        statisticsBuilders = configuration.getStatisticsBuilders(mergedSpec);
 
-        CoverageOutputReader reader = new FileSystemOutputReader(getInputPath());
-        reader.getOutputs().forEach(this::processFile);
-
-        Results result = new Results();
-
-        statisticsBuilders.stream().filter(StatisticsBuilder::isPreBuilder).forEach(
-                statisticsBuilder -> statisticsBuilder.build(result, configuration));
+        return session.finish();
+    }
 
-        statisticsBuilders.stream().filter(StatisticsBuilder::isPostBuilder).forEach(
-                statisticsBuilder -> statisticsBuilder.build(result, configuration));
+    /**
+     * Writes projection of calls for the filters instead of building report.
+     */
+    public CaptureProjection writeProjection() {
+        Configuration configuration = ConfigurationBuilder.build(configurationPath);
+        OpenAPI spec = SpecificationLoader.load(specPaths, specAuths);
+        CaptureProjection projection = CaptureProjectionBuilder.build(spec, configuration.getRulesList());
+        projection.write(projectionPath);
+        LOGGER.info("Capture projection is written to {}", projectionPath);
+        return projection;
+    }
 
-        configuration.getConfiguredResultsWriters().forEach(writer -> writer.write(result));
+    /**
+     * Reads output files of a folder which is not followed through the pipeline, then its ring buffers.
+     */
+    private void readInput() {
+        if (!Files.isDirectory(getInputPath())) {
+            LOGGER.warn("Input folder {} does not exist", getInputPath());
+            return;
+        }
+        try (CapturePipeline pipeline = session.pipeline()) {
+            CaptureSources.read(new FileCaptureSource(new FileSystemOutputReader(getInputPath())),
+                    getInputPath().toString(), pipeline, Runtime.getRuntime().availableProcessors());
+        }
+        new MappedRingBufferReader(getInputPath(), session).poll();
     }
 
-    public void processFile(Path path) {
-        SwaggerParseResult parsed = parser.readLocation(path.toUri().toString(), null, null);
-        parsed.getMessages().forEach(LOGGER::info);
-        OpenAPI spec = parsed.getOpenAPI();
-        statisticsBuilders.stream().filter(StatisticsBuilder::isPreBuilder).forEach(builder ->
-                builder.add(path.toString()).add(spec));
+    private void followUntilCompleted(OutputFollower follower) {
+        CoverageCollector collector = null;
+        try {
+            if (collectorPort != null) {
+                collector = new CoverageCollector(session, collectorPort).start();
+            }
+            CoverageCollector finishable = collector;
+            LOGGER.info("Wait for calls until tests are completed");
+            follower.follow(() -> (finishable != null && finishable.isFinished())
+                    || (follow && follower.isCompleted()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start coverage collector", e);
+        } finally {
+            if (collector != null) {
+                LOGGER.info("Collector received {} calls", collector.getReceived());
+                collector.close();
+            }
+        }
     }
 
     public List<URI> getSpecPaths() {
@@ -143,4 +156,52 @@ public class Generator {
         this.configurationPath = configurationPath;
         return this;
     }
+
+    public Integer getCollectorPort() {
+        return collectorPort;
+    }
+
+    public Generator setCollectorPort(Integer collectorPort) {
+        this.collectorPort = collectorPort;
+        return this;
+    }
+
+    public boolean isFollow() {
+        return follow;
+    }
+
+    public Generator setFollow(boolean follow) {
+        this.follow = follow;
+        return this;
+    }
+
+    public Path getProjectionPath() {
+        return projectionPath;
+    }
+
+    public Generator setProjectionPath(Path projectionPath) {
+        this.projectionPath = projectionPath;
+        return this;
+    }
+
+    public List<String> getInputs() {
+        return inputs;
+    }
+
+    /**
+     * Inputs which are read through their capture source, e.g. {@code har:session.har}, see {@link CaptureSources}.
+     */
+    public Generator setInputs(List<String> inputs) {
+        this.inputs = inputs;
+        return this;
+    }
+
+    public Path getBaselinePath() {
+        return baselinePath;
+    }
+
+    public Generator setBaselinePath(Path baselinePath) {
+        this.baselinePath = baselinePath;
+        return this;
+    }
 }
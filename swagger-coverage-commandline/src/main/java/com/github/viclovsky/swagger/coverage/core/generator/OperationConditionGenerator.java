@@ -5,6 +5,7 @@ import com.github.viclovsky.swagger.coverage.core.model.ConditionOperationCovera
 import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
 import com.github.viclovsky.swagger.coverage.core.model.OperationsHolder;
 import com.github.viclovsky.swagger.coverage.core.rule.core.ConditionRule;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaIndex;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import org.slf4j.Logger;
@@ -23,6 +24,8 @@ public class OperationConditionGenerator {
     public static Map<OperationKey, ConditionOperationCoverage> getOperationMap(OpenAPI swagger, List<ConditionRule> rules) {
         OperationsHolder operations = SwaggerSpecificationProcessor.extractOperation(swagger);
         Map<OperationKey, ConditionOperationCoverage> coverage = new TreeMap<>();
+        SchemaIndex schemaIndex = new SchemaIndex(swagger);
+        rules.forEach(rule -> rule.setSchemaIndex(schemaIndex));
 
         operations.getOperations().forEach((key, value) -> {
             ConditionOperationCoverage oc = buildConditionOperationCoverage(value, rules);
@@ -0,0 +1,166 @@
+package com.github.viclovsky.swagger.coverage.core.generator;
+
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import io.swagger.v3.oas.models.PathItem;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds operation of specification for a called path, e.g. {@code /pet/{petId}} for {@code /pet/12}.
+ * <p>
+ * Paths are kept in a tree of segments per method, so a call is routed in time of its segment count instead of
+ * matching every operation. Literal segments win over segments with templates, a segment which is a template as
+ * a whole matches any segment, other templates like {@code {name}.json} are matched with {@link AntPathMatcher}.
+ * Calls which already carry the route, e.g. {@code /pet/{id}} of a traced server, are found by their template
+ * without walking the tree, names of path params do not have to match.
+ * Router is immutable and can be used from several threads.
+ */
+public class OperationRouter {
+
+    private static final AntPathMatcher SEGMENT_MATCHER = new AntPathMatcher();
+
+    private final Map<PathItem.HttpMethod, Node> roots = new EnumMap<>(PathItem.HttpMethod.class);
+    private final Map<PathItem.HttpMethod, Map<String, OperationKey>> routes = new EnumMap<>(PathItem.HttpMethod.class);
+
+    public OperationRouter(Collection<OperationKey> operations) {
+        operations.forEach(this::add);
+    }
+
+    /**
+     * @return operation of specification or null if no path matches
+     */
+    public OperationKey route(OperationKey call) {
+        return route(call.getHttpMethod(), call.getPath());
+    }
+
+    public OperationKey route(PathItem.HttpMethod method, String path) {
+        Node root = roots.get(method);
+        if (root == null || path == null) {
+            return null;
+        }
+        List<String> segments = segments(path);
+        if (path.indexOf('{') >= 0) {
+            OperationKey route = routes.get(method).get(route(segments));
+            if (route != null) {
+                return route;
+            }
+        }
+        return root.match(segments, 0);
+    }
+
+    /**
+     * @return names of path params of the specification path by names at the same position of the called template,
+     * e.g. {@code id -> petId} for {@code /pet/{id}} and {@code /pet/{petId}}
+     */
+    public static Map<String, String> paramNames(String called, String specification) {
+        List<String> calledSegments = segments(called);
+        List<String> specSegments = segments(specification);
+        Map<String, String> names = new HashMap<>();
+        if (calledSegments.size() != specSegments.size()) {
+            return names;
+        }
+        for (int i = 0; i < calledSegments.size(); i++) {
+            String from = calledSegments.get(i);
+            String to = specSegments.get(i);
+            if (isTemplate(from) && isTemplate(to) && !from.equals(to)) {
+                names.put(from.substring(1, from.length() - 1), to.substring(1, to.length() - 1));
+            }
+        }
+        return names;
+    }
+
+    private void add(OperationKey operation) {
+        Node node = roots.computeIfAbsent(operation.getHttpMethod(), method -> new Node());
+        for (String segment : segments(operation.getPath())) {
+            node = node.child(segment);
+        }
+        if (node.operation == null) {
+            node.operation = operation;
+        }
+        routes.computeIfAbsent(operation.getHttpMethod(), method -> new HashMap<>())
+                .putIfAbsent(route(segments(operation.getPath())), operation);
+    }
+
+    /**
+     * Path with anonymous templates, {@code /pet/{petId}} and {@code /pet/{id}} are the same route.
+     */
+    private static String route(List<String> segments) {
+        StringBuilder route = new StringBuilder();
+        for (String segment : segments) {
+            route.append('/').append(isTemplate(segment) ? "{}" : segment);
+        }
+        return route.toString();
+    }
+
+    private static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments;
+    }
+
+    private static boolean isTemplate(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}") && segment.indexOf('{', 1) < 0;
+    }
+
+    private static boolean isPattern(String segment) {
+        return segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0;
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Node> patterns = new HashMap<>();
+        private Node template;
+        private OperationKey operation;
+
+        private Node child(String segment) {
+            if (isTemplate(segment)) {
+                if (template == null) {
+                    template = new Node();
+                }
+                return template;
+            }
+            if (isPattern(segment)) {
+                return patterns.computeIfAbsent(segment, key -> new Node());
+            }
+            return literals.computeIfAbsent(segment, key -> new Node());
+        }
+
+        private OperationKey match(List<String> segments, int index) {
+            if (index == segments.size()) {
+                return operation;
+            }
+            String segment = segments.get(index);
+            Node literal = literals.get(segment);
+            if (literal != null) {
+                OperationKey found = literal.match(segments, index + 1);
+                if (found != null) {
+                    return found;
+                }
+            }
+            for (Map.Entry<String, Node> pattern : patterns.entrySet()) {
+                if (SEGMENT_MATCHER.match(pattern.getKey(), segment)) {
+                    OperationKey found = pattern.getValue().match(segments, index + 1);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+            return template == null ? null : template.match(segments, index + 1);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.viclovsky.swagger.coverage.core.generator;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Input queues and metrics of a stage of {@link CapturePipeline}.
+ * <p>
+ * Depth of the queues is sampled whenever a batch is put, time producers waited for space in a full queue is summed.
+ * A stage whose queue is mostly full limits throughput of the pipeline, a stage with a mostly empty queue and low
+ * utilization waits for the stages before it, e.g. for reading when all queues are empty.
+ */
+public class PipelineStage {
+
+    private final String name;
+    private final int workers;
+    private final List<? extends BlockingQueue<?>> queues;
+    private final int capacity;
+
+    private final AtomicLong items = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong depthSamples = new AtomicLong();
+    private final AtomicLong depthSum = new AtomicLong();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+
+    private volatile long elapsedNanos;
+
+    PipelineStage(String name, int workers, List<? extends BlockingQueue<?>> queues) {
+        this.name = name;
+        this.workers = workers;
+        this.queues = queues;
+        this.capacity = queues.stream().mapToInt(queue -> queue.size() + queue.remainingCapacity()).sum();
+    }
+
+    /**
+     * Puts batch into queue of the stage, blocks while the queue is full.
+     */
+    <T> void put(BlockingQueue<T> queue, T batch) throws InterruptedException {
+        if (!queue.offer(batch)) {
+            long start = System.nanoTime();
+            queue.put(batch);
+            waitNanos.addAndGet(System.nanoTime() - start);
+        }
+        long depth = depth();
+        depthSamples.incrementAndGet();
+        depthSum.addAndGet(depth);
+        maxDepth.accumulate(depth);
+    }
+
+    void processed(int count, long nanos) {
+        items.addAndGet(count);
+        batches.incrementAndGet();
+        busyNanos.addAndGet(nanos);
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    private long depth() {
+        long depth = 0;
+        for (BlockingQueue<?> queue : queues) {
+            depth += queue.size();
+        }
+        return depth;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getItems() {
+        return items.get();
+    }
+
+    public long getBatches() {
+        return batches.get();
+    }
+
+    /**
+     * Items per second from start of the pipeline until it is closed.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : items.get() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Share of time workers of the stage were busy, 1 if they never waited for input.
+     */
+    public double getUtilization() {
+        return elapsedNanos == 0 ? 0 : (double) busyNanos.get() / elapsedNanos / workers;
+    }
+
+    public double getAverageDepth() {
+        long samples = depthSamples.get();
+        return samples == 0 ? 0 : (double) depthSum.get() / samples;
+    }
+
+    public long getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    public long getWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d workers, %d items in %d batches, %.0f items/s, %.0f%% busy, "
+                        + "queue %.1f of %d (max %d), producers waited %d ms",
+                name, workers, getItems(), getBatches(), getThroughput(), getUtilization() * 100,
+                getAverageDepth(), capacity, getMaxDepth(), getWaitMillis());
+    }
+}
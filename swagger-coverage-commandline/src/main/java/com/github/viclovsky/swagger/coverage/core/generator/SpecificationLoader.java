@@ -0,0 +1,76 @@
+package com.github.viclovsky.swagger.coverage.core.generator;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Loads one or more specifications and merges their paths into a single document.
+ */
+public class SpecificationLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpecificationLoader.class);
+
+    private SpecificationLoader() {
+    }
+
+    public static OpenAPI load(List<URI> specPaths, List<AuthorizationValue> specAuths) {
+        OpenAPIParser parser = new OpenAPIParser();
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+
+        // Parse and merge multiple specs
+        OpenAPI mergedSpec = null;
+        for (URI specPath : specPaths) {
+            LOGGER.info("Loading spec from: {}", specPath);
+            SwaggerParseResult parsed = parser.readLocation(specPath.toString(), specAuths, parseOptions);
+            parsed.getMessages().forEach(LOGGER::info);
+            OpenAPI spec = parsed.getOpenAPI();
+
+            if (spec == null) {
+                LOGGER.warn("Failed to parse spec from: {}", specPath);
+                continue;
+            }
+
+            if (mergedSpec == null) {
+                mergedSpec = spec;
+                LOGGER.info("Using spec from {} as base", specPath);
+            } else {
+                // Merge paths from this spec into the merged spec
+                if (spec.getPaths() != null) {
+                    if (mergedSpec.getPaths() == null) {
+                        mergedSpec.setPaths(new Paths());
+                    }
+                    for (String path : spec.getPaths().keySet()) {
+                        PathItem pathItem = spec.getPaths().get(path);
+                        if (mergedSpec.getPaths().containsKey(path)) {
+                            LOGGER.warn("Path {} already exists in merged spec, skipping from {}", path, specPath);
+                        } else {
+                            mergedSpec.getPaths().addPathItem(path, pathItem);
+                            LOGGER.debug("Added path {} from {}", path, specPath);
+                        }
+                    }
+                }
+                LOGGER.info("Merged spec from {}, total paths: {}", specPath,
+                    mergedSpec.getPaths() != null ? mergedSpec.getPaths().size() : 0);
+            }
+        }
+
+        if (mergedSpec == null) {
+            throw new IllegalStateException("Failed to load any valid spec files");
+        }
+
+        LOGGER.info("Final merged spec has {} paths",
+            mergedSpec.getPaths() != null ? mergedSpec.getPaths().size() : 0);
+        return mergedSpec;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.model;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import io.swagger.v3.oas.models.Operation;
 
 public abstract class Condition {
@@ -7,6 +8,7 @@ public abstract class Condition {
     private String name;
     private String description;
     boolean covered = false;
+    private long hits = 0;
 
     public Condition(String name, String description) {
         this.name = name;
@@ -19,12 +21,26 @@ public abstract class Condition {
 
     public abstract boolean isNeedCheck();
 
+    /**
+     * Checks the call, hits of the condition are counted from the result.
+     *
+     * @return true if the call itself satisfies the condition
+     */
     public abstract boolean check(Operation operation);
 
     public abstract String getReason();
 
     public abstract String getType();
 
+    /**
+     * Adds parts of a call which are needed to check this condition.
+     *
+     * @return false if they are not known
+     */
+    public boolean project(CaptureProjection projection) {
+        return false;
+    }
+
     public String getName() {
         return name;
     }
@@ -49,6 +65,17 @@ public abstract class Condition {
         this.covered = covered;
     }
 
+    /**
+     * @return number of captured calls which satisfied this condition
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
     @Override
     public String toString() {
         return "Condition{" +
@@ -1,5 +1,7 @@
 package com.github.viclovsky.swagger.coverage.core.model;
 
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationLatency;
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationPayload;
 import io.swagger.v3.oas.models.Operation;
 
 import java.util.List;
@@ -9,6 +11,9 @@ public class ConditionOperationCoverage {
     private long processCount = 0;
     private Operation operation;
     private List<Condition> conditions;
+    private long[] hits = new long[0];
+    private final OperationLatency latency = new OperationLatency();
+    private final OperationPayload payload = new OperationPayload();
 
     public Operation getOperation() {
         return operation;
@@ -25,9 +30,39 @@ public class ConditionOperationCoverage {
 
     public ConditionOperationCoverage setConditions(List<Condition> conditions) {
         this.conditions = conditions;
+        this.hits = new long[conditions.size()];
         return this;
     }
 
+    /**
+     * Checks the call against every condition once and counts hits, indexed by position of condition in the list.
+     * Covered conditions are checked too, a hit is counted when the call itself satisfies the condition.
+     */
+    public ConditionOperationCoverage check(Operation call) {
+        processCount++;
+        for (int id = 0; id < conditions.size(); id++) {
+            if (conditions.get(id).check(call)) {
+                hits[id]++;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return number of calls which satisfied condition with given position
+     */
+    public long getHits(int id) {
+        return hits[id];
+    }
+
+    public OperationLatency getLatency() {
+        return latency;
+    }
+
+    public OperationPayload getPayload() {
+        return payload;
+    }
+
     public long getProcessCount() {
         return processCount;
     }
@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.model;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import com.github.viclovsky.swagger.coverage.core.predicate.ConditionPredicate;
 import io.swagger.v3.oas.models.Operation;
 import org.slf4j.Logger;
@@ -37,8 +38,11 @@ public class SinglePredicateCondition extends Condition {
 
     @Override
     public boolean check(Operation operation) {
-        this.covered = predicate.check(operation);
-        return this.covered;
+        boolean matched = predicate.check(operation);
+        if (!predicate.hasPostCheck()) {
+            this.covered = this.covered || matched;
+        }
+        return matched;
     }
 
     @Override
@@ -50,6 +54,15 @@ public class SinglePredicateCondition extends Condition {
         return "";
     }
 
+    @Override
+    public boolean project(CaptureProjection projection) {
+        return predicate.project(projection);
+    }
+
+    public ConditionPredicate getPredicate() {
+        return predicate;
+    }
+
     @Override
     public String getType() {
         return predicate.getClass().getSimpleName();
@@ -0,0 +1,70 @@
+package com.github.viclovsky.swagger.coverage.core.predicate;
+
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaMatcher;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Map;
+
+/**
+ * Checks that captured request body is of the {@code oneOf}/{@code anyOf} variant, see {@link SchemaMatcher#classify(Map)}.
+ */
+public class BodyVariantConditionPredicate extends ConditionPredicate {
+
+    private final String mediaTypeName;
+    private final SchemaMatcher matcher;
+    private final int variant;
+
+    public BodyVariantConditionPredicate(String mediaTypeName, SchemaMatcher matcher, int variant) {
+        this.mediaTypeName = mediaTypeName;
+        this.matcher = matcher;
+        this.variant = variant;
+    }
+
+    @Override
+    public boolean check(Operation operation) {
+        if (operation.getRequestBody() == null || operation.getRequestBody().getContent() == null) {
+            return false;
+        }
+        MediaType mediaType = operation.getRequestBody().getContent().get(mediaTypeName);
+        if (mediaType == null || mediaType.getSchema() == null || mediaType.getSchema().getProperties() == null) {
+            return false;
+        }
+        return matcher.classify((Map<String, Schema>) mediaType.getSchema().getProperties()) == variant;
+    }
+
+    @Override
+    public boolean postCheck() {
+        return false;
+    }
+
+    @Override
+    public boolean hasPostCheck() {
+        return false;
+    }
+
+    @Override
+    public String getReason() {
+        return null;
+    }
+
+    @Override
+    public boolean project(CaptureProjection projection) {
+        matcher.getVariants().forEach(v -> v.getProperties().keySet()
+                .forEach(name -> projection.addName(CaptureProjection.BODY, name)));
+        if (matcher.getDiscriminator() != null) {
+            projection.addValue(CaptureProjection.BODY, matcher.getDiscriminator());
+        }
+        return true;
+    }
+
+    public String getMediaTypeName() {
+        return mediaTypeName;
+    }
+
+    public String getVariantName() {
+        return matcher.getVariantNames().get(variant);
+    }
+}
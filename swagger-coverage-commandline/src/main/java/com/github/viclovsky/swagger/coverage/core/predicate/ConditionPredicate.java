@@ -1,9 +1,15 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import io.swagger.v3.oas.models.Operation;
 
 public abstract class ConditionPredicate {
 
+    /**
+     * Checks the call and collects its values when the predicate has post check.
+     *
+     * @return true if the call itself satisfies the predicate, regardless of previous calls
+     */
     public abstract boolean check(Operation operation);
 
     public abstract boolean postCheck();
@@ -11,4 +17,13 @@ public abstract class ConditionPredicate {
     public abstract boolean hasPostCheck();
 
     public abstract String getReason();
+
+    /**
+     * Adds parts of a call which this predicate reads.
+     *
+     * @return false if they are not known, then calls are captured completely
+     */
+    public boolean project(CaptureProjection projection) {
+        return false;
+    }
 }
@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import io.swagger.v3.oas.models.Operation;
 
 public class DefaultBodyConditionPredicate extends ConditionPredicate {
@@ -23,6 +24,11 @@ public class DefaultBodyConditionPredicate extends ConditionPredicate {
         return false;
     }
 
+    @Override
+    public boolean project(CaptureProjection projection) {
+        return true;
+    }
+
     @Override
     public String getReason() {
         return null;
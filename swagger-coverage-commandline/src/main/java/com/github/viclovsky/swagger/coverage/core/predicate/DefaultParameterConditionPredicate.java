@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 
@@ -38,6 +39,12 @@ public class DefaultParameterConditionPredicate extends ParameterConditionPredic
         return false;
     }
 
+    @Override
+    public boolean project(CaptureProjection projection) {
+        projection.addName(in, name);
+        return true;
+    }
+
     @Override
     public String getReason() {
         return null;
@@ -1,13 +1,11 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
-import com.github.viclovsky.swagger.coverage.core.generator.SwaggerSpecificationProcessor;
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public class DefaultParameterValueConditionPredicate extends ParameterConditionPredicate {
 
@@ -16,7 +14,6 @@ public class DefaultParameterValueConditionPredicate extends ParameterConditionP
 
     private String reason;
     private String expectedValue;
-    private List<String> currentValue = new ArrayList<>();
 
     public DefaultParameterValueConditionPredicate(String name, String in, String value) {
         this.name = name;
@@ -26,16 +23,7 @@ public class DefaultParameterValueConditionPredicate extends ParameterConditionP
 
     @Override
     public boolean check(List<Parameter> params, Map<String, ApiResponse> responses) {
-        if (params != null) {
-            Optional<Parameter> p = params.stream().filter(ParameterUtils.equalsParam(name, in)).findFirst();
-
-            if (p.isPresent()) {
-                String val = SwaggerSpecificationProcessor.extractValue(p.get());
-                currentValue.add(val);
-            }
-        }
-
-        return currentValue.contains(expectedValue);
+        return expectedValue != null && expectedValue.equals(ParameterUtils.value(params, name, in));
     }
 
     @Override
@@ -48,6 +36,12 @@ public class DefaultParameterValueConditionPredicate extends ParameterConditionP
         return false;
     }
 
+    @Override
+    public boolean project(CaptureProjection projection) {
+        projection.addValue(in, name);
+        return true;
+    }
+
     @Override
     public String getReason() {
         return reason;
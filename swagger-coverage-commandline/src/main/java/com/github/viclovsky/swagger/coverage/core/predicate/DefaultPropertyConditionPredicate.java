@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.Optional;
@@ -23,6 +24,12 @@ public class DefaultPropertyConditionPredicate extends PropertyConditionPredicat
         return false;
     }
 
+    @Override
+    public boolean project(CaptureProjection projection) {
+        projection.addName(CaptureProjection.BODY, propertyName);
+        return true;
+    }
+
     @Override
     public String getReason() {
         return null;
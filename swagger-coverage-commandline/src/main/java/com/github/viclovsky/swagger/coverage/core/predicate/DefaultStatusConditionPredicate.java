@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 
@@ -29,6 +30,11 @@ public class DefaultStatusConditionPredicate extends ParameterConditionPredicate
         return false;
     }
 
+    @Override
+    public boolean project(CaptureProjection projection) {
+        return true;
+    }
+
     @Override
     public String getReason() {
         return null;
@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 
@@ -21,7 +22,7 @@ public class FullStatusConditionPredicate extends ParameterConditionPredicate {
     @Override
     public boolean check(List<Parameter> params, Map<String, ApiResponse> responses) {
         responses.forEach((key, value) -> currentStatuses.add(key));
-        return true;
+        return !responses.isEmpty() && expectedStatuses != null && expectedStatuses.containsAll(responses.keySet());
     }
 
     @Override
@@ -33,8 +34,9 @@ public class FullStatusConditionPredicate extends ParameterConditionPredicate {
         boolean covered = expectedStatuses.containsAll(currentStatuses);
 
         if (!covered) {
-            currentStatuses.removeAll(expectedStatuses);
-            reason = "Undeclared status: " + String.join(",", currentStatuses);
+            Set<String> undeclaredStatuses = new HashSet<>(currentStatuses);
+            undeclaredStatuses.removeAll(expectedStatuses);
+            reason = "Undeclared status: " + String.join(",", undeclaredStatuses);
         }
 
         return covered;
@@ -45,6 +47,11 @@ public class FullStatusConditionPredicate extends ParameterConditionPredicate {
         return true;
     }
 
+    @Override
+    public boolean project(CaptureProjection projection) {
+        return true;
+    }
+
     @Override
     public String getReason() {
         return reason;
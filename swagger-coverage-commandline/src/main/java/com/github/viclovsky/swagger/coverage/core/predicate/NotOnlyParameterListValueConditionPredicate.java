@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import com.github.viclovsky.swagger.coverage.core.generator.SwaggerSpecificationProcessor;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
@@ -32,17 +33,19 @@ public class NotOnlyParameterListValueConditionPredicate extends ParameterCondit
             if (p.isPresent()) {
                 String val = SwaggerSpecificationProcessor.extractValue(p.get());
                 currentValue.add(val);
+                return val != null && !expectedValue.contains(val);
             }
         }
 
-        return true;
+        return false;
     }
 
     @Override
     public boolean postCheck() {
         reason = "Checked values: " + currentValue.toString();
-        currentValue.removeAll(expectedValue);
-        return !currentValue.isEmpty();
+        Set<String> unexpectedValue = new HashSet<>(currentValue);
+        unexpectedValue.removeAll(expectedValue);
+        return !unexpectedValue.isEmpty();
     }
 
     @Override
@@ -50,6 +53,12 @@ public class NotOnlyParameterListValueConditionPredicate extends ParameterCondit
         return true;
     }
 
+    @Override
+    public boolean project(CaptureProjection projection) {
+        projection.addValue(in, name);
+        return true;
+    }
+
     @Override
     public String getReason() {
         return reason;
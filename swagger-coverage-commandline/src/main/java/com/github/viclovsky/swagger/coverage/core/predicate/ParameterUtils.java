@@ -1,7 +1,9 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.core.generator.SwaggerSpecificationProcessor;
 import io.swagger.v3.oas.models.parameters.Parameter;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 class ParameterUtils {
@@ -12,4 +14,16 @@ class ParameterUtils {
     static Predicate<Parameter> equalsParam(String name, String in) {
         return p -> (p.getName().equals(name) && p.getIn().equals(in));
     }
+
+    /**
+     * @return captured value of the parameter, {@code null} if the call has no such parameter
+     */
+    static String value(List<Parameter> params, String name, String in) {
+        if (params == null) {
+            return null;
+        }
+        return params.stream().filter(equalsParam(name, in)).findFirst()
+                .map(SwaggerSpecificationProcessor::extractValue)
+                .orElse(null);
+    }
 }
@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import com.github.viclovsky.swagger.coverage.core.generator.SwaggerSpecificationProcessor;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
@@ -30,10 +31,11 @@ public class ParameterValueConditionPredicate extends ParameterConditionPredicat
             if (p.isPresent()) {
                 String val = SwaggerSpecificationProcessor.extractValue(p.get());
                 currentValue.add(val);
+                return val != null && expectedValue.contains(val);
             }
         }
 
-        return true;
+        return false;
     }
 
     @Override
@@ -41,8 +43,9 @@ public class ParameterValueConditionPredicate extends ParameterConditionPredicat
         boolean covered = currentValue.containsAll(expectedValue);
 
         if (!covered) {
-            expectedValue.removeAll(currentValue);
-            reason = "Missed values " + expectedValue.toString();
+            List<String> missedValue = new ArrayList<>(expectedValue);
+            missedValue.removeAll(currentValue);
+            reason = "Missed values " + missedValue.toString();
         }
 
         return covered;
@@ -53,6 +56,12 @@ public class ParameterValueConditionPredicate extends ParameterConditionPredicat
         return true;
     }
 
+    @Override
+    public boolean project(CaptureProjection projection) {
+        projection.addValue(in, name);
+        return true;
+    }
+
     @Override
     public String getReason() {
         return reason;
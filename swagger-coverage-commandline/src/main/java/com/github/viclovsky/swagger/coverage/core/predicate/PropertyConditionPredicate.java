@@ -1,12 +1,11 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.core.schema.CapturedPropertyIndex;
 import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 
-import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 public abstract class PropertyConditionPredicate extends ConditionPredicate {
     protected String mediaTypeName;
@@ -19,21 +18,24 @@ public abstract class PropertyConditionPredicate extends ConditionPredicate {
 
     @Override
     public boolean check(Operation operation) {
+        Optional<Schema> schema = property(operation);
+        return schema != null && check(schema);
+    }
+
+    /**
+     * @return captured property, {@code null} if the call has no request body
+     */
+    private Optional<Schema> property(Operation operation) {
         if (operation.getRequestBody() == null ||
                 operation.getRequestBody().getContent() == null ||
                 operation.getRequestBody().getContent().isEmpty()) {
-            return false;
+            return null;
+        }
+        MediaType mediaType = operation.getRequestBody().getContent().get(mediaTypeName);
+        if (mediaType == null || mediaType.getSchema() == null) {
+            return Optional.empty();
         }
-        Optional<Schema> schema = operation.getRequestBody().getContent().entrySet()
-                .stream()
-                .filter(o -> mediaTypeName.equals(o.getKey()))
-                .map(o -> o.getValue().getSchema())
-                .filter(Objects::nonNull)
-                .flatMap(o -> (Stream<Map.Entry<String, Schema>>) o.getProperties().entrySet().stream())
-                .filter(o -> propertyName.equals(o.getKey()))
-                .map(o -> o.getValue())
-                .findFirst();
-        return check(schema);
+        return Optional.ofNullable(CapturedPropertyIndex.of(mediaType.getSchema()).get(propertyName));
     }
 
     public String getPropertyName() {
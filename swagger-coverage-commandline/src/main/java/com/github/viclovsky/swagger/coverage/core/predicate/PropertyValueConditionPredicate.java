@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import com.github.viclovsky.swagger.coverage.core.generator.SwaggerSpecificationProcessor;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -21,8 +22,9 @@ public class PropertyValueConditionPredicate extends PropertyConditionPredicate
     @Override
     public boolean postCheck() {
         reason = "Checked values: " + currentValue.toString();
-        currentValue.removeAll(expectedValue);
-        return !currentValue.isEmpty();
+        List<String> unexpectedValue = new ArrayList<>(currentValue);
+        unexpectedValue.removeAll(expectedValue);
+        return !unexpectedValue.isEmpty();
     }
 
     @Override
@@ -30,6 +32,12 @@ public class PropertyValueConditionPredicate extends PropertyConditionPredicate
         return true;
     }
 
+    @Override
+    public boolean project(CaptureProjection projection) {
+        projection.addValue(CaptureProjection.BODY, propertyName);
+        return true;
+    }
+
     @Override
     public String getReason() {
         return reason;
@@ -37,10 +45,12 @@ public class PropertyValueConditionPredicate extends PropertyConditionPredicate
 
     @Override
     protected boolean check(Optional<Schema> schema) {
-        if (schema.isPresent()) {
-            currentValue.add(SwaggerSpecificationProcessor.extractValue(schema.get()));
+        if (!schema.isPresent()) {
+            return false;
         }
-        return true;
+        String value = SwaggerSpecificationProcessor.extractValue(schema.get());
+        currentValue.add(value);
+        return !expectedValue.contains(value);
     }
 
     public List<String> getValue() {
@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.predicate;
 
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import com.github.viclovsky.swagger.coverage.core.generator.SwaggerSpecificationProcessor;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -23,8 +24,9 @@ public class PropertyValueNotOnlyConditionPredicate extends PropertyConditionPre
         boolean covered = currentValue.containsAll(expectedValue);
 
         if (!covered) {
-            expectedValue.removeAll(currentValue);
-            reason = "Missed values " + expectedValue.toString();
+            List<String> missedValue = new ArrayList<>(expectedValue);
+            missedValue.removeAll(currentValue);
+            reason = "Missed values " + missedValue.toString();
         }
 
         return covered;
@@ -35,6 +37,12 @@ public class PropertyValueNotOnlyConditionPredicate extends PropertyConditionPre
         return true;
     }
 
+    @Override
+    public boolean project(CaptureProjection projection) {
+        projection.addValue(CaptureProjection.BODY, propertyName);
+        return true;
+    }
+
     @Override
     public String getReason() {
         return reason;
@@ -42,10 +50,12 @@ public class PropertyValueNotOnlyConditionPredicate extends PropertyConditionPre
 
     @Override
     protected boolean check(Optional<Schema> schema) {
-        if (schema.isPresent()) {
-            currentValue.add(SwaggerSpecificationProcessor.extractValue(schema.get()));
+        if (!schema.isPresent()) {
+            return false;
         }
-        return true;
+        String value = SwaggerSpecificationProcessor.extractValue(schema.get());
+        currentValue.add(value);
+        return expectedValue.contains(value);
     }
 
     public List<String> getValue() {
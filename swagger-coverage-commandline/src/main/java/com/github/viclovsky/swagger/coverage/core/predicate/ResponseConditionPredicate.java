@@ -0,0 +1,59 @@
+package com.github.viclovsky.swagger.coverage.core.predicate;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.Map;
+
+/**
+ * Base predicate for properties of captured response body with given status.
+ */
+public abstract class ResponseConditionPredicate extends ConditionPredicate {
+
+    protected final String status;
+
+    public ResponseConditionPredicate(String status) {
+        this.status = status;
+    }
+
+    @Override
+    public boolean check(Operation operation) {
+        if (operation.getResponses() == null) {
+            return false;
+        }
+        ApiResponse response = operation.getResponses().get(status);
+        if (response == null || response.getContent() == null) {
+            return false;
+        }
+        for (MediaType mediaType : response.getContent().values()) {
+            Schema schema = mediaType.getSchema();
+            if (schema != null && schema.getProperties() != null && check(schema.getProperties())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected abstract boolean check(Map<String, Schema> properties);
+
+    @Override
+    public boolean postCheck() {
+        return false;
+    }
+
+    @Override
+    public boolean hasPostCheck() {
+        return false;
+    }
+
+    @Override
+    public String getReason() {
+        return null;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.viclovsky.swagger.coverage.core.predicate;
+
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Map;
+
+public class ResponsePropertyConditionPredicate extends ResponseConditionPredicate {
+
+    private final String propertyName;
+
+    public ResponsePropertyConditionPredicate(String status, String propertyName) {
+        super(status);
+        this.propertyName = propertyName;
+    }
+
+    @Override
+    protected boolean check(Map<String, Schema> properties) {
+        return properties.containsKey(propertyName);
+    }
+
+    @Override
+    public boolean project(CaptureProjection projection) {
+        projection.addName(CaptureProjection.RESPONSE, propertyName);
+        return true;
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+}
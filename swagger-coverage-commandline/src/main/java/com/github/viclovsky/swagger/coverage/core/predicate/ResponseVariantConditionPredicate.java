@@ -0,0 +1,41 @@
+package com.github.viclovsky.swagger.coverage.core.predicate;
+
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaMatcher;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Map;
+
+/**
+ * Checks that captured response is of the {@code oneOf}/{@code anyOf} variant, see {@link SchemaMatcher#classify(Map)}.
+ */
+public class ResponseVariantConditionPredicate extends ResponseConditionPredicate {
+
+    private final SchemaMatcher matcher;
+    private final int variant;
+
+    public ResponseVariantConditionPredicate(String status, SchemaMatcher matcher, int variant) {
+        super(status);
+        this.matcher = matcher;
+        this.variant = variant;
+    }
+
+    @Override
+    protected boolean check(Map<String, Schema> properties) {
+        return matcher.classify(properties) == variant;
+    }
+
+    @Override
+    public boolean project(CaptureProjection projection) {
+        matcher.getVariants().forEach(v -> v.getProperties().keySet()
+                .forEach(name -> projection.addName(CaptureProjection.RESPONSE, name)));
+        if (matcher.getDiscriminator() != null) {
+            projection.addValue(CaptureProjection.RESPONSE, matcher.getDiscriminator());
+        }
+        return true;
+    }
+
+    public String getVariantName() {
+        return matcher.getVariantNames().get(variant);
+    }
+}
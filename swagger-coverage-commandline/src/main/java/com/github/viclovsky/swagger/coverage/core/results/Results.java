@@ -2,17 +2,21 @@ package com.github.viclovsky.swagger.coverage.core.results;
 
 import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
 import com.github.viclovsky.swagger.coverage.core.results.data.ConditionCounter;
+import com.github.viclovsky.swagger.coverage.core.results.data.ConditionHeatmap;
 import com.github.viclovsky.swagger.coverage.core.results.data.ConditionStatistics;
 import com.github.viclovsky.swagger.coverage.core.results.data.CoverageCounter;
 import com.github.viclovsky.swagger.coverage.core.results.data.CoverageOperationMap;
 import com.github.viclovsky.swagger.coverage.core.results.data.GenerationStatistics;
+import com.github.viclovsky.swagger.coverage.core.results.data.LatencyRegression;
 import com.github.viclovsky.swagger.coverage.core.results.data.OperationResult;
 import com.github.viclovsky.swagger.coverage.core.results.data.TagCoverage;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.info.Info;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -31,6 +35,8 @@ public class Results {
     private GenerationStatistics generationStatistics;
     private CoverageOperationMap coverageOperationMap = new CoverageOperationMap();
     private ConditionCounter conditionCounter = new ConditionCounter();
+    private ConditionHeatmap conditionHeatmap = new ConditionHeatmap();
+    private List<LatencyRegression> latencyRegressions = new ArrayList<>();
 
     /**
      * TAG STATISTICS
@@ -102,6 +108,24 @@ public class Results {
         return this;
     }
 
+    public ConditionHeatmap getConditionHeatmap() {
+        return conditionHeatmap;
+    }
+
+    public Results setConditionHeatmap(ConditionHeatmap conditionHeatmap) {
+        this.conditionHeatmap = conditionHeatmap;
+        return this;
+    }
+
+    public List<LatencyRegression> getLatencyRegressions() {
+        return latencyRegressions;
+    }
+
+    public Results setLatencyRegressions(List<LatencyRegression> latencyRegressions) {
+        this.latencyRegressions = latencyRegressions;
+        return this;
+    }
+
     public Map<String, ConditionStatistics> getConditionStatisticsMap() {
         return conditionStatisticsMap;
     }
@@ -20,6 +20,13 @@ public abstract class StatisticsBuilder {
         return this;
     }
 
+    /**
+     * Adds capture read from output file, by default as the file followed by the capture.
+     */
+    public StatisticsBuilder add(String path, OpenAPI swagger) {
+        return add(path).add(swagger);
+    }
+
     public StatisticsBuilder configure(ConfigurationOptions options) {
         this.options = options;
         return this;
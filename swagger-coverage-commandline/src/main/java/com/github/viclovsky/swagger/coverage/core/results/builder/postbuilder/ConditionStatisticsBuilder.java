@@ -26,6 +26,8 @@ public class ConditionStatisticsBuilder extends StatisticsOperationPostBuilder {
     @Override
     public void build(Results results, Configuration configuration) {
         this.excludedOperations = configuration.getExcludedOperations();
+        this.coverageOperationMap = new CoverageOperationMap();
+        this.conditionCounter = new ConditionCounter();
         super.build(results, configuration);
     }
 
@@ -0,0 +1,45 @@
+package com.github.viclovsky.swagger.coverage.core.results.builder.postbuilder;
+
+import com.github.viclovsky.swagger.coverage.configuration.Configuration;
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.results.builder.core.StatisticsOperationPostBuilder;
+import com.github.viclovsky.swagger.coverage.core.results.data.ConditionHeatmap;
+import com.github.viclovsky.swagger.coverage.core.results.data.ConditionStatisticsItem;
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationResult;
+
+import java.util.List;
+
+public class HeatmapStatisticsBuilder extends StatisticsOperationPostBuilder {
+
+    private ConditionHeatmap heatmap = new ConditionHeatmap();
+
+    @Override
+    public void build(Results results, Configuration configuration) {
+        this.heatmap = new ConditionHeatmap();
+        super.build(results, configuration);
+    }
+
+    @Override
+    public void buildOperation(OperationKey operation, OperationResult operationResult) {
+        if (operationResult.getProcessCount() == 0) {
+            return;
+        }
+        List<Condition> conditions = operationResult.getConditions();
+        long[] hits = new long[conditions.size()];
+        for (int id = 0; id < hits.length; id++) {
+            Condition condition = conditions.get(id);
+            hits[id] = condition.getHits();
+            if (condition.isCovered() && condition.getHits() == 1) {
+                heatmap.addSingleHit(new ConditionStatisticsItem(operation, condition));
+            }
+        }
+        heatmap.addOperation(operation, hits);
+    }
+
+    @Override
+    public void buildResult(Results results) {
+        results.setConditionHeatmap(heatmap);
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.viclovsky.swagger.coverage.core.results.builder.postbuilder;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.viclovsky.swagger.coverage.configuration.Configuration;
+import com.github.viclovsky.swagger.coverage.configuration.options.ConfigurationOptions;
+import com.github.viclovsky.swagger.coverage.configuration.options.RegressionOptions;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.results.builder.core.StatisticsBuilder;
+import com.github.viclovsky.swagger.coverage.core.results.builder.core.StatisticsOperationPostBuilder;
+import com.github.viclovsky.swagger.coverage.core.results.data.LatencyRegression;
+import com.github.viclovsky.swagger.coverage.core.results.data.LogLinearHistogram;
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationLatency;
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationResult;
+import com.github.viclovsky.swagger.coverage.core.results.util.HistogramComparison;
+import com.github.viclovsky.swagger.coverage.model.SwaggerCoverage2ModelJackson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares response times with results of a previous run, the json results file or a snapshot of the collector.
+ * <p>
+ * An operation regressed if its p95 grew more than the configured ratio and Mann-Whitney test confirms that calls
+ * got slower, or if its share of 5xx responses grew more than the configured difference and two-proportion test
+ * confirms it. Operations with less calls than {@code minCalls} in any run are not compared.
+ */
+public class LatencyRegressionBuilder extends StatisticsOperationPostBuilder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatencyRegressionBuilder.class);
+
+    private Map<String, OperationLatency> baseline = Collections.emptyMap();
+    private List<LatencyRegression> regressions = new ArrayList<>();
+
+    @Override
+    public StatisticsBuilder configure(ConfigurationOptions options) {
+        super.configure(options);
+        String path = options.getRegression() == null ? null : options.getRegression().getBaseline();
+        if (path != null) {
+            baseline = readBaseline(Paths.get(path));
+            LOGGER.info("Compare response times with {} operations of baseline {}", baseline.size(), path);
+        }
+        return this;
+    }
+
+    @Override
+    public void build(Results results, Configuration configuration) {
+        regressions = new ArrayList<>();
+        super.build(results, configuration);
+    }
+
+    @Override
+    public void buildOperation(OperationKey operation, OperationResult operationResult) {
+        OperationLatency previous = baseline.get(operation.toString());
+        if (previous == null || operationResult.getLatency() == null) {
+            return;
+        }
+        RegressionOptions regression = options.getRegression();
+        LogLinearHistogram current = operationResult.getLatency().getAll();
+        LogLinearHistogram before = previous.getAll();
+        if (before == null || current.getCount() < regression.getMinCalls() || before.getCount() < regression.getMinCalls()) {
+            return;
+        }
+
+        if (current.getP95() > before.getP95() * (1 + regression.getP95Increase())) {
+            double probability = HistogramComparison.laterPValue(current, before);
+            if (probability < regression.getSignificance()) {
+                regressions.add(new LatencyRegression(operation, LatencyRegression.Kind.P95,
+                        before.getP95(), current.getP95(), probability));
+            }
+        }
+
+        long currentErrors = errors(operationResult.getLatency());
+        long baselineErrors = errors(previous);
+        double currentShare = (double) currentErrors / current.getCount();
+        double baselineShare = (double) baselineErrors / before.getCount();
+        if (currentShare - baselineShare > regression.getErrorShareIncrease()) {
+            double probability = HistogramComparison.largerSharePValue(currentErrors, current.getCount(),
+                    baselineErrors, before.getCount());
+            if (probability < regression.getSignificance()) {
+                regressions.add(new LatencyRegression(operation, LatencyRegression.Kind.ERROR_SHARE,
+                        baselineShare, currentShare, probability));
+            }
+        }
+    }
+
+    @Override
+    public void buildResult(Results results) {
+        results.setLatencyRegressions(regressions);
+    }
+
+    private static long errors(OperationLatency latency) {
+        return latency.getStatuses().entrySet().stream()
+                .filter(status -> status.getKey().startsWith("5"))
+                .mapToLong(status -> status.getValue().getCount())
+                .sum();
+    }
+
+    /**
+     * Reads only latency of operations, the rest of results may come from another version.
+     */
+    static Map<String, OperationLatency> readBaseline(Path path) {
+        ObjectMapper mapper = SwaggerCoverage2ModelJackson.createJsonMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        Map<String, OperationLatency> latencies = new HashMap<>();
+        try {
+            JsonNode operations = mapper.readTree(path.toFile()).path("operations");
+            Iterator<Map.Entry<String, JsonNode>> fields = operations.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> operation = fields.next();
+                JsonNode latency = operation.getValue().get("latency");
+                if (latency != null && !latency.isNull()) {
+                    latencies.put(operation.getKey(), mapper.treeToValue(latency, OperationLatency.class));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read baseline " + path, e);
+        }
+        return latencies;
+    }
+}
@@ -29,6 +29,7 @@ public class TagStatisticsBuilder extends StatisticsOperationPostBuilder {
     private static final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     private Map<OperationKey, List<String>> operationToTag;
+    private List<Tag> tags;
 
     private Map<String, TagCoverage> tagCoverageMap;
     private CoverageCounter tagCounter = new CoverageCounter();
@@ -38,10 +39,7 @@ public class TagStatisticsBuilder extends StatisticsOperationPostBuilder {
     public TagStatisticsBuilder configure(OpenAPI swagger, List<ConditionRule> rules) {
         OperationsHolder operations = SwaggerSpecificationProcessor.extractOperation(swagger);
 
-        tagCoverageMap = ofNullable(swagger.getTags())
-                .orElse(emptyList())
-                .stream()
-                .collect(toMap(Tag::getName, TagCoverage::new));
+        tags = ofNullable(swagger.getTags()).orElse(emptyList());
 
         operationToTag = operations.getOperations()
                 .entrySet()
@@ -49,19 +47,25 @@ public class TagStatisticsBuilder extends StatisticsOperationPostBuilder {
                 .filter(entry -> entry.getValue().getTags() != null)
                 .collect(toMap(Map.Entry::getKey, entry -> entry.getValue().getTags()));
 
-        operationToTag.forEach((key, value) -> value.stream()
-                .filter(tag -> tagCoverageMap.containsKey(tag))
-                .forEach(tag -> tagCoverageMap.get(tag).addOperation(key)));
-
         return this;
     }
 
     @Override
     public void build(Results results, Configuration configuration) {
         this.excludedOperations = configuration.getExcludedOperations();
+        initTagCoverage();
         super.build(results, configuration);
     }
 
+    private void initTagCoverage() {
+        tagCounter = new CoverageCounter();
+        tagCoverageMap = tags.stream().collect(toMap(Tag::getName, TagCoverage::new));
+
+        operationToTag.forEach((key, value) -> value.stream()
+                .filter(tag -> tagCoverageMap.containsKey(tag))
+                .forEach(tag -> tagCoverageMap.get(tag).addOperation(key)));
+    }
+
     @Override
     public void buildOperation(OperationKey operation, OperationResult operationResult) {
         // Skip statistics if operation is excluded
@@ -26,6 +26,9 @@ public class ZeroCallStatisticsBuilder extends StatisticsOperationPostBuilder {
     @Override
     public void build(Results results, Configuration configuration) {
         this.excludedOperations = configuration.getExcludedOperations();
+        this.zeroCall = new HashSet<>();
+        this.excludedOperationKeys = new HashSet<>();
+        this.excludedCount = 0;
         super.build(results, configuration);
     }
 
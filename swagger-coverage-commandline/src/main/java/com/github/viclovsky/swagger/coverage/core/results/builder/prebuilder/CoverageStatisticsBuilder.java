@@ -2,6 +2,7 @@ package com.github.viclovsky.swagger.coverage.core.results.builder.prebuilder;
 
 import com.github.viclovsky.swagger.coverage.configuration.Configuration;
 import com.github.viclovsky.swagger.coverage.core.generator.OperationConditionGenerator;
+import com.github.viclovsky.swagger.coverage.core.generator.OperationRouter;
 import com.github.viclovsky.swagger.coverage.core.generator.SwaggerSpecificationProcessor;
 import com.github.viclovsky.swagger.coverage.core.model.Condition;
 import com.github.viclovsky.swagger.coverage.core.model.ConditionOperationCoverage;
@@ -16,56 +17,82 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.AntPathMatcher;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.TreeMap;
-import java.util.function.Predicate;
 
 public class CoverageStatisticsBuilder extends StatisticsPreBuilder {
     private static final Logger LOGGER = LoggerFactory.getLogger(CoverageStatisticsBuilder.class);
 
     private Map<OperationKey, ConditionOperationCoverage> mainCoverageData;
+    private OperationRouter router;
     private Map<OperationKey, Operation> missed = new TreeMap<>();
     private Map<OperationKey, Operation> deprecated = new TreeMap<>();
 
     @Override
     public CoverageStatisticsBuilder configure(OpenAPI swagger, List<ConditionRule> rules) {
         mainCoverageData = OperationConditionGenerator.getOperationMap(swagger, rules);
+        router = new OperationRouter(mainCoverageData.keySet());
         return this;
     }
 
     @Override
     public CoverageStatisticsBuilder add(OpenAPI swagger) {
+        route(swagger).forEach(this::evaluate);
+        return this;
+    }
+
+    /**
+     * Finds operations of specification for operations of a capture, calls of unknown operations are kept as missed.
+     * Router is immutable, so captures can be routed by several threads.
+     */
+    public List<RoutedCall> route(OpenAPI swagger) {
         OperationsHolder operations = SwaggerSpecificationProcessor.extractOperation(swagger);
+        List<RoutedCall> routed = new ArrayList<>(operations.getOperations().size());
 
         operations.getOperations().forEach((key, value) -> {
-            LOGGER.info(String.format("==  process result [%s]", key));
-
-            Optional<OperationKey> keyOptional = mainCoverageData.keySet().stream()
-                    .filter(equalsOperationKeys(key)).findFirst();
-
-            if (keyOptional.isPresent()) {
-                mainCoverageData.get(keyOptional.get())
-                        .increaseProcessCount()
-                        .getConditions()
-                        .stream()
-                        .filter(Condition::isNeedCheck)
-                        .forEach(condition -> condition.check(value));
+            LOGGER.debug("==  process result [{}]", key);
+
+            OperationKey specKey = router.route(key);
+
+            if (specKey != null) {
+                renamePathParams(key.getPath(), specKey.getPath(), value);
+                routed.add(new RoutedCall(specKey, value));
             } else {
-                LOGGER.info(String.format("Missed request [%s]", key));
-                missed.put(key, value);
+                LOGGER.debug("Missed request [{}]", key);
+                synchronized (missed) {
+                    missed.put(key, value);
+                }
             }
         });
-        return this;
+        return routed;
+    }
+
+    /**
+     * Path params of a call routed by template of other names, e.g. {@code /pet/{id}} of a traced server,
+     * get names of the specification.
+     */
+    private static void renamePathParams(String called, String specification, Operation call) {
+        if (call.getParameters() == null || called.indexOf('{') < 0 || called.equals(specification)) {
+            return;
+        }
+        Map<String, String> names = OperationRouter.paramNames(called, specification);
+        call.getParameters().stream()
+                .filter(parameter -> "path".equals(parameter.getIn()) && names.containsKey(parameter.getName()))
+                .forEach(parameter -> parameter.setName(names.get(parameter.getName())));
     }
 
-    private static Predicate<OperationKey> equalsOperationKeys(OperationKey operationKey) {
-        return p -> (p.getHttpMethod() == operationKey.getHttpMethod())
-                && new AntPathMatcher().match(p.getPath(), operationKey.getPath());
+    /**
+     * Checks conditions, latency and payload of an operation with a routed call.
+     * Calls of the same operation must not be evaluated concurrently.
+     */
+    public void evaluate(RoutedCall call) {
+        ConditionOperationCoverage coverage = mainCoverageData.get(call.getOperationKey()).check(call.getOperation());
+        coverage.getLatency().record(call.getOperation());
+        coverage.getPayload().record(call.getOperation());
     }
 
     @Override
@@ -75,11 +102,16 @@ public class CoverageStatisticsBuilder extends StatisticsPreBuilder {
 
         mainCoverageData.forEach((key, value) -> {
             value.getConditions().stream().filter(Condition::isHasPostCheck).forEach(Condition::postCheck);
+            for (int id = 0; id < value.getConditions().size(); id++) {
+                value.getConditions().get(id).setHits(value.getHits(id));
+            }
 
             operations.put(key, new OperationResult(configuration, value.getConditions(), value.getOperation().getDeprecated())
                     .setProcessCount(value.getProcessCount())
                     .setDescription(value.getOperation().getDescription())
                     .setOperationKey(key)
+                    .setLatency(value.getLatency().hasValues() ? value.getLatency() : null)
+                    .setPayload(value.getPayload().hasValues() ? value.getPayload() : null)
             );
 
             if (value.getOperation().getDeprecated() != null && value.getOperation().getDeprecated()) {
@@ -95,9 +127,35 @@ public class CoverageStatisticsBuilder extends StatisticsPreBuilder {
             );
         });
 
+        Map<OperationKey, Operation> missedOperations;
+        synchronized (missed) {
+            missedOperations = new TreeMap<>(missed);
+        }
         results.setOperations(operations)
-                .setMissed(missed)
-                .setDeprecated(deprecated)
+                .setMissed(missedOperations)
+                .setDeprecated(new TreeMap<>(deprecated))
                 .setConditionStatisticsMap(conditionStatisticsMap);
     }
+
+    /**
+     * Call of a capture together with the operation of specification it is routed to.
+     */
+    public static class RoutedCall {
+
+        private final OperationKey operationKey;
+        private final Operation operation;
+
+        public RoutedCall(OperationKey operationKey, Operation operation) {
+            this.operationKey = operationKey;
+            this.operation = operation;
+        }
+
+        public OperationKey getOperationKey() {
+            return operationKey;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+    }
 }
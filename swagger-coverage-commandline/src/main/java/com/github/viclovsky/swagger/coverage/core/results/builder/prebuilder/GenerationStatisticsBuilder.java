@@ -54,10 +54,31 @@ public class GenerationStatisticsBuilder extends StatisticsPreBuilder {
         return this;
     }
 
+    /**
+     * Capture of a file is dated by the file.
+     */
+    @Override
+    public GenerationStatisticsBuilder add(String path, OpenAPI operations) {
+        return add(path);
+    }
+
+    @Override
+    public GenerationStatisticsBuilder add(OpenAPI operations) {
+        // in-memory captures have no file, use the moment they were received instead
+        FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+        if (minResultTime == null) {
+            minResultTime = now;
+        }
+        maxResultTime = now;
+        return this;
+    }
+
     @Override
     public void build(Results results, Configuration configuration) {
         final long duration = System.currentTimeMillis() - startTime;
-        final String resultDateDuration = DateTimeUtil.formatDate(minResultTime.toInstant())
+        final String resultDateDuration = minResultTime == null
+                ? ""
+                : DateTimeUtil.formatDate(minResultTime.toInstant())
                 + " - "
                 + DateTimeUtil.formatDate(maxResultTime.toInstant());
 
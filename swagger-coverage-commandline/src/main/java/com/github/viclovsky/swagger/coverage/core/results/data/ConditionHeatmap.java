@@ -0,0 +1,59 @@
+package com.github.viclovsky.swagger.coverage.core.results.data;
+
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hits of conditions per called operation, in the order of operation conditions.
+ * Conditions covered by a single call are listed separately, they often depend on one flaky test.
+ */
+public class ConditionHeatmap {
+
+    private long maxHits = 0;
+    private Map<OperationKey, long[]> operations = new TreeMap<>();
+    private List<ConditionStatisticsItem> singleHit = new ArrayList<>();
+
+    public ConditionHeatmap addOperation(OperationKey operation, long[] hits) {
+        operations.put(operation, hits);
+        for (long hit : hits) {
+            maxHits = Math.max(maxHits, hit);
+        }
+        return this;
+    }
+
+    public ConditionHeatmap addSingleHit(ConditionStatisticsItem item) {
+        singleHit.add(item);
+        return this;
+    }
+
+    public long getMaxHits() {
+        return maxHits;
+    }
+
+    public ConditionHeatmap setMaxHits(long maxHits) {
+        this.maxHits = maxHits;
+        return this;
+    }
+
+    public Map<OperationKey, long[]> getOperations() {
+        return operations;
+    }
+
+    public ConditionHeatmap setOperations(Map<OperationKey, long[]> operations) {
+        this.operations = operations;
+        return this;
+    }
+
+    public List<ConditionStatisticsItem> getSingleHit() {
+        return singleHit;
+    }
+
+    public ConditionHeatmap setSingleHit(List<ConditionStatisticsItem> singleHit) {
+        this.singleHit = singleHit;
+        return this;
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.viclovsky.swagger.coverage.core.results.data;
+
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+
+/**
+ * Operation which got slower or fails more often than in the baseline run.
+ */
+public class LatencyRegression {
+
+    public enum Kind {
+        P95,
+        ERROR_SHARE
+    }
+
+    private OperationKey operation;
+    private Kind kind;
+    private double baseline;
+    private double current;
+    /**
+     * p-value of the test, chance to see such difference without a regression
+     */
+    private double probability;
+
+    public LatencyRegression() {
+    }
+
+    public LatencyRegression(OperationKey operation, Kind kind, double baseline, double current, double probability) {
+        this.operation = operation;
+        this.kind = kind;
+        this.baseline = baseline;
+        this.current = current;
+        this.probability = probability;
+    }
+
+    public OperationKey getOperation() {
+        return operation;
+    }
+
+    public LatencyRegression setOperation(OperationKey operation) {
+        this.operation = operation;
+        return this;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public LatencyRegression setKind(Kind kind) {
+        this.kind = kind;
+        return this;
+    }
+
+    public double getBaseline() {
+        return baseline;
+    }
+
+    public LatencyRegression setBaseline(double baseline) {
+        this.baseline = baseline;
+        return this;
+    }
+
+    public double getCurrent() {
+        return current;
+    }
+
+    public LatencyRegression setCurrent(double current) {
+        this.current = current;
+        return this;
+    }
+
+    public double getProbability() {
+        return probability;
+    }
+
+    public LatencyRegression setProbability(double probability) {
+        this.probability = probability;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return operation + " " + kind + ": " + baseline + " -> " + current + " (p=" + probability + ")";
+    }
+}
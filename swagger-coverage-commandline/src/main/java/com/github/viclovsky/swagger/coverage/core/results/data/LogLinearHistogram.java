@@ -0,0 +1,210 @@
+package com.github.viclovsky.swagger.coverage.core.results.data;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Histogram of non-negative values with fixed memory, e.g. response times in milliseconds or body sizes in bytes.
+ * <p>
+ * Values below 16 have own buckets, larger values are grouped by power of two and every power is split into
+ * 16 linear buckets, so a percentile is off by less than 1/16 of its value. Values of 2^(maxExponent + 1) and above
+ * share the last bucket, {@link #latency()} ends at 2^25 ms (about 9 hours) and {@link #bytes()} at 2^37 bytes.
+ * Bucket boundaries do not depend on the range, so histograms are merged by adding counts.
+ * Counts are allocated up to the largest recorded bucket, an empty histogram has none.
+ */
+public class LogLinearHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final long[] EMPTY = new long[0];
+
+    public static final int LATENCY_MAX_EXPONENT = 24;
+    public static final int BYTES_MAX_EXPONENT = 36;
+
+    private int maxExponent = BYTES_MAX_EXPONENT;
+    private long[] counts = EMPTY;
+    private long count = 0;
+    private long sum = 0;
+    private long max = 0;
+
+    /**
+     * Histogram of response times in milliseconds.
+     */
+    public static LogLinearHistogram latency() {
+        return new LogLinearHistogram().setMaxExponent(LATENCY_MAX_EXPONENT);
+    }
+
+    /**
+     * Histogram of body sizes in bytes.
+     */
+    public static LogLinearHistogram bytes() {
+        return new LogLinearHistogram().setMaxExponent(BYTES_MAX_EXPONENT);
+    }
+
+    public LogLinearHistogram record(long value) {
+        long recorded = Math.max(value, 0);
+        increment(index(recorded, maxExponent), 1);
+        count++;
+        sum += recorded;
+        max = Math.max(max, recorded);
+        return this;
+    }
+
+    /**
+     * Adds counts of other histogram, its buckets above the range of this one are added to the last bucket.
+     */
+    public LogLinearHistogram merge(LogLinearHistogram other) {
+        int last = buckets(maxExponent) - 1;
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] > 0) {
+                increment(Math.min(i, last), other.counts[i]);
+            }
+        }
+        count += other.count;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    private void increment(int bucket, long value) {
+        if (bucket >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.min(Math.max(bucket + 1, counts.length * 2), buckets(maxExponent)));
+        }
+        counts[bucket] += value;
+    }
+
+    /**
+     * @return number of allocated buckets, buckets from this index on are empty
+     */
+    public int size() {
+        return counts.length;
+    }
+
+    /**
+     * @param quantile from 0 to 1
+     * @return upper bound of bucket with the value of quantile, never above the max value
+     */
+    public long percentile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @return number of values in bucket
+     */
+    public long getCount(int bucket) {
+        return bucket < counts.length ? counts[bucket] : 0;
+    }
+
+    static int buckets(int maxExponent) {
+        return SUB_BUCKETS + (maxExponent - SUB_BITS + 1) * SUB_BUCKETS;
+    }
+
+    static int index(long value, int maxExponent) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > maxExponent) {
+            return buckets(maxExponent) - 1;
+        }
+        int sub = (int) (value >>> (exponent - SUB_BITS)) - SUB_BUCKETS;
+        return SUB_BUCKETS + (exponent - SUB_BITS) * SUB_BUCKETS + sub;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub) << shift;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        return lowerBound(index) + (1L << shift) - 1;
+    }
+
+    public int getMaxExponent() {
+        return maxExponent;
+    }
+
+    public LogLinearHistogram setMaxExponent(int maxExponent) {
+        this.maxExponent = maxExponent;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public LogLinearHistogram setCount(long count) {
+        this.count = count;
+        return this;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public LogLinearHistogram setSum(long sum) {
+        this.sum = sum;
+        return this;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public LogLinearHistogram setMax(long max) {
+        this.max = max;
+        return this;
+    }
+
+    public long getP50() {
+        return percentile(0.5);
+    }
+
+    public long getP95() {
+        return percentile(0.95);
+    }
+
+    public long getP99() {
+        return percentile(0.99);
+    }
+
+    /**
+     * Non empty buckets by index, the form of histogram in json results.
+     */
+    public Map<Integer, Long> getBuckets() {
+        Map<Integer, Long> buckets = new TreeMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                buckets.put(i, counts[i]);
+            }
+        }
+        return buckets;
+    }
+
+    public LogLinearHistogram setBuckets(Map<Integer, Long> buckets) {
+        counts = EMPTY;
+        int last = buckets(maxExponent) - 1;
+        buckets.forEach((index, value) -> increment(Math.min(index, last), value));
+        return this;
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.viclovsky.swagger.coverage.core.results.data;
+
+import com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants;
+import io.swagger.v3.oas.models.Operation;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Response times of calls of an operation in milliseconds, for all calls and per response status.
+ * Calls captured without response time are not counted. Histograms are created with the first recorded time,
+ * {@link #getAll()} is {@code null} until then.
+ */
+public class OperationLatency {
+
+    private LogLinearHistogram all;
+    private Map<String, LogLinearHistogram> statuses = new TreeMap<>();
+
+    public OperationLatency record(Operation call) {
+        if (call.getExtensions() == null) {
+            return this;
+        }
+        Object time = call.getExtensions().get(SwaggerCoverageConstants.RESPONSE_TIME_EXTENSION);
+        if (time instanceof Number) {
+            record(status(call), ((Number) time).longValue());
+        }
+        return this;
+    }
+
+    public OperationLatency record(String status, long millis) {
+        if (all == null) {
+            all = LogLinearHistogram.latency();
+        }
+        all.record(millis);
+        if (status != null) {
+            statuses.computeIfAbsent(status, key -> LogLinearHistogram.latency()).record(millis);
+        }
+        return this;
+    }
+
+    public OperationLatency merge(OperationLatency other) {
+        if (other.all != null) {
+            if (all == null) {
+                all = LogLinearHistogram.latency();
+            }
+            all.merge(other.all);
+        }
+        other.statuses.forEach((status, histogram) ->
+                statuses.computeIfAbsent(status, key -> LogLinearHistogram.latency()).merge(histogram));
+        return this;
+    }
+
+    /**
+     * @return true if some time was recorded
+     */
+    public boolean hasValues() {
+        return all != null;
+    }
+
+    private static String status(Operation call) {
+        if (call.getResponses() == null || call.getResponses().isEmpty()) {
+            return null;
+        }
+        return call.getResponses().keySet().iterator().next();
+    }
+
+    public LogLinearHistogram getAll() {
+        return all;
+    }
+
+    public OperationLatency setAll(LogLinearHistogram all) {
+        this.all = all;
+        return this;
+    }
+
+    public Map<String, LogLinearHistogram> getStatuses() {
+        return statuses;
+    }
+
+    public OperationLatency setStatuses(Map<String, LogLinearHistogram> statuses) {
+        this.statuses = statuses;
+        return this;
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.viclovsky.swagger.coverage.core.results.data;
+
+import com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants;
+import io.swagger.v3.oas.models.Operation;
+
+/**
+ * Body sizes of calls of an operation in bytes. Calls captured without size, e.g. requests without body, are not counted.
+ * Histograms are created with the first recorded size and are {@code null} until then.
+ */
+public class OperationPayload {
+
+    private LogLinearHistogram request;
+    private LogLinearHistogram response;
+
+    public OperationPayload record(Operation call) {
+        if (call.getExtensions() == null) {
+            return this;
+        }
+        request = record(request, call.getExtensions().get(SwaggerCoverageConstants.REQUEST_SIZE_EXTENSION));
+        response = record(response, call.getExtensions().get(SwaggerCoverageConstants.RESPONSE_SIZE_EXTENSION));
+        return this;
+    }
+
+    private static LogLinearHistogram record(LogLinearHistogram histogram, Object size) {
+        if (!(size instanceof Number)) {
+            return histogram;
+        }
+        LogLinearHistogram recorded = histogram == null ? LogLinearHistogram.bytes() : histogram;
+        return recorded.record(((Number) size).longValue());
+    }
+
+    public OperationPayload merge(OperationPayload other) {
+        request = merge(request, other.request);
+        response = merge(response, other.response);
+        return this;
+    }
+
+    private static LogLinearHistogram merge(LogLinearHistogram histogram, LogLinearHistogram other) {
+        if (other == null) {
+            return histogram;
+        }
+        return (histogram == null ? LogLinearHistogram.bytes() : histogram).merge(other);
+    }
+
+    /**
+     * @return true if some size was recorded
+     */
+    public boolean hasValues() {
+        return request != null || response != null;
+    }
+
+    public LogLinearHistogram getRequest() {
+        return request;
+    }
+
+    public OperationPayload setRequest(LogLinearHistogram request) {
+        this.request = request;
+        return this;
+    }
+
+    public LogLinearHistogram getResponse() {
+        return response;
+    }
+
+    public OperationPayload setResponse(LogLinearHistogram response) {
+        this.response = response;
+        return this;
+    }
+}
@@ -17,6 +17,8 @@ public class OperationResult {
     private String description;
     private CoverageState state;
     private boolean deprecated;
+    private OperationLatency latency;
+    private OperationPayload payload;
 
     public OperationResult(Configuration configuration, List<Condition> conditions, Boolean isDeprecated) {
         this.conditions = conditions;
@@ -100,6 +102,24 @@ public class OperationResult {
         return this;
     }
 
+    public OperationLatency getLatency() {
+        return latency;
+    }
+
+    public OperationResult setLatency(OperationLatency latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public OperationPayload getPayload() {
+        return payload;
+    }
+
+    public OperationResult setPayload(OperationPayload payload) {
+        this.payload = payload;
+        return this;
+    }
+
     public List<Condition> getConditions() {
         return conditions;
     }
@@ -0,0 +1,74 @@
+package com.github.viclovsky.swagger.coverage.core.results.util;
+
+import com.github.viclovsky.swagger.coverage.core.results.data.LogLinearHistogram;
+
+/**
+ * One-sided tests of current run against baseline, a small p-value means the current run is worse by chance rarely.
+ */
+public class HistogramComparison {
+
+    private HistogramComparison() {
+    }
+
+    /**
+     * Mann-Whitney U test on bucket counts, values of one bucket are ties.
+     *
+     * @return p-value of hypothesis that current values are not larger than baseline values
+     */
+    public static double laterPValue(LogLinearHistogram current, LogLinearHistogram baseline) {
+        double n1 = 0;
+        double n2 = 0;
+        double u = 0;
+        double ties = 0;
+        int buckets = Math.max(current.size(), baseline.size());
+        for (int i = 0; i < buckets; i++) {
+            double a = current.getCount(i);
+            double b = baseline.getCount(i);
+            u += a * (n2 + b / 2);
+            n1 += a;
+            n2 += b;
+            double t = a + b;
+            ties += t * t * t - t;
+        }
+        if (n1 == 0 || n2 == 0) {
+            return 1;
+        }
+        double n = n1 + n2;
+        double variance = n1 * n2 / 12 * ((n + 1) - ties / (n * (n - 1)));
+        if (variance <= 0) {
+            return 1;
+        }
+        double z = (u - n1 * n2 / 2 - 0.5) / Math.sqrt(variance);
+        return 1 - normalCdf(z);
+    }
+
+    /**
+     * Two-proportion z-test with pooled variance.
+     *
+     * @return p-value of hypothesis that current share of errors is not larger than baseline share
+     */
+    public static double largerSharePValue(long currentErrors, long currentCalls, long baselineErrors, long baselineCalls) {
+        if (currentCalls == 0 || baselineCalls == 0) {
+            return 1;
+        }
+        double current = (double) currentErrors / currentCalls;
+        double baseline = (double) baselineErrors / baselineCalls;
+        double pooled = (double) (currentErrors + baselineErrors) / (currentCalls + baselineCalls);
+        double error = Math.sqrt(pooled * (1 - pooled) * (1.0 / currentCalls + 1.0 / baselineCalls));
+        if (error == 0) {
+            return current > baseline ? 0 : 1;
+        }
+        return 1 - normalCdf((current - baseline) / error);
+    }
+
+    /**
+     * Standard normal distribution, Abramowitz and Stegun 7.1.26, error below 1e-7.
+     */
+    static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429)))) * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.viclovsky.swagger.coverage.core.rule.body;
+
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.model.SinglePredicateCondition;
+import com.github.viclovsky.swagger.coverage.core.predicate.BodyVariantConditionPredicate;
+import com.github.viclovsky.swagger.coverage.core.rule.core.ConditionRule;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaMatcher;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Condition for every {@code oneOf}/{@code anyOf} variant of request body schema.
+ * Disabled by default, because calls have to be captured with body properties.
+ */
+public class BodyVariantRule extends ConditionRule {
+
+    @Override
+    public List<Condition> createCondition(Operation operation) {
+        if (operation.getRequestBody() == null || operation.getRequestBody().getContent() == null || schemaIndex == null) {
+            return null;
+        }
+        List<Condition> conditions = new ArrayList<>();
+        for (Map.Entry<String, MediaType> mediaType : operation.getRequestBody().getContent().entrySet()) {
+            if (mediaType.getValue().getSchema() == null) {
+                continue;
+            }
+            SchemaMatcher matcher = schemaIndex.matcher(mediaType.getValue().getSchema());
+            for (int i = 0; i < matcher.getVariants().size(); i++) {
+                conditions.add(new SinglePredicateCondition(
+                        String.format("«%s» body variant «%s»", mediaType.getKey(), matcher.getVariantNames().get(i)),
+                        "",
+                        new BodyVariantConditionPredicate(mediaType.getKey(), matcher, i)
+                ));
+            }
+        }
+        return conditions;
+    }
+
+    @Override
+    public boolean isEnabledByDefault() {
+        return false;
+    }
+
+    @Override
+    public String getId() {
+        return "body-variant";
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.viclovsky.swagger.coverage.core.rule.body;
 
+import com.github.viclovsky.swagger.coverage.JsonBodyPropertyExtractor;
 import com.github.viclovsky.swagger.coverage.core.model.Condition;
 import com.github.viclovsky.swagger.coverage.core.rule.core.ConditionRule;
 import io.swagger.v3.oas.models.Operation;
@@ -28,8 +29,19 @@ public abstract class PropertyConditionRule extends ConditionRule {
         }
     }
 
+    /**
+     * With {@code nested} option nested properties, items of arrays and {@code allOf} parts are flattened by schema
+     * index, nested properties are named by json pointer like {@code /category/name}. Otherwise only top level
+     * properties of inline schema get conditions.
+     */
     private Stream<Condition> processMediaType(String mediaTypeName, MediaType mediaType) {
-        if (mediaType.getSchema() != null && mediaType.getSchema().getProperties() != null) {
+        if (mediaType.getSchema() != null && schemaIndex != null && options != null && options.isNested()) {
+            return schemaIndex.flatten(mediaType.getSchema()).entrySet()
+                    .stream()
+                    .map(s -> processProperty(mediaTypeName, JsonBodyPropertyExtractor.propertyName(s.getKey()),
+                            schemaIndex.resolve(s.getValue())))
+                    .filter(Objects::nonNull);
+        } else if (mediaType.getSchema() != null && mediaType.getSchema().getProperties() != null) {
             return ((Set<Map.Entry<String, Schema>>) mediaType.getSchema().getProperties().entrySet())
                     .stream()
                     .map(s -> processProperty(mediaTypeName, s.getKey(), s.getValue()))
@@ -2,12 +2,14 @@ package com.github.viclovsky.swagger.coverage.core.rule.core;
 
 import com.github.viclovsky.swagger.coverage.configuration.options.RuleConfigurationOptions;
 import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaIndex;
 import io.swagger.v3.oas.models.Operation;
 
 import java.util.List;
 
 public abstract class ConditionRule {
     protected RuleConfigurationOptions options;
+    protected SchemaIndex schemaIndex;
 
     public abstract String getId();
 
@@ -17,4 +19,19 @@ public abstract class ConditionRule {
         this.options = options;
         return this;
     }
+
+    /**
+     * Schemas of specification, set before conditions are created.
+     */
+    public ConditionRule setSchemaIndex(SchemaIndex schemaIndex) {
+        this.schemaIndex = schemaIndex;
+        return this;
+    }
+
+    /**
+     * Rule is used if configuration does not mention it.
+     */
+    public boolean isEnabledByDefault() {
+        return true;
+    }
 }
@@ -0,0 +1,78 @@
+package com.github.viclovsky.swagger.coverage.core.rule.response;
+
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.rule.core.ConditionRule;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaMatcher;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base rule for properties of response bodies. Responses are filtered by status like in status rule.
+ * Disabled by default, because calls have to be captured with response properties.
+ */
+public abstract class ResponseConditionRule extends ConditionRule {
+
+    protected abstract List<Condition> processResponse(String status, SchemaMatcher matcher);
+
+    @Override
+    public List<Condition> createCondition(Operation operation) {
+        if (operation.getResponses() == null || schemaIndex == null) {
+            return null;
+        }
+        List<Condition> conditions = new ArrayList<>();
+        operation.getResponses().forEach((status, response) -> {
+            Schema schema = responseSchema(response);
+            if (schema != null && !skip(status)) {
+                conditions.addAll(processResponse(status, schemaIndex.matcher(schema)));
+            }
+        });
+        return conditions;
+    }
+
+    @Override
+    public boolean isEnabledByDefault() {
+        return false;
+    }
+
+    protected boolean skip(String status) {
+        if ("default".equals(status)) {
+            return true;
+        }
+        if (this.options == null) {
+            return false;
+        }
+        if (this.options.getFilter() != null
+                && !this.options.getFilter().isEmpty()
+                && !this.options.getFilter().contains(status)
+        ) {
+            return true;
+        }
+
+        return this.options.getIgnore() != null
+                && !this.options.getIgnore().isEmpty()
+                && this.options.getIgnore().contains(status);
+    }
+
+    private static Schema responseSchema(ApiResponse response) {
+        if (response == null || response.getContent() == null) {
+            return null;
+        }
+        Schema schema = null;
+        for (Map.Entry<String, MediaType> mediaType : response.getContent().entrySet()) {
+            Schema candidate = mediaType.getValue().getSchema();
+            if (candidate != null && mediaType.getKey().toLowerCase().contains("json")) {
+                return candidate;
+            }
+            if (schema == null) {
+                schema = candidate;
+            }
+        }
+        return schema;
+    }
+}
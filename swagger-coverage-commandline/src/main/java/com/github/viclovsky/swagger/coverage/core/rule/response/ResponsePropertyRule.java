@@ -0,0 +1,28 @@
+package com.github.viclovsky.swagger.coverage.core.rule.response;
+
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.model.SinglePredicateCondition;
+import com.github.viclovsky.swagger.coverage.core.predicate.ResponsePropertyConditionPredicate;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaMatcher;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ResponsePropertyRule extends ResponseConditionRule {
+
+    @Override
+    protected List<Condition> processResponse(String status, SchemaMatcher matcher) {
+        return matcher.getProperties().keySet().stream()
+                .map(name -> new SinglePredicateCondition(
+                        String.format("«%s» response property «%s»", status, name),
+                        "",
+                        new ResponsePropertyConditionPredicate(status, name)
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String getId() {
+        return "response-property";
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.viclovsky.swagger.coverage.core.rule.response;
+
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.model.SinglePredicateCondition;
+import com.github.viclovsky.swagger.coverage.core.predicate.ResponseVariantConditionPredicate;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResponseVariantRule extends ResponseConditionRule {
+
+    @Override
+    protected List<Condition> processResponse(String status, SchemaMatcher matcher) {
+        List<Condition> conditions = new ArrayList<>();
+        for (int i = 0; i < matcher.getVariants().size(); i++) {
+            conditions.add(new SinglePredicateCondition(
+                    String.format("«%s» response variant «%s»", status, matcher.getVariantNames().get(i)),
+                    "",
+                    new ResponseVariantConditionPredicate(status, matcher, i)
+            ));
+        }
+        return conditions;
+    }
+
+    @Override
+    public String getId() {
+        return "response-variant";
+    }
+}
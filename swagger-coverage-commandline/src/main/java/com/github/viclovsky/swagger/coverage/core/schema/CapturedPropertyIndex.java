@@ -0,0 +1,51 @@
+package com.github.viclovsky.swagger.coverage.core.schema;
+
+import com.github.viclovsky.swagger.coverage.JsonBodyPropertyExtractor;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Properties of captured body keyed by property name, json pointer for nested ones.
+ * <p>
+ * All property conditions of an operation check the same captured schema one after another,
+ * so the index of the last schema is kept per thread and built once per call.
+ */
+public final class CapturedPropertyIndex {
+
+    private static final ThreadLocal<CapturedPropertyIndex> LAST = new ThreadLocal<>();
+
+    private final Schema schema;
+    private final Map<String, Schema> properties = new HashMap<>();
+
+    private CapturedPropertyIndex(Schema schema) {
+        this.schema = schema;
+        index(schema, new ArrayList<>(), 0);
+    }
+
+    public static Map<String, Schema> of(Schema schema) {
+        CapturedPropertyIndex last = LAST.get();
+        if (last == null || last.schema != schema) {
+            last = new CapturedPropertyIndex(schema);
+            LAST.set(last);
+        }
+        return last.properties;
+    }
+
+    private void index(Schema parent, List<String> path, int depth) {
+        if (parent.getProperties() == null || depth > SchemaIndex.MAX_DEPTH) {
+            return;
+        }
+        ((Map<String, Schema>) parent.getProperties()).forEach((name, property) -> {
+            path.add(name);
+            properties.put(JsonBodyPropertyExtractor.propertyName(path), property);
+            if (property != null) {
+                index(property, path, depth + 1);
+            }
+            path.remove(path.size() - 1);
+        });
+    }
+}
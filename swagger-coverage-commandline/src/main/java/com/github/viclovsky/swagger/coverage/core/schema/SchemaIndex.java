@@ -0,0 +1,212 @@
+package com.github.viclovsky.swagger.coverage.core.schema;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Component schemas of specification and matchers compiled from them.
+ * <p>
+ * Matcher of a {@code $ref} is compiled once per depth and shared by conditions of all operations which use
+ * the component, so checking a call does not walk the schema tree of specification. Recursive schemas are cut at
+ * {@link #MAX_DEPTH}, so a matcher depends on the depth it is compiled at and depth is part of its key.
+ * Flattened properties are memoised per {@code $ref} only when the {@code $ref} is flattened itself: nested
+ * references are cut by cycles of the walk which reached them, so they are not reused.
+ */
+public class SchemaIndex {
+
+    public static final int MAX_DEPTH = 16;
+
+    private final Map<String, Schema> schemas;
+    private final Map<String, SchemaMatcher[]> matchers = new ConcurrentHashMap<>();
+    private final Map<String, Map<List<String>, Schema>> flattened = new ConcurrentHashMap<>();
+
+    public SchemaIndex(OpenAPI specification) {
+        if (specification != null && specification.getComponents() != null
+                && specification.getComponents().getSchemas() != null) {
+            this.schemas = specification.getComponents().getSchemas();
+        } else {
+            this.schemas = Collections.emptyMap();
+        }
+    }
+
+    public Schema resolve(Schema schema) {
+        Schema resolved = schema;
+        int depth = 0;
+        while (resolved != null && resolved.get$ref() != null && depth++ < MAX_DEPTH) {
+            resolved = schemas.get(simpleName(resolved.get$ref()));
+        }
+        return resolved;
+    }
+
+    public SchemaMatcher matcher(Schema schema) {
+        return matcher(schema, 0);
+    }
+
+    /**
+     * All properties of schema with their paths: nested objects, items of arrays and {@code allOf} parts included.
+     * Items of arrays do not add a segment to the path, like in captured bodies.
+     */
+    public Map<List<String>, Schema> flatten(Schema schema) {
+        return flatten(schema, 0, new HashSet<>());
+    }
+
+    /**
+     * @return number of compiled {@code $ref} matchers
+     */
+    public int size() {
+        return matchers.size();
+    }
+
+    public static String simpleName(String ref) {
+        return ref.substring(ref.lastIndexOf('/') + 1);
+    }
+
+    private SchemaMatcher matcher(Schema schema, int depth) {
+        if (schema == null || depth > MAX_DEPTH) {
+            return SchemaMatcher.EMPTY;
+        }
+        String ref = schema.get$ref();
+        if (ref == null) {
+            return compile(schema, depth);
+        }
+
+        // threads may compile the same matcher, results are equal and either is kept
+        SchemaMatcher[] byDepth = matchers.computeIfAbsent(ref, key -> new SchemaMatcher[MAX_DEPTH + 1]);
+        SchemaMatcher matcher = byDepth[depth];
+        if (matcher == null) {
+            matcher = compile(resolve(schema), depth);
+            byDepth[depth] = matcher;
+        }
+        return matcher;
+    }
+
+    private Map<List<String>, Schema> flatten(Schema schema, int depth, Set<String> visiting) {
+        if (schema == null || depth > MAX_DEPTH) {
+            return Collections.emptyMap();
+        }
+        if (schema instanceof ArraySchema) {
+            return flatten(((ArraySchema) schema).getItems(), depth, visiting);
+        }
+        String ref = schema.get$ref();
+        if (ref == null) {
+            return flattenProperties(schema, depth, visiting);
+        }
+
+        boolean root = depth == 0 && visiting.isEmpty();
+        Map<List<String>, Schema> properties = root ? flattened.get(ref) : null;
+        if (properties == null) {
+            if (!visiting.add(ref)) {
+                return Collections.emptyMap();
+            }
+            properties = Collections.unmodifiableMap(flattenProperties(schema, depth, visiting));
+            visiting.remove(ref);
+            if (root) {
+                Map<List<String>, Schema> previous = flattened.putIfAbsent(ref, properties);
+                if (previous != null) {
+                    properties = previous;
+                }
+            }
+        }
+        return properties;
+    }
+
+    private Map<List<String>, Schema> flattenProperties(Schema schema, int depth, Set<String> visiting) {
+        Map<List<String>, Schema> properties = new LinkedHashMap<>();
+        matcher(schema, depth).getProperties().forEach((name, property) -> {
+            properties.put(Collections.singletonList(name), property);
+            flatten(property, depth + 1, visiting).forEach((path, nested) -> {
+                List<String> nestedPath = new ArrayList<>(path.size() + 1);
+                nestedPath.add(name);
+                nestedPath.addAll(path);
+                properties.put(Collections.unmodifiableList(nestedPath), nested);
+            });
+        });
+        return properties;
+    }
+
+    private SchemaMatcher compile(Schema schema, int depth) {
+        if (schema == null) {
+            return SchemaMatcher.EMPTY;
+        }
+        if (schema instanceof ArraySchema) {
+            return matcher(((ArraySchema) schema).getItems(), depth + 1);
+        }
+
+        Map<String, Schema> properties = new LinkedHashMap<>();
+        Set<String> required = new LinkedHashSet<>();
+        List<String> variantNames = new ArrayList<>();
+        List<SchemaMatcher> variants = new ArrayList<>();
+
+        if (schema.getProperties() != null) {
+            properties.putAll(schema.getProperties());
+        }
+        if (schema.getRequired() != null) {
+            required.addAll(schema.getRequired());
+        }
+
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composed = (ComposedSchema) schema;
+            if (composed.getAllOf() != null) {
+                for (Schema part : composed.getAllOf()) {
+                    SchemaMatcher matcher = matcher(part, depth + 1);
+                    properties.putAll(matcher.getProperties());
+                    required.addAll(matcher.getRequired());
+                    variantNames.addAll(matcher.getVariantNames());
+                    variants.addAll(matcher.getVariants());
+                }
+            }
+            addVariants(composed.getOneOf(), variantNames, variants, depth);
+            addVariants(composed.getAnyOf(), variantNames, variants, depth);
+        }
+
+        Discriminator discriminator = schema.getDiscriminator();
+        if (discriminator == null || discriminator.getPropertyName() == null || variants.isEmpty()) {
+            return new SchemaMatcher(properties, required, variantNames, variants);
+        }
+        return new SchemaMatcher(properties, required, variantNames, variants,
+                discriminator.getPropertyName(), discriminatorIndex(discriminator, variantNames));
+    }
+
+    /**
+     * Values of discriminator property: names of variant schemas, overridden by explicit mapping.
+     */
+    private static Map<String, Integer> discriminatorIndex(Discriminator discriminator, List<String> variantNames) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < variantNames.size(); i++) {
+            index.put(variantNames.get(i), i);
+        }
+        if (discriminator.getMapping() != null) {
+            discriminator.getMapping().forEach((value, ref) -> {
+                int variant = variantNames.indexOf(simpleName(ref));
+                if (variant >= 0) {
+                    index.put(value, variant);
+                }
+            });
+        }
+        return index;
+    }
+
+    private void addVariants(List<Schema> parts, List<String> variantNames, List<SchemaMatcher> variants, int depth) {
+        if (parts == null) {
+            return;
+        }
+        for (Schema part : parts) {
+            variantNames.add(part.get$ref() != null ? simpleName(part.get$ref()) : "#" + variants.size());
+            variants.add(matcher(part, depth + 1));
+        }
+    }
+}
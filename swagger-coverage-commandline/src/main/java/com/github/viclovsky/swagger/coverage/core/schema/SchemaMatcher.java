@@ -0,0 +1,123 @@
+package com.github.viclovsky.swagger.coverage.core.schema;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Schema compiled for checking calls: properties with {@code allOf} parts merged, required properties
+ * and {@code oneOf}/{@code anyOf} variants. Array schemas are compiled to matchers of their items.
+ * <p>
+ * If the schema declares a discriminator, values of discriminator property are mapped to variants when the matcher
+ * is compiled, so a captured call is classified by one lookup.
+ */
+public class SchemaMatcher {
+
+    public static final SchemaMatcher EMPTY = new SchemaMatcher(Collections.emptyMap(), Collections.emptySet(),
+            Collections.emptyList(), Collections.emptyList());
+
+    private final String discriminator;
+    private final Map<String, Integer> discriminatorIndex;
+
+    private final Map<String, Schema> properties;
+    private final Set<String> required;
+    private final List<String> variantNames;
+    private final List<SchemaMatcher> variants;
+
+    public SchemaMatcher(Map<String, Schema> properties, Set<String> required,
+                         List<String> variantNames, List<SchemaMatcher> variants) {
+        this(properties, required, variantNames, variants, null, Collections.emptyMap());
+    }
+
+    public SchemaMatcher(Map<String, Schema> properties, Set<String> required,
+                         List<String> variantNames, List<SchemaMatcher> variants,
+                         String discriminator, Map<String, Integer> discriminatorIndex) {
+        this.discriminator = discriminator;
+        this.discriminatorIndex = Collections.unmodifiableMap(discriminatorIndex);
+        this.properties = Collections.unmodifiableMap(properties);
+        this.required = Collections.unmodifiableSet(required);
+        this.variantNames = Collections.unmodifiableList(variantNames);
+        this.variants = Collections.unmodifiableList(variants);
+    }
+
+    /**
+     * Variant of captured properties: by value of discriminator property if it was captured,
+     * by {@link #matchVariant(Set)} otherwise. Unknown discriminator value matches no variant.
+     *
+     * @return index of variant or -1
+     */
+    public int classify(Map<String, Schema> captured) {
+        if (discriminator != null) {
+            Schema value = captured.get(discriminator);
+            if (value != null && value.getExample() != null) {
+                Integer variant = discriminatorIndex.get(String.valueOf(value.getExample()));
+                return variant == null ? -1 : variant;
+            }
+        }
+        return matchVariant(captured.keySet());
+    }
+
+    /**
+     * Variant which fits the captured properties best: all its required properties are present,
+     * most of the captured properties are declared by it and fewest are not.
+     * Only declared properties of variants are looked up, so cost does not grow with size of captured body.
+     *
+     * @return index of variant or -1
+     */
+    public int matchVariant(Set<String> captured) {
+        int best = -1;
+        int bestScore = Integer.MIN_VALUE;
+        for (int i = 0; i < variants.size(); i++) {
+            SchemaMatcher variant = variants.get(i);
+            if (!captured.containsAll(variant.required)) {
+                continue;
+            }
+            int declared = 0;
+            for (String name : variant.properties.keySet()) {
+                if (captured.contains(name)) {
+                    declared++;
+                }
+            }
+            int score = 2 * declared - captured.size();
+            if (score > bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    public boolean hasVariants() {
+        return !variants.isEmpty();
+    }
+
+    /**
+     * @return name of discriminator property or null
+     */
+    public String getDiscriminator() {
+        return discriminator;
+    }
+
+    public Map<String, Integer> getDiscriminatorIndex() {
+        return discriminatorIndex;
+    }
+
+    public Map<String, Schema> getProperties() {
+        return properties;
+    }
+
+    public Set<String> getRequired() {
+        return required;
+    }
+
+    public List<String> getVariantNames() {
+        return variantNames;
+    }
+
+    public List<SchemaMatcher> getVariants() {
+        return variants;
+    }
+}
@@ -0,0 +1,273 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses one line of access log, lines are given as bytes so chunks of log are never decoded as a whole.
+ * <p>
+ * Two formats are recognized:
+ * <ul>
+ * <li>common or combined format of nginx and Apache, {@code ... "GET /pet?status=sold HTTP/1.1" 200 512 ...},
+ * a number with fraction at the end of line is read as {@code $request_time} in seconds;</li>
+ * <li>json lines with top level fields like {@code method}, {@code uri}, {@code args}, {@code status},
+ * {@code request_time} and {@code body_bytes_sent}, or {@code request} with the request line.</li>
+ * </ul>
+ * Parser keeps no state and can be shared by threads.
+ */
+public class AccessLogParser implements LineParser {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    @Override
+    public CapturedCall parse(byte[] line, int offset, int length) {
+        int from = offset;
+        int to = offset + length;
+        while (from < to && isSpace(line[from])) {
+            from++;
+        }
+        while (to > from && isSpace(line[to - 1])) {
+            to--;
+        }
+        if (from == to) {
+            return null;
+        }
+        return line[from] == '{' ? parseJson(line, from, to) : parseCombined(line, from, to);
+    }
+
+    private CapturedCall parseCombined(byte[] line, int from, int to) {
+        int requestStart = indexOf(line, '"', from, to);
+        if (requestStart < 0) {
+            return null;
+        }
+        int requestEnd = indexOf(line, '"', requestStart + 1, to);
+        if (requestEnd < 0) {
+            return null;
+        }
+        CapturedCall call = parseRequestLine(line, requestStart + 1, requestEnd);
+        if (call == null) {
+            return null;
+        }
+
+        int position = skipSpaces(line, requestEnd + 1, to);
+        int statusEnd = tokenEnd(line, position, to);
+        int status = (int) parseNumber(line, position, statusEnd);
+        if (status < 100) {
+            return null;
+        }
+        call.setStatus(status);
+
+        position = skipSpaces(line, statusEnd, to);
+        int sizeEnd = tokenEnd(line, position, to);
+        call.setResponseSize(parseNumber(line, position, sizeEnd));
+
+        int lastToken = to;
+        while (lastToken > sizeEnd && !isSpace(line[lastToken - 1])) {
+            lastToken--;
+        }
+        if (lastToken > sizeEnd && line[lastToken] != '"') {
+            call.setResponseTime(parseSeconds(line, lastToken, to));
+        }
+        return call;
+    }
+
+    private static CapturedCall parseRequestLine(byte[] line, int from, int to) {
+        int methodEnd = indexOf(line, ' ', from, to);
+        if (methodEnd <= from) {
+            return null;
+        }
+        int targetStart = skipSpaces(line, methodEnd, to);
+        int targetEnd = tokenEnd(line, targetStart, to);
+        if (targetEnd == targetStart) {
+            return null;
+        }
+        return new CapturedCall()
+                .setMethod(ascii(line, from, methodEnd))
+                .setTarget(ascii(line, targetStart, targetEnd));
+    }
+
+    private CapturedCall parseJson(byte[] line, int from, int to) {
+        CapturedCall call = new CapturedCall();
+        String method = null;
+        String target = null;
+        String query = null;
+        String request = null;
+        try (JsonParser parser = FACTORY.createParser(line, from, to - from)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName().toLowerCase();
+                token = parser.nextToken();
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                String value = token == JsonToken.VALUE_NULL ? null : parser.getText();
+                if (value == null || value.isEmpty() || "-".equals(value)) {
+                    continue;
+                }
+                switch (field) {
+                    case "method":
+                    case "request_method":
+                    case "http_method":
+                        method = value;
+                        break;
+                    case "uri":
+                    case "url":
+                    case "path":
+                    case "request_uri":
+                        target = value;
+                        break;
+                    case "query":
+                    case "args":
+                    case "query_string":
+                        query = value;
+                        break;
+                    case "request":
+                        request = value;
+                        break;
+                    case "status":
+                    case "status_code":
+                        call.setStatus((int) parseLong(value));
+                        break;
+                    case "request_time":
+                        call.setResponseTime(secondsToMillis(value));
+                        break;
+                    case "duration_ms":
+                    case "response_time_ms":
+                        call.setResponseTime(parseLong(value));
+                        break;
+                    case "body_bytes_sent":
+                    case "bytes_sent":
+                    case "bytes":
+                        call.setResponseSize(parseLong(value));
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (IOException e) {
+            return null;
+        }
+
+        if (request != null && (method == null || target == null)) {
+            byte[] requestLine = request.getBytes(StandardCharsets.ISO_8859_1);
+            CapturedCall parsed = parseRequestLine(requestLine, 0, requestLine.length);
+            if (parsed != null) {
+                method = method == null ? parsed.getMethod() : method;
+                if (target == null) {
+                    target = parsed.getPath() + (parsed.getQuery() == null ? "" : "?" + parsed.getQuery());
+                }
+            }
+        }
+        if (method == null || target == null || call.getStatus() < 100) {
+            return null;
+        }
+        call.setMethod(method).setTarget(target);
+        if (query != null && call.getQuery() == null) {
+            call.setQuery(query.startsWith("?") ? query.substring(1) : query);
+        }
+        return call;
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static long secondsToMillis(String value) {
+        try {
+            return Math.round(Double.parseDouble(value.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @return number of digits or -1, e.g. for {@code -} of empty body
+     */
+    private static long parseNumber(byte[] line, int from, int to) {
+        if (from == to) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            if (line[i] < '0' || line[i] > '9') {
+                return -1;
+            }
+            value = value * 10 + (line[i] - '0');
+        }
+        return value;
+    }
+
+    /**
+     * @return milliseconds of {@code 0.123} like value, or -1 if token is not a number with fraction
+     */
+    private static long parseSeconds(byte[] line, int from, int to) {
+        int dot = indexOf(line, '.', from, to);
+        if (dot < 0) {
+            return -1;
+        }
+        long seconds = parseNumber(line, from, dot);
+        if (seconds < 0) {
+            return -1;
+        }
+        long millis = 0;
+        int digits = 0;
+        for (int i = dot + 1; i < to; i++) {
+            if (line[i] < '0' || line[i] > '9') {
+                return -1;
+            }
+            if (digits < 3) {
+                millis = millis * 10 + (line[i] - '0');
+                digits++;
+            }
+        }
+        for (; digits < 3; digits++) {
+            millis *= 10;
+        }
+        return seconds * 1000 + millis;
+    }
+
+    private static int indexOf(byte[] line, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (line[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipSpaces(byte[] line, int from, int to) {
+        int i = from;
+        while (i < to && isSpace(line[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int tokenEnd(byte[] line, int from, int to) {
+        int i = from;
+        while (i < to && !isSpace(line[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static String ascii(byte[] line, int from, int to) {
+        return new String(line, from, to - from, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,327 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Adds calls of access logs to {@link CoverageSession}, see {@link AccessLogParser} for the formats.
+ * Other line based files like results of load tests are read with their own {@link LineParser}.
+ * <p>
+ * Plain files are split into chunks which end at line ends and every chunk is parsed by a worker through a
+ * memory-mapped buffer. Gzip files are decompressed by one thread into blocks of whole lines of about
+ * {@link #COMPRESSED_BLOCK_SIZE} (or the chunk size if smaller), which are parsed by workers, at most {@link #MAX_PENDING_BYTES} of them wait in memory.
+ * Parsed calls are passed to the sink in batches by every worker. {@link CoverageSession} evaluates them under its lock,
+ * so workers wait for each other, give its {@link CoverageSession#pipeline()} to parse at full speed.
+ */
+public class AccessLogReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessLogReader.class);
+
+    public static final int DEFAULT_CHUNK_SIZE = 32 * 1024 * 1024;
+    public static final int COMPRESSED_BLOCK_SIZE = 1024 * 1024;
+    public static final int MAX_PENDING_BYTES = 64 * 1024 * 1024;
+
+    private static final int WINDOW_SIZE = 64 * 1024;
+    private static final int BATCH_SIZE = 1024;
+
+    private final CaptureSink sink;
+    private final LineParser parser;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    private final AtomicLong lines = new AtomicLong();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    public AccessLogReader(CaptureSink sink) {
+        this(sink, new AccessLogParser());
+    }
+
+    public AccessLogReader(CaptureSink sink, LineParser parser) {
+        this.sink = sink;
+        this.parser = parser;
+    }
+
+    /**
+     * Reads a log file or all files of a directory, files ending with {@code .gz} or starting with gzip magic
+     * are decompressed.
+     */
+    public AccessLogReader read(Path path) {
+        List<Path> files;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> paths = Files.list(path)) {
+                files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not list logs in " + path, e);
+            }
+        } else {
+            files = Arrays.asList(path);
+        }
+
+        long started = System.nanoTime();
+        long readBefore = bytes.get();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "access-log-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (Path file : files) {
+                if (isGzip(file)) {
+                    readCompressed(file, executor);
+                } else {
+                    readMapped(file, executor);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = Math.max((System.nanoTime() - started) / 1e9, 1e-3);
+        LOGGER.info("Read {} lines of {}, {} calls, {} MB/s", lines.get(), path, calls.get(),
+                String.format("%.1f", (bytes.get() - readBefore) / seconds / (1024 * 1024)));
+        return this;
+    }
+
+    private void readMapped(Path file, ExecutorService executor) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Future<?>> chunks = new ArrayList<>();
+            long start = 0;
+            while (start < size) {
+                long end = start + chunkSize >= size ? size : lineEnd(channel, start + chunkSize, size);
+                ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                chunks.add(executor.submit(() -> parse(chunk)));
+                start = end;
+            }
+            await(chunks);
+            bytes.addAndGet(size);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read log " + file, e);
+        }
+    }
+
+    /**
+     * @return position after the first line end at or after position
+     */
+    private static long lineEnd(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long offset = position;
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    private void readCompressed(Path file, ExecutorService executor) {
+        Semaphore permits = new Semaphore(MAX_PENDING_BYTES);
+        List<Future<?>> blocks = new ArrayList<>();
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file)), WINDOW_SIZE)) {
+            int blockSize = Math.min(chunkSize, COMPRESSED_BLOCK_SIZE);
+            byte[] block = new byte[blockSize];
+            int filled = 0;
+            int read;
+            while ((read = in.read(block, filled, block.length - filled)) >= 0) {
+                filled += read;
+                bytes.addAndGet(read);
+                if (filled < block.length) {
+                    continue;
+                }
+                int lastLine = lastLineEnd(block, filled);
+                if (lastLine < 0) {
+                    block = Arrays.copyOf(block, block.length * 2);
+                    continue;
+                }
+                submit(executor, permits, blocks, ByteBuffer.wrap(block, 0, lastLine));
+                byte[] next = new byte[Math.max(blockSize, 2 * (filled - lastLine))];
+                System.arraycopy(block, lastLine, next, 0, filled - lastLine);
+                filled -= lastLine;
+                block = next;
+            }
+            if (filled > 0) {
+                submit(executor, permits, blocks, ByteBuffer.wrap(block, 0, filled));
+            }
+            await(blocks);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read log " + file, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reading of log " + file + " is interrupted", e);
+        }
+    }
+
+    /**
+     * Waits until pending blocks leave room for this one, a block of a single line longer than the limit waits for all.
+     */
+    private void submit(ExecutorService executor, Semaphore permits, List<Future<?>> blocks, ByteBuffer block)
+            throws InterruptedException {
+        int size = Math.min(block.remaining(), MAX_PENDING_BYTES);
+        permits.acquire(size);
+        blocks.add(executor.submit(() -> {
+            try {
+                parse(block);
+            } finally {
+                permits.release(size);
+            }
+        }));
+    }
+
+    private static int lastLineEnd(byte[] block, int filled) {
+        for (int i = filled - 1; i >= 0; i--) {
+            if (block[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static void await(List<Future<?>> tasks) {
+        try {
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reading of log is interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not parse log", e.getCause());
+        }
+    }
+
+    /**
+     * Parses lines of chunk, lines inside of the read window are parsed in place.
+     */
+    private void parse(ByteBuffer chunk) {
+        byte[] window = new byte[WINDOW_SIZE];
+        byte[] carry = new byte[256];
+        int carried = 0;
+        List<OpenAPI> batch = new ArrayList<>(BATCH_SIZE);
+
+        while (chunk.hasRemaining()) {
+            int length = Math.min(window.length, chunk.remaining());
+            chunk.get(window, 0, length);
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                if (window[i] != '\n') {
+                    continue;
+                }
+                if (carried > 0) {
+                    carry = append(carry, carried, window, start, i - start);
+                    add(batch, carry, 0, carried + i - start);
+                    carried = 0;
+                } else {
+                    add(batch, window, start, i - start);
+                }
+                start = i + 1;
+            }
+            if (start < length) {
+                carry = append(carry, carried, window, start, length - start);
+                carried += length - start;
+            }
+        }
+        if (carried > 0) {
+            add(batch, carry, 0, carried);
+        }
+        flush(batch);
+    }
+
+    private void add(List<OpenAPI> batch, byte[] line, int offset, int length) {
+        lines.incrementAndGet();
+        CapturedCall call = parser.parse(line, offset, length);
+        OpenAPI capture = call == null ? null : call.toOpenAPI();
+        if (capture == null) {
+            return;
+        }
+        batch.add(capture);
+        if (batch.size() >= BATCH_SIZE) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<OpenAPI> batch) {
+        if (!batch.isEmpty()) {
+            sink.addAll(batch);
+            calls.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+
+    private static byte[] append(byte[] carry, int carried, byte[] source, int from, int length) {
+        byte[] target = carried + length > carry.length
+                ? Arrays.copyOf(carry, Math.max(carry.length * 2, carried + length))
+                : carry;
+        System.arraycopy(source, from, target, carried, length);
+        return target;
+    }
+
+    private static boolean isGzip(Path file) {
+        if (file.getFileName().toString().endsWith(".gz")) {
+            return true;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.read() == 0x1f && in.read() == 0x8b;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public long getLines() {
+        return lines.get();
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public AccessLogReader setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public AccessLogReader setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+}
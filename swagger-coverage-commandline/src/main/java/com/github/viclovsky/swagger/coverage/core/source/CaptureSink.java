@@ -0,0 +1,40 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import com.github.viclovsky.swagger.coverage.core.collector.CaptureDecoder;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Receiver of decoded captures, e.g. {@link CoverageSession}. Sources call it from their reading threads and a call
+ * blocks while the receiver is busy, so a source is slowed down to the speed of the receiver.
+ */
+public interface CaptureSink {
+
+    CaptureSink addAll(Collection<OpenAPI> captures);
+
+    /**
+     * Adds capture of an output file, the receiver may use the file e.g. for generation statistics.
+     */
+    default CaptureSink addFile(Path file, OpenAPI capture) {
+        return addAll(Collections.singletonList(capture));
+    }
+
+    /**
+     * Adds output files which are read but not decoded, by default they are decoded by the calling thread.
+     */
+    default CaptureSink addEncoded(List<EncodedCapture> captures) {
+        CaptureDecoder decoder = new CaptureDecoder();
+        captures.forEach(encoded -> {
+            OpenAPI capture = decoder.decode(encoded.getContent());
+            if (capture != null) {
+                addFile(encoded.getFile(), capture);
+            }
+        });
+        return this;
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Source of captured calls selected by scheme of {@code --input}, see {@link CaptureSourceProvider}.
+ */
+public interface CaptureSource {
+
+    /**
+     * Reads all captures and passes them to sink in batches, returns when source is exhausted.
+     */
+    void read(CaptureSink sink);
+
+    /**
+     * Parts of source which can be read in parallel, e.g. groups of files. Sources which can not be split or
+     * read in parallel by themselves return only themselves.
+     */
+    default List<CaptureSource> split(int parallelism) {
+        return Collections.singletonList(this);
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Creates capture sources for schemes of {@code --input}, e.g. {@code har} for {@code har:session.har}.
+ * <p>
+ * Providers are found with {@link ServiceLoader}, so other formats are added by a jar on the classpath of
+ * the commandline which lists its provider in
+ * {@code META-INF/services/com.github.viclovsky.swagger.coverage.core.source.CaptureSourceProvider}.
+ */
+public interface CaptureSourceProvider {
+
+    /**
+     * @return lower case schemes this provider reads
+     */
+    Set<String> getSchemes();
+
+    /**
+     * @param location input without scheme, e.g. {@code session.har}
+     */
+    CaptureSource open(String scheme, String location);
+}
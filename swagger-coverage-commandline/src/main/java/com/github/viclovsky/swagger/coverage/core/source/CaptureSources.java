@@ -0,0 +1,106 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Opens inputs like {@code har:session.har} with the {@link CaptureSourceProvider} of their scheme.
+ * Inputs without scheme are folders of output files, {@code -} is stdin.
+ */
+public final class CaptureSources {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaptureSources.class);
+
+    public static final String FILE = "file";
+    public static final String STDIN = "stdin";
+
+    /**
+     * Scheme has at least two characters, so drive letters of windows paths are not taken as schemes.
+     */
+    private static final Pattern SCHEME = Pattern.compile("([a-zA-Z][a-zA-Z0-9+.-]+):(.*)");
+
+    private CaptureSources() {
+    }
+
+    /**
+     * @return lower case scheme of input or null for a plain path
+     */
+    public static String scheme(String input) {
+        if ("-".equals(input)) {
+            return STDIN;
+        }
+        Matcher matcher = SCHEME.matcher(input);
+        return matcher.matches() ? matcher.group(1).toLowerCase() : null;
+    }
+
+    /**
+     * @return input without scheme
+     */
+    public static String location(String input) {
+        if ("-".equals(input)) {
+            return input;
+        }
+        Matcher matcher = SCHEME.matcher(input);
+        return matcher.matches() ? matcher.group(2) : input;
+    }
+
+    public static CaptureSource open(String input) {
+        String scheme = scheme(input);
+        String resolved = scheme == null ? FILE : scheme;
+        for (CaptureSourceProvider provider : ServiceLoader.load(CaptureSourceProvider.class)) {
+            if (provider.getSchemes().contains(resolved)) {
+                return provider.open(resolved, location(input));
+            }
+        }
+        throw new IllegalArgumentException("No capture source for scheme '" + resolved + "' of input " + input);
+    }
+
+    /**
+     * Reads input into sink, parts of a source which splits are read in parallel.
+     */
+    public static void read(String input, CaptureSink sink, int parallelism) {
+        read(open(input), input, sink, parallelism);
+    }
+
+    /**
+     * Reads an opened source into sink, {@code input} names it in messages.
+     */
+    public static void read(CaptureSource source, String input, CaptureSink sink, int parallelism) {
+        List<CaptureSource> parts = source.split(parallelism);
+        LOGGER.info("Read captures of {} in {} parts", input, parts.size());
+        if (parts.size() == 1) {
+            parts.get(0).read(sink);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, parts.size()), runnable -> {
+            Thread thread = new Thread(runnable, "capture-source");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            parts.forEach(part -> tasks.add(executor.submit(() -> part.read(sink))));
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reading of " + input + " is interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not read " + input, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Call read from a source which does not write OpenAPI documents, e.g. an access log line or a HAR entry.
+ * Sources set what they know, at least method, path and status. A source which knows that a response was received
+ * but not its status sets {@link #UNKNOWN_STATUS}, such a call is captured without response.
+ */
+public class CapturedCall {
+
+    public static final int UNKNOWN_STATUS = -1;
+
+    private static final Pattern COLON_PARAM = Pattern.compile("/:([^/]+)");
+
+    private String method;
+    private String path;
+    private String query;
+    private int status;
+    private long responseTime = -1;
+    private long responseSize = -1;
+    private Map<String, String> headers = new LinkedHashMap<>();
+    private Map<String, String> pathParams = new LinkedHashMap<>();
+    private boolean requestBody;
+    private String requestContentType;
+    private Map<String, String> formParams = new LinkedHashMap<>();
+    private long requestSize = -1;
+    private String responseContentType;
+
+    /**
+     * @return capture in the form written by the filters, or null for methods which are not in OpenAPI
+     * and calls without response
+     */
+    public OpenAPI toOpenAPI() {
+        PathItem.HttpMethod httpMethod = httpMethod(method);
+        if (httpMethod == null || path == null || path.isEmpty() || (status < 100 && status != UNKNOWN_STATUS)) {
+            return null;
+        }
+
+        Operation operation = new Operation();
+        if (query != null && !query.isEmpty()) {
+            Set<String> names = new HashSet<>();
+            for (String pair : query.split("&")) {
+                int index = pair.indexOf('=');
+                String name = decode(index < 0 ? pair : pair.substring(0, index));
+                if (!name.isEmpty() && names.add(name)) {
+                    QueryParameter parameter = new QueryParameter();
+                    parameter.name(name);
+                    if (index >= 0) {
+                        parameter.example(decode(pair.substring(index + 1)));
+                    }
+                    operation.addParametersItem(parameter);
+                }
+            }
+        }
+        pathParams.forEach((name, value) -> {
+            PathParameter parameter = new PathParameter();
+            parameter.name(name);
+            parameter.example(value);
+            operation.addParametersItem(parameter);
+        });
+        headers.forEach((name, value) -> {
+            HeaderParameter parameter = new HeaderParameter();
+            parameter.name(name);
+            parameter.example(value);
+            operation.addParametersItem(parameter);
+        });
+        if (requestBody) {
+            Schema<Object> schema = new Schema<>();
+            formParams.forEach((name, value) -> schema.addProperties(name, new Schema<>().example(value)));
+            operation.requestBody(new RequestBody().content(new Content()
+                    .addMediaType(mediaType(requestContentType), new MediaType().schema(schema))));
+            if (requestSize >= 0) {
+                operation.addExtension(SwaggerCoverageConstants.REQUEST_SIZE_EXTENSION, requestSize);
+            }
+        }
+
+        ApiResponses responses = new ApiResponses();
+        if (status != UNKNOWN_STATUS) {
+            ApiResponse response = new ApiResponse();
+            if (responseContentType != null) {
+                response.content(new Content().addMediaType(mediaType(responseContentType), new MediaType()));
+            }
+            responses.addApiResponse(String.valueOf(status), response);
+        }
+        operation.responses(responses);
+        if (responseTime >= 0) {
+            operation.addExtension(SwaggerCoverageConstants.RESPONSE_TIME_EXTENSION, responseTime);
+        }
+        if (responseSize >= 0) {
+            operation.addExtension(SwaggerCoverageConstants.RESPONSE_SIZE_EXTENSION, responseSize);
+        }
+
+        return new OpenAPI().path(path, new PathItem().operation(httpMethod, operation));
+    }
+
+    private static String mediaType(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        int parameters = contentType.indexOf(';');
+        return (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim();
+    }
+
+    private static PathItem.HttpMethod httpMethod(String method) {
+        if (method == null) {
+            return null;
+        }
+        for (PathItem.HttpMethod httpMethod : PathItem.HttpMethod.values()) {
+            if (httpMethod.name().equalsIgnoreCase(method)) {
+                return httpMethod;
+            }
+        }
+        return null;
+    }
+
+    private static String decode(String value) {
+        if (value.indexOf('%') < 0 && value.indexOf('+') < 0) {
+            return value;
+        }
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return value;
+        }
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public CapturedCall setMethod(String method) {
+        this.method = method;
+        return this;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public CapturedCall setPath(String path) {
+        this.path = path;
+        return this;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public CapturedCall setQuery(String query) {
+        this.query = query;
+        return this;
+    }
+
+    /**
+     * Sets path and query from request target, absolute urls of proxy requests are cut to path.
+     */
+    public CapturedCall setTarget(String target) {
+        String relative = target;
+        int scheme = target.indexOf("://");
+        if (scheme > 0 && scheme < target.indexOf('/')) {
+            int pathStart = target.indexOf('/', scheme + 3);
+            relative = pathStart < 0 ? "/" : target.substring(pathStart);
+        }
+        int question = relative.indexOf('?');
+        this.path = question < 0 ? relative : relative.substring(0, question);
+        this.query = question < 0 ? null : relative.substring(question + 1);
+        return this;
+    }
+
+    /**
+     * Sets path from route template of a server or a load test, params like {@code :petId} become {@code {petId}}.
+     */
+    public CapturedCall setRoute(String route) {
+        if (route.indexOf(':') < 0) {
+            this.path = route;
+            return this;
+        }
+        Matcher matcher = COLON_PARAM.matcher(route);
+        StringBuffer result = new StringBuffer();
+        while (matcher.find()) {
+            matcher.appendReplacement(result, Matcher.quoteReplacement("/{" + matcher.group(1) + "}"));
+        }
+        matcher.appendTail(result);
+        this.path = result.toString();
+        return this;
+    }
+
+    /**
+     * Takes values of path params of the route set before from the called path, e.g. {@code petId=12} for
+     * {@code /pet/{petId}} and {@code /pet/12}. Nothing is taken if the paths have different number of segments.
+     */
+    public CapturedCall setPathParams(String calledPath) {
+        String[] template = segments(path);
+        String[] called = segments(calledPath);
+        if (template.length != called.length) {
+            return this;
+        }
+        for (int i = 0; i < template.length; i++) {
+            String segment = template[i];
+            if (segment.length() > 2 && segment.startsWith("{") && segment.endsWith("}")) {
+                pathParams.putIfAbsent(segment.substring(1, segment.length() - 1), called[i]);
+            }
+        }
+        return this;
+    }
+
+    private static String[] segments(String path) {
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/", -1);
+    }
+
+    public Map<String, String> getPathParams() {
+        return pathParams;
+    }
+
+    /**
+     * Sets method and route from name of a load test sample like {@code GET /pet/{petId}}, parts which are
+     * missing in the name are left unchanged.
+     */
+    public CapturedCall setSampleName(String name) {
+        String rest = name.trim();
+        int space = rest.indexOf(' ');
+        if (space > 0 && httpMethod(rest.substring(0, space)) != null) {
+            this.method = rest.substring(0, space);
+            rest = rest.substring(space + 1).trim();
+        } else if (httpMethod(rest) != null) {
+            this.method = rest;
+            return this;
+        }
+        if (rest.startsWith("/")) {
+            int question = rest.indexOf('?');
+            setRoute(question < 0 ? rest : rest.substring(0, question));
+            if (question >= 0) {
+                this.query = rest.substring(question + 1);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds header, only the first value of a header is kept.
+     */
+    public CapturedCall addHeader(String name, String value) {
+        headers.putIfAbsent(name, value);
+        return this;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public boolean isRequestBody() {
+        return requestBody;
+    }
+
+    public CapturedCall setRequestBody(boolean requestBody) {
+        this.requestBody = requestBody;
+        return this;
+    }
+
+    public String getRequestContentType() {
+        return requestContentType;
+    }
+
+    public CapturedCall setRequestContentType(String requestContentType) {
+        this.requestContentType = requestContentType;
+        return this;
+    }
+
+    /**
+     * Adds form param of request body, only the first value of a param is kept.
+     */
+    public CapturedCall addFormParam(String name, String value) {
+        formParams.putIfAbsent(name, value);
+        return this;
+    }
+
+    public Map<String, String> getFormParams() {
+        return formParams;
+    }
+
+    public long getRequestSize() {
+        return requestSize;
+    }
+
+    public CapturedCall setRequestSize(long requestSize) {
+        this.requestSize = requestSize;
+        return this;
+    }
+
+    public String getResponseContentType() {
+        return responseContentType;
+    }
+
+    public CapturedCall setResponseContentType(String responseContentType) {
+        this.responseContentType = responseContentType;
+        return this;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public CapturedCall setStatus(int status) {
+        this.status = status;
+        return this;
+    }
+
+    public long getResponseTime() {
+        return responseTime;
+    }
+
+    public CapturedCall setResponseTime(long responseTime) {
+        this.responseTime = responseTime;
+        return this;
+    }
+
+    public long getResponseSize() {
+        return responseSize;
+    }
+
+    public CapturedCall setResponseSize(long responseSize) {
+        this.responseSize = responseSize;
+        return this;
+    }
+}
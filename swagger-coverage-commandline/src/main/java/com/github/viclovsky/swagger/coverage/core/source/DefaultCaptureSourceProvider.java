@@ -0,0 +1,58 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import com.github.viclovsky.swagger.coverage.FileSystemOutputReader;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Sources of the commandline: folders of output files ({@code file}, also for inputs without scheme),
+ * {@code access-log}, {@code har}, {@code otlp}, {@code jtl}, {@code gatling} and json lines of {@code stdin}.
+ */
+public class DefaultCaptureSourceProvider implements CaptureSourceProvider {
+
+    public static final String ACCESS_LOG = "access-log";
+    public static final String HAR = "har";
+    public static final String OTLP = "otlp";
+    public static final String JTL = "jtl";
+    public static final String GATLING = "gatling";
+
+    private static final Set<String> SCHEMES = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+            CaptureSources.FILE, ACCESS_LOG, HAR, OTLP, JTL, GATLING, CaptureSources.STDIN)));
+
+    @Override
+    public Set<String> getSchemes() {
+        return SCHEMES;
+    }
+
+    @Override
+    public CaptureSource open(String scheme, String location) {
+        switch (scheme) {
+            case ACCESS_LOG:
+                return sink -> new AccessLogReader(sink).read(path(location));
+            case HAR:
+                return sink -> new HarReader(sink).read(path(location));
+            case OTLP:
+                return sink -> new OtlpTraceReader(sink).read(path(location));
+            case JTL:
+                return sink -> new JtlReader(sink).read(path(location));
+            case GATLING:
+                return sink -> new AccessLogReader(sink, new GatlingLogParser()).read(path(location));
+            case CaptureSources.STDIN:
+                return sink -> new NdjsonCaptureReader(sink).read(System.in);
+            default:
+                return new FileCaptureSource(new FileSystemOutputReader(location.startsWith("//")
+                        ? Paths.get(URI.create(CaptureSources.FILE + ":" + location))
+                        : path(location)));
+        }
+    }
+
+    private static Path path(String location) {
+        return Paths.get(location);
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import java.nio.file.Path;
+
+/**
+ * Content of an output file which is read but not decoded yet.
+ */
+public class EncodedCapture {
+
+    private final Path file;
+    private final String content;
+
+    public EncodedCapture(Path file, String content) {
+        this.file = file;
+        this.content = content;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public String getContent() {
+        return content;
+    }
+}
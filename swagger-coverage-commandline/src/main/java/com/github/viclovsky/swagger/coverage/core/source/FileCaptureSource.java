@@ -0,0 +1,80 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import com.github.viclovsky.swagger.coverage.CoverageOutputReader;
+import com.github.viclovsky.swagger.coverage.FileSystemOutputReader;
+import com.github.viclovsky.swagger.coverage.core.collector.MappedRingBufferReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.COMPLETION_MARKER;
+
+/**
+ * Output files of the filters listed by a {@link CoverageOutputReader}, e.g. {@link FileSystemOutputReader}.
+ * Files are read in batches and handed over to the sink undecoded, so a sink can decode them on other threads.
+ * The source splits into groups of files to read them in parallel.
+ * Ring buffers are skipped, {@code --input} folders read them with {@link MappedRingBufferReader}.
+ */
+public class FileCaptureSource implements CaptureSource {
+
+    private static final int BATCH_SIZE = 64;
+
+    private final List<Path> files;
+
+    public FileCaptureSource(CoverageOutputReader reader) {
+        this(reader.getOutputs().stream()
+                .filter(path -> !MappedRingBufferReader.isRingBuffer(path))
+                .filter(path -> !COMPLETION_MARKER.equals(path.getFileName().toString()))
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    private FileCaptureSource(List<Path> files) {
+        this.files = files;
+    }
+
+    @Override
+    public void read(CaptureSink sink) {
+        List<EncodedCapture> batch = new ArrayList<>(BATCH_SIZE);
+        for (Path file : files) {
+            try {
+                batch.add(new EncodedCapture(file, new String(Files.readAllBytes(file), StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read output file " + file, e);
+            }
+            if (batch.size() >= BATCH_SIZE) {
+                sink.addEncoded(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            sink.addEncoded(batch);
+        }
+    }
+
+    @Override
+    public List<CaptureSource> split(int parallelism) {
+        int parts = Math.max(1, Math.min(parallelism, files.size()));
+        if (parts == 1) {
+            return Collections.singletonList(this);
+        }
+        List<List<Path>> groups = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            groups.add(new ArrayList<>());
+        }
+        for (int i = 0; i < files.size(); i++) {
+            groups.get(i % parts).add(files.get(i));
+        }
+        return groups.stream().map(FileCaptureSource::new).collect(Collectors.toList());
+    }
+
+    public List<Path> getFiles() {
+        return files;
+    }
+}
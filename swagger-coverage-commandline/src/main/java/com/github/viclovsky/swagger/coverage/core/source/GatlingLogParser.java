@@ -0,0 +1,72 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses {@code REQUEST} records of text {@code simulation.log} of Gatling 2 and 3, other records are skipped.
+ * <p>
+ * The log has neither method, path nor status of a request, so requests have to be named like
+ * {@code GET /pet/{petId}}, requests named without method or path are skipped. {@code KO} requests get the status
+ * found by a failed status check, e.g. {@code status.find.in(200), found 404}, other requests are captured with
+ * {@link CapturedCall#UNKNOWN_STATUS}. Response time is the time between the first and the last timestamp of the record.
+ */
+public class GatlingLogParser implements LineParser {
+
+    private static final String REQUEST = "REQUEST\t";
+    private static final Pattern FOUND_STATUS = Pattern.compile("found (\\d{3})");
+
+    @Override
+    public CapturedCall parse(byte[] line, int offset, int length) {
+        if (length < REQUEST.length() || line[offset] != 'R') {
+            return null;
+        }
+        String record = new String(line, offset, length, StandardCharsets.UTF_8);
+        if (!record.startsWith(REQUEST)) {
+            return null;
+        }
+        String[] fields = record.split("\t", -1);
+
+        int status = fields.length - 1;
+        while (status > 0 && !"OK".equals(fields[status].trim()) && !"KO".equals(fields[status].trim())) {
+            status--;
+        }
+        int firstTimestamp = status - 1;
+        while (firstTimestamp > 0 && isNumber(fields[firstTimestamp - 1])) {
+            firstTimestamp--;
+        }
+        if (firstTimestamp >= status - 1 || firstTimestamp < 2) {
+            return null;
+        }
+
+        CapturedCall call = new CapturedCall().setSampleName(fields[firstTimestamp - 1]);
+        if (call.getPath() == null || call.getMethod() == null) {
+            return null;
+        }
+        long time = Long.parseLong(fields[status - 1].trim()) - Long.parseLong(fields[firstTimestamp].trim());
+        return call.setStatus(status(fields[status].trim(), status + 1 < fields.length ? fields[status + 1] : ""))
+                .setResponseTime(time < 0 ? -1 : time);
+    }
+
+    private static int status(String result, String message) {
+        if ("OK".equals(result)) {
+            return CapturedCall.UNKNOWN_STATUS;
+        }
+        Matcher matcher = FOUND_STATUS.matcher(message);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : CapturedCall.UNKNOWN_STATUS;
+    }
+
+    private static boolean isNumber(String field) {
+        String value = field.trim();
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
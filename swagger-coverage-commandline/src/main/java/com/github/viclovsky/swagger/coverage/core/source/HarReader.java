@@ -0,0 +1,277 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Adds calls of HAR archives of browsers and proxies to {@link CoverageSession}.
+ * <p>
+ * {@code log.entries} are read with a token parser one entry at a time, only fields needed for a capture are
+ * decoded and bodies are skipped, so memory does not depend on size of archive. Several files are read in parallel.
+ */
+public class HarReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HarReader.class);
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final int BATCH_SIZE = 1024;
+
+    private final CaptureSink sink;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicLong calls = new AtomicLong();
+
+    public HarReader(CaptureSink sink) {
+        this.sink = sink;
+    }
+
+    public static boolean isHar(Path path) {
+        return path.getFileName().toString().toLowerCase().endsWith(".har");
+    }
+
+    /**
+     * Reads a HAR file or all {@code .har} files of a directory.
+     */
+    public HarReader read(Path path) {
+        List<Path> files;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> paths = Files.list(path)) {
+                files = paths.filter(Files::isRegularFile).filter(HarReader::isHar).sorted()
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not list HAR files in " + path, e);
+            }
+        } else {
+            files = Collections.singletonList(path);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, files.size())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "har-reader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            files.forEach(file -> tasks.add(executor.submit(() -> readFile(file))));
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reading of HAR files is interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not read HAR files " + path, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LOGGER.info("Read {} entries of HAR files {}, {} calls", entries.get(), path, calls.get());
+        return this;
+    }
+
+    private void readFile(Path file) {
+        List<OpenAPI> batch = new ArrayList<>(BATCH_SIZE);
+        try (JsonParser parser = FACTORY.createParser(file.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("HAR file is not a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_OBJECT && "log".equals(field)) {
+                    readLog(parser, batch);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read HAR file " + file, e);
+        }
+        flush(batch);
+    }
+
+    private void readLog(JsonParser parser, List<OpenAPI> batch) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && "entries".equals(field)) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    entries.incrementAndGet();
+                    OpenAPI capture = readEntry(parser).toOpenAPI();
+                    if (capture != null) {
+                        batch.add(capture);
+                        if (batch.size() >= BATCH_SIZE) {
+                            flush(batch);
+                        }
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static CapturedCall readEntry(JsonParser parser) throws IOException {
+        CapturedCall call = new CapturedCall();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("request".equals(field) && token == JsonToken.START_OBJECT) {
+                readRequest(parser, call);
+            } else if ("response".equals(field) && token == JsonToken.START_OBJECT) {
+                readResponse(parser, call);
+            } else if ("time".equals(field) && token.isNumeric()) {
+                call.setResponseTime(Math.round(parser.getValueAsDouble()));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return call;
+    }
+
+    private static void readRequest(JsonParser parser, CapturedCall call) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "method":
+                    call.setMethod(parser.getValueAsString());
+                    break;
+                case "url":
+                    call.setTarget(parser.getValueAsString(""));
+                    break;
+                case "headers":
+                    readPairs(parser, (name, value) -> {
+                        if (!name.startsWith(":")) {
+                            call.addHeader(name, value);
+                        }
+                    });
+                    break;
+                case "bodySize":
+                    call.setRequestSize(parser.getValueAsLong(-1));
+                    break;
+                case "postData":
+                    if (token == JsonToken.START_OBJECT) {
+                        call.setRequestBody(true);
+                        readPostData(parser, call);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readPostData(JsonParser parser, CapturedCall call) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("mimeType".equals(field)) {
+                call.setRequestContentType(parser.getValueAsString());
+            } else if ("params".equals(field)) {
+                readPairs(parser, call::addFormParam);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readResponse(JsonParser parser, CapturedCall call) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("status".equals(field)) {
+                call.setStatus(parser.getValueAsInt(0));
+            } else if ("content".equals(field) && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String contentField = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("mimeType".equals(contentField)) {
+                        String mimeType = parser.getValueAsString();
+                        call.setResponseContentType(mimeType == null || mimeType.isEmpty() ? null : mimeType);
+                    } else if ("size".equals(contentField)) {
+                        call.setResponseSize(parser.getValueAsLong(-1));
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Reads arrays of {@code {"name": ..., "value": ...}} objects, the form of headers and params in HAR.
+     */
+    private static void readPairs(JsonParser parser, BiConsumer<String, String> pairs) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String name = null;
+            String value = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("name".equals(field)) {
+                    name = parser.getValueAsString();
+                } else if ("value".equals(field)) {
+                    value = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (name != null) {
+                pairs.accept(name, value);
+            }
+        }
+    }
+
+    private void flush(List<OpenAPI> batch) {
+        if (!batch.isEmpty()) {
+            sink.addAll(batch);
+            calls.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+
+    public long getEntries() {
+        return entries.get();
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public HarReader setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parses sample lines of JMeter results in CSV format, columns are taken from the header line of the file.
+ * <p>
+ * Method and path are read from the label if it is named like {@code GET /pet/{petId}}, otherwise path is taken
+ * from the {@code URL} column. JMeter does not write methods to CSV, samples whose label has no method are skipped.
+ * {@code elapsed}, {@code responseCode} and {@code bytes} are used as response time, status and response size.
+ */
+public class JtlCsvParser implements LineParser {
+
+    /**
+     * Columns of JMeter results without header, the default of {@code jmeter.save.saveservice} properties.
+     */
+    public static final List<String> DEFAULT_COLUMNS = Arrays.asList("timeStamp", "elapsed", "label", "responseCode",
+            "responseMessage", "threadName", "dataType", "success", "failureMessage", "bytes", "sentBytes",
+            "grpThreads", "allThreads", "URL", "Latency", "IdleTime", "Connect");
+
+    private final byte delimiter;
+    private final int elapsed;
+    private final int label;
+    private final int responseCode;
+    private final int bytes;
+    private final int url;
+    private final int columns;
+
+    public JtlCsvParser(List<String> columns, char delimiter) {
+        this.delimiter = (byte) delimiter;
+        this.elapsed = columns.indexOf("elapsed");
+        this.label = columns.indexOf("label");
+        this.responseCode = columns.indexOf("responseCode");
+        this.bytes = columns.indexOf("bytes");
+        this.url = columns.indexOf("URL");
+        this.columns = Math.max(Math.max(Math.max(elapsed, label), Math.max(responseCode, bytes)), url) + 1;
+    }
+
+    /**
+     * Parser for columns of the first line of file, or for default columns if file has no header.
+     */
+    public static JtlCsvParser forHeader(String firstLine) {
+        String header = withoutBom(firstLine);
+        char delimiter = header.indexOf(',') < 0 && header.indexOf('\t') >= 0 ? '\t' : ',';
+        if (!isHeader(firstLine)) {
+            return new JtlCsvParser(DEFAULT_COLUMNS, delimiter);
+        }
+        return new JtlCsvParser(Arrays.asList(header.trim().split(delimiter == '\t' ? "\t" : ",")), delimiter);
+    }
+
+    public static boolean isHeader(String firstLine) {
+        return withoutBom(firstLine).startsWith("timeStamp");
+    }
+
+    private static String withoutBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    @Override
+    public CapturedCall parse(byte[] line, int offset, int length) {
+        if (label < 0 || responseCode < 0) {
+            return null;
+        }
+        String[] fields = fields(line, offset, offset + length);
+        int status = (int) number(fields[responseCode]);
+        if (status < 100) {
+            return null;
+        }
+
+        CapturedCall call = new CapturedCall();
+        if (url >= 0 && fields[url] != null && !fields[url].isEmpty() && !"null".equals(fields[url])) {
+            call.setTarget(fields[url]);
+        }
+        if (fields[label] != null) {
+            call.setSampleName(fields[label]);
+        }
+        if (call.getPath() == null || call.getMethod() == null) {
+            return null;
+        }
+        return call.setStatus(status)
+                .setResponseTime(elapsed < 0 ? -1 : number(fields[elapsed]))
+                .setResponseSize(bytes < 0 ? -1 : number(fields[bytes]));
+    }
+
+    /**
+     * Splits line into the fields up to the last needed column, quoted fields may contain delimiters.
+     */
+    private String[] fields(byte[] line, int from, int to) {
+        String[] fields = new String[columns];
+        int column = 0;
+        int position = from;
+        while (column < columns && position <= to) {
+            if (position < to && line[position] == '"') {
+                StringBuilder quoted = new StringBuilder();
+                int start = ++position;
+                while (position < to) {
+                    if (line[position] == '"') {
+                        quoted.append(text(line, start, position));
+                        if (position + 1 < to && line[position + 1] == '"') {
+                            quoted.append('"');
+                            position += 2;
+                            start = position;
+                            continue;
+                        }
+                        break;
+                    }
+                    position++;
+                }
+                fields[column++] = quoted.toString();
+                while (position < to && line[position] != delimiter) {
+                    position++;
+                }
+            } else {
+                int start = position;
+                while (position < to && line[position] != delimiter) {
+                    position++;
+                }
+                int end = position;
+                while (end > start && (line[end - 1] == '\r' || line[end - 1] == '\n')) {
+                    end--;
+                }
+                fields[column++] = text(line, start, end);
+            }
+            position++;
+        }
+        return fields;
+    }
+
+    private static String text(byte[] line, int from, int to) {
+        return new String(line, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private static long number(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
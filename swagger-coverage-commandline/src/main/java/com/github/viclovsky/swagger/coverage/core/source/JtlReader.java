@@ -0,0 +1,262 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Adds samples of JMeter results to {@link CoverageSession}, format of a file is recognized by its first line.
+ * <p>
+ * CSV results are split into chunks and parsed in parallel by {@link AccessLogReader} with {@link JtlCsvParser}.
+ * XML results are read with a streaming parser, only {@code httpSample} and {@code sample} elements without nested
+ * samples are used, so a transaction is not counted in addition to its requests. Method, url, query string and
+ * request headers are read from the child elements if JMeter saved them, responses are never kept.
+ * Samples without a numeric response code, or whose method is neither saved nor part of the label, are skipped.
+ */
+public class JtlReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JtlReader.class);
+
+    private static final int BATCH_SIZE = 1024;
+
+    private final CaptureSink sink;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int chunkSize = AccessLogReader.DEFAULT_CHUNK_SIZE;
+
+    private long samples;
+    private long calls;
+
+    public JtlReader(CaptureSink sink) {
+        this.sink = sink;
+    }
+
+    public static boolean isJtl(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        return name.endsWith(".jtl") || name.endsWith(".csv") || name.endsWith(".xml");
+    }
+
+    /**
+     * Reads a results file or all {@code .jtl}, {@code .csv} and {@code .xml} files of a directory.
+     */
+    public JtlReader read(Path path) {
+        List<Path> files;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> paths = Files.list(path)) {
+                files = paths.filter(Files::isRegularFile).filter(JtlReader::isJtl).sorted()
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not list JMeter results in " + path, e);
+            }
+        } else {
+            files = Collections.singletonList(path);
+        }
+
+        for (Path file : files) {
+            String firstLine = firstLine(file);
+            if (firstLine.trim().startsWith("<")) {
+                readXml(file);
+            } else {
+                AccessLogReader reader = new AccessLogReader(sink, JtlCsvParser.forHeader(firstLine))
+                        .setParallelism(parallelism)
+                        .setChunkSize(chunkSize)
+                        .read(file);
+                samples += reader.getLines() - (JtlCsvParser.isHeader(firstLine) ? 1 : 0);
+                calls += reader.getCalls();
+            }
+        }
+        LOGGER.info("Read {} samples of JMeter results {}, {} calls, {} skipped without method, path or status",
+                samples, path, calls, samples - calls);
+        return this;
+    }
+
+    private static String firstLine(Path file) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            return line == null ? "" : line;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read JMeter results " + file, e);
+        }
+    }
+
+    private void readXml(Path file) {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        List<OpenAPI> batch = new ArrayList<>(BATCH_SIZE);
+        Deque<Sample> open = new ArrayDeque<>();
+        try (InputStream input = Files.newInputStream(file)) {
+            XMLStreamReader reader = factory.createXMLStreamReader(input);
+            try {
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if (isSample(name)) {
+                            if (!open.isEmpty()) {
+                                open.peek().nested = true;
+                            }
+                            open.push(new Sample(reader));
+                        } else if (!open.isEmpty()) {
+                            open.peek().read(name, reader);
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT && isSample(reader.getLocalName())
+                            && !open.isEmpty()) {
+                        Sample sample = open.pop();
+                        if (!sample.nested) {
+                            samples++;
+                            OpenAPI capture = sample.toCall();
+                            if (capture != null) {
+                                batch.add(capture);
+                                if (batch.size() >= BATCH_SIZE) {
+                                    flush(batch);
+                                }
+                            }
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            throw new IllegalStateException("Could not read JMeter results " + file, e);
+        }
+        flush(batch);
+    }
+
+    private static boolean isSample(String name) {
+        return "httpSample".equals(name) || "sample".equals(name);
+    }
+
+    private void flush(List<OpenAPI> batch) {
+        if (!batch.isEmpty()) {
+            sink.addAll(batch);
+            calls += batch.size();
+            batch.clear();
+        }
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public JtlReader setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public JtlReader setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Sample element which is read, attributes {@code t}, {@code lb}, {@code rc} and {@code by}.
+     */
+    private static class Sample {
+
+        private final String label;
+        private final String elapsed;
+        private final String responseCode;
+        private final String bytes;
+        private final CapturedCall call = new CapturedCall();
+        private boolean nested;
+
+        private Sample(XMLStreamReader reader) {
+            label = reader.getAttributeValue(null, "lb");
+            elapsed = reader.getAttributeValue(null, "t");
+            responseCode = reader.getAttributeValue(null, "rc");
+            bytes = reader.getAttributeValue(null, "by");
+        }
+
+        private void read(String element, XMLStreamReader reader) throws XMLStreamException {
+            switch (element) {
+                case "method":
+                    call.setMethod(reader.getElementText().trim());
+                    break;
+                case "java.net.URL":
+                    call.setTarget(reader.getElementText().trim());
+                    break;
+                case "queryString":
+                    String query = reader.getElementText().trim();
+                    if (!query.isEmpty() && call.getQuery() == null) {
+                        call.setQuery(query);
+                    }
+                    break;
+                case "requestHeader":
+                    for (String header : reader.getElementText().split("\n")) {
+                        int colon = header.indexOf(':');
+                        if (colon > 0) {
+                            call.addHeader(header.substring(0, colon).trim(), header.substring(colon + 1).trim());
+                        }
+                    }
+                    break;
+                default:
+            }
+        }
+
+        private OpenAPI toCall() {
+            int status = (int) number(responseCode);
+            if (status < 100) {
+                return null;
+            }
+            if (label != null) {
+                String method = call.getMethod();
+                call.setSampleName(label);
+                if (method != null) {
+                    call.setMethod(method);
+                }
+            }
+            if (call.getPath() == null || call.getMethod() == null) {
+                return null;
+            }
+            return call.setStatus(status)
+                    .setResponseTime(number(elapsed))
+                    .setResponseSize(number(bytes))
+                    .toOpenAPI();
+        }
+
+        private static long number(String value) {
+            if (value == null) {
+                return -1;
+            }
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+/**
+ * Parses one line of a line based source read by {@link AccessLogReader}, lines are given as bytes of a chunk.
+ * Parsers are shared by the reading threads and must not keep state between lines.
+ */
+public interface LineParser {
+
+    /**
+     * @return call or null if line is not a request of known format
+     */
+    CapturedCall parse(byte[] line, int offset, int length);
+}
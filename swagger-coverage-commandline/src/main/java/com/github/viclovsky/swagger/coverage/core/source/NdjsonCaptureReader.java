@@ -0,0 +1,155 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Adds captures of a stream with one json document per line, e.g. {@code --input -} for stdin, to
+ * {@link CoverageSession}. A line is a capture in the form written by the filters, Swagger v2 or OpenAPI.
+ * <p>
+ * Lines are read by one thread and decoded by workers in batches, at most two batches per worker wait in memory,
+ * so reading is slowed down to the speed of decoding and memory does not depend on length of stream.
+ * Lines which are not captures are skipped.
+ */
+public class NdjsonCaptureReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NdjsonCaptureReader.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CaptureSink sink;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int batchSize = 256;
+
+    private final AtomicLong lines = new AtomicLong();
+    private final AtomicLong calls = new AtomicLong();
+
+    public NdjsonCaptureReader(CaptureSink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Reads lines until end of stream, stream is not closed.
+     */
+    public NdjsonCaptureReader read(InputStream input) {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "ndjson-decoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore permits = new Semaphore(parallelism * 2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8),
+                    BUFFER_SIZE);
+            List<String> batch = new ArrayList<>(batchSize);
+            String line;
+            while (failure.get() == null && (line = reader.readLine()) != null) {
+                lines.incrementAndGet();
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                batch.add(line);
+                if (batch.size() >= batchSize) {
+                    submit(executor, permits, failure, batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(executor, permits, failure, batch);
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read captures", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reading of captures is interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Could not decode captures", failure.get());
+        }
+
+        LOGGER.info("Read {} lines of captures, {} calls", lines.get(), calls.get());
+        return this;
+    }
+
+    private void submit(ExecutorService executor, Semaphore permits, AtomicReference<Throwable> failure,
+                        List<String> batch) throws InterruptedException {
+        permits.acquire();
+        executor.execute(() -> {
+            try {
+                decode(batch);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private void decode(List<String> batch) {
+        OpenAPIParser parser = new OpenAPIParser();
+        List<OpenAPI> captures = new ArrayList<>(batch.size());
+        for (String line : batch) {
+            SwaggerParseResult parsed = parser.readContents(line, null, null);
+            OpenAPI capture = parsed == null ? null : parsed.getOpenAPI();
+            if (capture == null || capture.getPaths() == null) {
+                LOGGER.debug("Skip line which is not a capture: {}", line);
+                continue;
+            }
+            captures.add(capture);
+        }
+        if (!captures.isEmpty()) {
+            sink.addAll(captures);
+            calls.addAndGet(captures.size());
+        }
+    }
+
+    public long getLines() {
+        return lines.get();
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public NdjsonCaptureReader setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public NdjsonCaptureReader setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+}
@@ -0,0 +1,392 @@
+package com.github.viclovsky.swagger.coverage.core.source;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Adds HTTP server spans of OTLP/JSON trace files, e.g. of the file exporter of OpenTelemetry collector,
+ * to {@link CoverageSession}.
+ * <p>
+ * A file holds one or more export requests, one per line or as a single document. Spans are read with a token
+ * parser one at a time, so memory does not depend on size of file. Attributes of current and older semantic
+ * conventions are understood. {@code http.route} is preferred over the called path for choosing the operation,
+ * such calls are routed by template, values of path params are taken from the called path. Several files are read
+ * in parallel.
+ */
+public class OtlpTraceReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OtlpTraceReader.class);
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final int BATCH_SIZE = 1024;
+
+    private static final int SPAN_KIND_SERVER = 2;
+    private static final String HEADER_PREFIX = "http.request.header.";
+
+    private final CaptureSink sink;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private final AtomicLong spans = new AtomicLong();
+    private final AtomicLong calls = new AtomicLong();
+
+    public OtlpTraceReader(CaptureSink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Reads a trace file or all {@code .json}, {@code .jsonl} and gzip files of a directory.
+     */
+    public OtlpTraceReader read(Path path) {
+        List<Path> files;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> paths = Files.list(path)) {
+                files = paths.filter(Files::isRegularFile).filter(OtlpTraceReader::isTraceFile).sorted()
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not list trace files in " + path, e);
+            }
+        } else {
+            files = Collections.singletonList(path);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, files.size())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "otlp-reader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            files.forEach(file -> tasks.add(executor.submit(() -> readFile(file))));
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reading of trace files is interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not read trace files " + path, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LOGGER.info("Read {} spans of trace files {}, {} calls", spans.get(), path, calls.get());
+        return this;
+    }
+
+    private static boolean isTraceFile(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        return name.endsWith(".json") || name.endsWith(".jsonl") || name.endsWith(".gz");
+    }
+
+    private void readFile(Path file) {
+        List<OpenAPI> batch = new ArrayList<>(BATCH_SIZE);
+        try (InputStream input = open(file); JsonParser parser = FACTORY.createParser(input)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_OBJECT) {
+                    readRequest(parser, batch);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read trace file " + file, e);
+        }
+        flush(batch);
+    }
+
+    private static InputStream open(Path file) throws IOException {
+        InputStream input = Files.newInputStream(file);
+        if (file.getFileName().toString().toLowerCase().endsWith(".gz")) {
+            return new GZIPInputStream(input, 64 * 1024);
+        }
+        return input;
+    }
+
+    /**
+     * Reads {@code resourceSpans -> scopeSpans -> spans} of an export request,
+     * {@code instrumentationLibrarySpans} of older exporters included.
+     */
+    private void readRequest(JsonParser parser, List<OpenAPI> batch) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && "resourceSpans".equals(field)) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readResourceSpans(parser, batch);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readResourceSpans(JsonParser parser, List<OpenAPI> batch) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY
+                    && ("scopeSpans".equals(field) || "instrumentationLibrarySpans".equals(field))) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readScopeSpans(parser, batch);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readScopeSpans(JsonParser parser, List<OpenAPI> batch) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && "spans".equals(field)) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    spans.incrementAndGet();
+                    OpenAPI capture = readSpan(parser);
+                    if (capture != null) {
+                        batch.add(capture);
+                        if (batch.size() >= BATCH_SIZE) {
+                            flush(batch);
+                        }
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static OpenAPI readSpan(JsonParser parser) throws IOException {
+        SpanAttributes span = new SpanAttributes();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "kind":
+                    span.server = token == JsonToken.VALUE_STRING
+                            ? "SPAN_KIND_SERVER".equals(parser.getText())
+                            : parser.getValueAsInt() == SPAN_KIND_SERVER;
+                    break;
+                case "startTimeUnixNano":
+                    span.start = parser.getValueAsLong(-1);
+                    break;
+                case "endTimeUnixNano":
+                    span.end = parser.getValueAsLong(-1);
+                    break;
+                case "attributes":
+                    readAttributes(parser, span);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return span.server ? span.toCall().toOpenAPI() : null;
+    }
+
+    private static void readAttributes(JsonParser parser, SpanAttributes span) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String key = null;
+            String value = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("key".equals(field)) {
+                    key = parser.getValueAsString();
+                } else if ("value".equals(field)) {
+                    value = readValue(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (key != null && value != null) {
+                span.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * Reads {@code AnyValue} as text, first element of {@code arrayValue} for header attributes.
+     */
+    private static String readValue(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String value = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("arrayValue".equals(field) && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    if (parser.nextToken() == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            String element = readValue(parser);
+                            if (value == null) {
+                                value = element;
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+                value = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    private void flush(List<OpenAPI> batch) {
+        if (!batch.isEmpty()) {
+            sink.addAll(batch);
+            calls.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+
+    public long getSpans() {
+        return spans.get();
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public OtlpTraceReader setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Attributes of one span which are needed for a call, other attributes are not kept.
+     */
+    private static class SpanAttributes {
+
+        private boolean server;
+        private long start = -1;
+        private long end = -1;
+        private String method;
+        private String route;
+        private String path;
+        private String query;
+        private String target;
+        private String url;
+        private String status;
+        private String requestSize;
+        private String responseSize;
+        private final CapturedCall call = new CapturedCall();
+
+        private void put(String key, String value) {
+            switch (key) {
+                case "http.request.method":
+                case "http.method":
+                    method = value;
+                    break;
+                case "http.route":
+                    route = value;
+                    break;
+                case "url.path":
+                    path = value;
+                    break;
+                case "url.query":
+                    query = value;
+                    break;
+                case "http.target":
+                    target = value;
+                    break;
+                case "url.full":
+                case "http.url":
+                    url = value;
+                    break;
+                case "http.response.status_code":
+                case "http.status_code":
+                    status = value;
+                    break;
+                case "http.request.body.size":
+                case "http.request_content_length":
+                    requestSize = value;
+                    break;
+                case "http.response.body.size":
+                case "http.response_content_length":
+                    responseSize = value;
+                    break;
+                default:
+                    if (key.startsWith(HEADER_PREFIX)) {
+                        call.addHeader(key.substring(HEADER_PREFIX.length()), value);
+                    }
+            }
+        }
+
+        private CapturedCall toCall() {
+            if (target != null) {
+                call.setTarget(target);
+            } else if (url != null) {
+                call.setTarget(url);
+            }
+            if (path != null) {
+                call.setPath(path);
+            }
+            if (query != null) {
+                call.setQuery(query);
+            }
+            if (route != null && route.startsWith("/")) {
+                String called = call.getPath();
+                call.setRoute(route);
+                if (called != null) {
+                    call.setPathParams(called);
+                }
+            }
+            if (requestSize != null && number(requestSize) > 0) {
+                call.setRequestBody(true).setRequestSize(number(requestSize));
+            }
+            if (start >= 0 && end >= start) {
+                call.setResponseTime(Math.round((end - start) / 1_000_000.0));
+            }
+            return call.setMethod(method)
+                    .setStatus((int) number(status))
+                    .setResponseSize(number(responseSize));
+        }
+
+        private static long number(String value) {
+            if (value == null) {
+                return -1;
+            }
+            try {
+                return (long) Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
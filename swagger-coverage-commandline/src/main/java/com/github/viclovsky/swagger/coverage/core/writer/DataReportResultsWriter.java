@@ -0,0 +1,218 @@
+package com.github.viclovsky.swagger.coverage.core.writer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.viclovsky.swagger.coverage.SwaggerCoverageWriteException;
+import com.github.viclovsky.swagger.coverage.configuration.options.ResultsWriterOptions;
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.results.data.GenerationStatistics;
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationResult;
+import com.github.viclovsky.swagger.coverage.core.results.data.TagCoverage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static com.github.viclovsky.swagger.coverage.utils.FreemarkerUtils.processTemplate;
+
+/**
+ * Html report which renders itself in the browser from results embedded as gzip compressed json.
+ * <p>
+ * The page is written as two parts of {@code data-report.ftl} with the base64 encoded data streamed between them,
+ * so neither json nor page is held in memory. Rows are arrays and repeated condition names and reasons are written
+ * once into a string table, which keeps the file at a few MB for specs with thousands of operations.
+ */
+public class DataReportResultsWriter implements CoverageResultsWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataReportResultsWriter.class);
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ResultsWriterOptions options;
+
+    public DataReportResultsWriter() {
+        this(new ResultsWriterOptions());
+    }
+
+    public DataReportResultsWriter(ResultsWriterOptions options) {
+        if (options.getLocale() == null) {
+            options.setLocale("en");
+        }
+
+        if (options.getFilename() == null) {
+            options.setFilename("swagger-coverage-data-report.html");
+        }
+
+        if (options.getNumberFormat() == null) {
+            options.setNumberFormat("0.###");
+        }
+
+        this.options = options;
+    }
+
+    @Override
+    public void write(Results results) {
+        Path path = Paths.get(options.getFilename());
+        LOGGER.info(String.format("Write data report in file '%s'", path.toAbsolutePath()));
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE)) {
+            writePart("head", results, out);
+            try (OutputStream data = new GZIPOutputStream(Base64.getEncoder().wrap(new UnclosableOutputStream(out)),
+                    BUFFER_SIZE)) {
+                writeData(results, data);
+            }
+            writePart("tail", results, out);
+        } catch (IOException e) {
+            throw new SwaggerCoverageWriteException("Could not write results", e);
+        }
+    }
+
+    private void writePart(String part, Results results, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(new UnclosableOutputStream(out), StandardCharsets.UTF_8);
+        processTemplate("data-report.ftl", options.getLocale(), options.getNumberFormat(), results,
+                Collections.singletonMap("part", part), writer);
+        writer.flush();
+    }
+
+    /**
+     * Writes operations as {@code [path, method, state, calls, covered, all, deprecated, p95]}, conditions as
+     * {@code [operation, name, covered, hits, reason]} with indexes of operations and strings, tags as
+     * {@code [name, operations, calls, covered, all]} and missed calls as {@code [path, method]}.
+     */
+    private static void writeData(Results results, OutputStream out) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        Map<String, Integer> operationIndex = new HashMap<>();
+
+        try (JsonGenerator json = FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeObjectFieldStart("info");
+            if (results.getInfo() != null) {
+                json.writeStringField("title", results.getInfo().getTitle());
+                json.writeStringField("version", results.getInfo().getVersion());
+            }
+            json.writeEndObject();
+
+            GenerationStatistics statistics = results.getGenerationStatistics();
+            json.writeObjectFieldStart("generation");
+            if (statistics != null) {
+                json.writeNumberField("files", statistics.getResultFileCount());
+                json.writeNumberField("time", statistics.getGenerationTime());
+                json.writeStringField("interval", statistics.getFileResultDateInterval());
+                json.writeStringField("date", statistics.getGenerateDate());
+            }
+            json.writeEndObject();
+
+            json.writeArrayFieldStart("operations");
+            for (Map.Entry<OperationKey, OperationResult> entry : results.getOperations().entrySet()) {
+                OperationResult operation = entry.getValue();
+                operationIndex.put(entry.getKey().toString(), operationIndex.size());
+                json.writeStartArray();
+                json.writeString(entry.getKey().getPath());
+                json.writeString(String.valueOf(entry.getKey().getHttpMethod()));
+                json.writeString(operation.getState() == null ? "" : operation.getState().name());
+                json.writeNumber(operation.getProcessCount());
+                json.writeNumber(operation.getCoveredConditionCount());
+                json.writeNumber(operation.getAllConditionCount());
+                json.writeNumber(operation.getDeprecated() ? 1 : 0);
+                json.writeNumber(operation.getLatency() != null && operation.getLatency().getAll().getCount() > 0
+                        ? operation.getLatency().getAll().getP95() : -1);
+                json.writeEndArray();
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("conditions");
+            int index = 0;
+            for (OperationResult operation : results.getOperations().values()) {
+                for (Condition condition : operation.getConditions()) {
+                    json.writeStartArray();
+                    json.writeNumber(index);
+                    json.writeNumber(string(strings, condition.getName()));
+                    json.writeNumber(condition.isCovered() ? 1 : 0);
+                    json.writeNumber(condition.getHits());
+                    json.writeNumber(string(strings, condition.getReason()));
+                    json.writeEndArray();
+                }
+                index++;
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("tags");
+            for (Map.Entry<String, TagCoverage> entry : results.getTagCoverageMap().entrySet()) {
+                TagCoverage tag = entry.getValue();
+                json.writeStartArray();
+                json.writeString(entry.getKey());
+                json.writeStartArray();
+                for (OperationKey operation : tag.getOperations()) {
+                    Integer operationId = operationIndex.get(operation.toString());
+                    if (operationId != null) {
+                        json.writeNumber(operationId);
+                    }
+                }
+                json.writeEndArray();
+                json.writeNumber(tag.getCallCounts());
+                json.writeNumber(tag.getConditionCounter().getCovered());
+                json.writeNumber(tag.getConditionCounter().getAll());
+                json.writeEndArray();
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("missed");
+            for (OperationKey missed : results.getMissed().keySet()) {
+                json.writeStartArray();
+                json.writeString(missed.getPath());
+                json.writeString(String.valueOf(missed.getHttpMethod()));
+                json.writeEndArray();
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("strings");
+            for (String string : strings.keySet()) {
+                json.writeString(string);
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private static int string(Map<String, Integer> strings, String value) {
+        return strings.computeIfAbsent(value == null ? "" : value, key -> strings.size());
+    }
+
+    /**
+     * Keeps the file open when a stream written into it is closed, e.g. to finish gzip and base64 encoding.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+
+        private UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -7,10 +7,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static com.github.viclovsky.swagger.coverage.utils.FreemarkerUtils.processCustomTemplate;
 import static com.github.viclovsky.swagger.coverage.utils.FreemarkerUtils.processTemplate;
@@ -19,6 +26,10 @@ public class HtmlReportResultsWriter implements CoverageResultsWriter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HtmlReportResultsWriter.class);
 
+    private static final List<String> STATES = Arrays.asList(
+            "condition", "full", "party", "empty", "zero", "missed", "deprecated");
+    private static final List<String> SECTIONS = Arrays.asList("conditions", "heatmap", "latency", "payload");
+
     private ResultsWriterOptions options;
 
     private String filename = "swagger-coverage-report.html";
@@ -52,14 +63,99 @@ public class HtmlReportResultsWriter implements CoverageResultsWriter {
     public void write(Results results) {
         Path path = Paths.get(options.getFilename());
         LOGGER.info(String.format("Write html report in file '%s'", path.toAbsolutePath()));
+        if (options.isSplit()) {
+            if (options.getCustomTemplatePath() == null) {
+                writeSplit(results, path);
+                return;
+            }
+            LOGGER.warn("Split report is not supported for custom templates, write a single page");
+        }
+        // report is rendered straight into the file, so it is never held in memory as a whole
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            if (options.getCustomTemplatePath() == null) {
+                processTemplate("report.ftl", options.getLocale(), options.getNumberFormat(), results, writer);
+            } else {
+                processCustomTemplate(options.getCustomTemplatePath(), options.getLocale(), options.getNumberFormat(),
+                        results, writer);
+            }
+        } catch (IOException e) {
+            throw new SwaggerCoverageWriteException("Could not write results", e);
+        }
+    }
+
+    /**
+     * Writes index page with summary and placeholders, and a script per operation, tag, tab of operations and large
+     * section into the folder next to it. The page loads a script when its placeholder is shown, scripts are written
+     * in parallel.
+     */
+    private void writeSplit(Results results, Path path) {
+        String fileName = path.getFileName().toString();
+        String folder = (fileName.endsWith(".html") ? fileName.substring(0, fileName.length() - 5) : fileName)
+                + "-fragments";
+        Path fragments = path.toAbsolutePath().getParent().resolve(folder);
+
+        List<Fragment> list = new ArrayList<>();
+        Map<String, String> fragmentIds = new HashMap<>();
+        for (String operation : results.getFlatOperations().keySet()) {
+            String id = "operation-" + fragmentIds.size();
+            fragmentIds.put(operation, id);
+            list.add(new Fragment(id, "operation", operation));
+        }
+        STATES.forEach(state -> list.add(new Fragment("state-" + state, "state", state)));
+        if (!results.getExcludedOperations().isEmpty()) {
+            list.add(new Fragment("state-excluded", "state", "excluded"));
+        }
+        int tag = 0;
+        for (String name : results.getTagCoverageMap().keySet()) {
+            list.add(new Fragment("tag-" + tag++, "tag", name));
+        }
+        SECTIONS.forEach(section -> list.add(new Fragment("section-" + section, section, section)));
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("split", true);
+        variables.put("fragmentPath", folder);
+        variables.put("fragmentIds", fragmentIds);
+
         try {
-            final String htmlReport = (options.getCustomTemplatePath() == null ) ?
-                    processTemplate("report.ftl", options.getLocale(), options.getNumberFormat(), results) :
-                    processCustomTemplate(options.getCustomTemplatePath(), options.getLocale(), options.getNumberFormat(), results);
-            Files.write(Paths.get(options.getFilename()), htmlReport.getBytes(StandardCharsets.UTF_8));
+            Files.createDirectories(fragments);
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                processTemplate("report.ftl", options.getLocale(), options.getNumberFormat(), results, variables,
+                        writer);
+            }
+            list.parallelStream().forEach(fragment -> {
+                Map<String, Object> fragmentVariables = new HashMap<>(variables);
+                fragmentVariables.put("fragment", fragment.id);
+                fragmentVariables.put("kind", fragment.kind);
+                fragmentVariables.put("name", fragment.name);
+                try (Writer writer = Files.newBufferedWriter(fragments.resolve(fragment.id + ".js"),
+                        StandardCharsets.UTF_8)) {
+                    processTemplate("fragment.ftl", options.getLocale(), options.getNumberFormat(), results,
+                            fragmentVariables, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
         } catch (IOException e) {
             throw new SwaggerCoverageWriteException("Could not write results", e);
+        } catch (UncheckedIOException e) {
+            throw new SwaggerCoverageWriteException("Could not write results", e.getCause());
         }
+        LOGGER.info("Write {} fragments of html report in folder '{}'", list.size(), fragments);
     }
 
+    /**
+     * Part of split report, kind selects what the fragment template renders for the name.
+     */
+    private static class Fragment {
+
+        private final String id;
+        private final String kind;
+        private final String name;
+
+        private Fragment(String id, String kind, String name) {
+            this.id = id;
+            this.kind = kind;
+            this.name = name;
+        }
+    }
 }
@@ -1,10 +1,13 @@
 package com.github.viclovsky.swagger.coverage.option;
 
 import com.beust.jcommander.Parameter;
+import com.github.viclovsky.swagger.coverage.core.source.CaptureSources;
+import com.github.viclovsky.swagger.coverage.core.source.DefaultCaptureSourceProvider;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,11 +25,14 @@ public class MainOptions {
 
     @Parameter(
             names = {"-i", "--input"},
-            description = "Path to folder with generated files with coverage.",
-            required = true,
+            description = "Path to folder with generated files with coverage, or a source of captures selected by scheme: " +
+                    "file:, access-log:, har:, otlp:, jtl:, gatling: followed by a path, or - for captures as json " +
+                    "lines from stdin. Other schemes can be added by capture source providers on the classpath. " +
+                    "Can be specified multiple times, the first folder without scheme is followed with --follow " +
+                    "and --collector-port. Required unless --projection or a shortcut like --access-log is set.",
             order = 1
     )
-    private Path inputPath;
+    private List<String> inputStrings = new ArrayList<>();
 
     @Parameter(
             names = {"-c", "--configuration"},
@@ -35,11 +41,84 @@ public class MainOptions {
     )
     private Path configuration;
 
+    @Parameter(
+            names = "--collector-port",
+            description = "Collect calls from running tests on this loopback port before building report. " +
+                    "Report is built after POST /finish, files from input folder are added as spooled calls.",
+            order = 2
+    )
+    private Integer collectorPort;
+
+    @Parameter(
+            names = "--follow",
+            description = "Add calls from input folder while tests are running. " +
+                    "Report is built when file swagger-coverage.done appears in input folder.",
+            order = 3
+    )
+    private boolean follow;
+
+    @Parameter(
+            names = "--projection",
+            description = "Write capture projection for the filters to this file and exit. " +
+                    "Filters load it from system property swagger.coverage.projection " +
+                    "and record only what the configured rules need.",
+            order = 4
+    )
+    private Path projectionPath;
+
+    @Parameter(
+            names = "--access-log",
+            description = "Same as -i access-log:<path>. Add calls of nginx or Apache access log in combined or json format, " +
+                    "or of all logs in a directory, gzip files included. Can be specified multiple times.",
+            order = 5
+    )
+    private List<String> accessLogPathStrings = new ArrayList<>();
+
+    @Parameter(
+            names = "--har",
+            description = "Same as -i har:<path>. Add calls of HAR archive, or of all .har files in a directory. " +
+                    "Can be specified multiple times.",
+            order = 6
+    )
+    private List<String> harPathStrings = new ArrayList<>();
+
+    @Parameter(
+            names = "--otlp",
+            description = "Same as -i otlp:<path>. Add HTTP server spans of OTLP/JSON trace file, or of all .json, .jsonl and .gz files " +
+                    "in a directory. Can be specified multiple times.",
+            order = 7
+    )
+    private List<String> otlpPathStrings = new ArrayList<>();
+
+    @Parameter(
+            names = "--jtl",
+            description = "Same as -i jtl:<path>. Add samples of JMeter results in CSV or XML format, or of all .jtl, .csv and .xml files " +
+                    "in a directory. Can be specified multiple times.",
+            order = 8
+    )
+    private List<String> jtlPathStrings = new ArrayList<>();
+
+    @Parameter(
+            names = "--gatling",
+            description = "Same as -i gatling:<path>. Add requests of Gatling simulation.log, or of all logs in a directory. " +
+                    "Can be specified multiple times.",
+            order = 9
+    )
+    private List<String> gatlingPathStrings = new ArrayList<>();
+
+    @Parameter(
+            names = "--baseline",
+            description = "Compare response times with this results file of a previous run. " +
+                    "Exit code is 2 if some operation got slower or fails more often.",
+            order = 10
+    )
+    private Path baselinePath;
+
     @Parameter(
             names = "--help",
             description = "Print commandline help.",
             help = true,
-            order = 5
+            order = 11
     )
     private boolean help;
 
@@ -67,11 +146,48 @@ public class MainOptions {
         return result;
     }
 
+    /**
+     * @return the first input without scheme, a folder of output files which can be followed
+     */
     public Path getInputPath() {
-        return inputPath;
+        return inputStrings.stream().filter(input -> CaptureSources.scheme(input) == null)
+                .findFirst().map(Paths::get).orElse(null);
+    }
+
+    /**
+     * @return inputs which are read through their capture source, shortcuts like --har included
+     */
+    public List<String> getInputs() {
+        Path inputPath = getInputPath();
+        List<String> inputs = inputStrings.stream()
+                .filter(input -> inputPath == null || CaptureSources.scheme(input) != null
+                        || !Paths.get(input).equals(inputPath))
+                .collect(Collectors.toList());
+        accessLogPathStrings.forEach(path -> inputs.add(DefaultCaptureSourceProvider.ACCESS_LOG + ":" + path));
+        harPathStrings.forEach(path -> inputs.add(DefaultCaptureSourceProvider.HAR + ":" + path));
+        otlpPathStrings.forEach(path -> inputs.add(DefaultCaptureSourceProvider.OTLP + ":" + path));
+        jtlPathStrings.forEach(path -> inputs.add(DefaultCaptureSourceProvider.JTL + ":" + path));
+        gatlingPathStrings.forEach(path -> inputs.add(DefaultCaptureSourceProvider.GATLING + ":" + path));
+        return inputs;
     }
 
     public Path getConfiguration() {
         return configuration;
     }
+
+    public Integer getCollectorPort() {
+        return collectorPort;
+    }
+
+    public boolean isFollow() {
+        return follow;
+    }
+
+    public Path getProjectionPath() {
+        return projectionPath;
+    }
+
+    public Path getBaselinePath() {
+        return baselinePath;
+    }
 }
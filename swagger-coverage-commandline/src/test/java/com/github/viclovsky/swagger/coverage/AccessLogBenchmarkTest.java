@@ -0,0 +1,92 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CapturePipeline;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.source.AccessLogReader;
+import com.github.viclovsky.swagger.coverage.core.source.CaptureSink;
+import io.swagger.v3.oas.models.PathItem;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Measures read speed of a generated combined log in MB/s: parsing alone, and through the pipeline of a session
+ * which evaluates the calls. The best of several rounds after a warm-up is reported.
+ */
+public class AccessLogBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessLogBenchmarkTest.class);
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+    private static final int LINES = 200_000;
+    private static final int ROUNDS = 3;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReportReadSpeed() throws IOException {
+        Path log = folder.newFile("access.log").toPath();
+        try (Writer writer = Files.newBufferedWriter(log, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < LINES; i++) {
+                writer.write("10.0.0." + i % 250 + " - - [19/Oct/2026:10:00:00 +0000] \"GET /pet/findByStatus?status="
+                        + (i % 3 == 0 ? "sold" : "available") + "&page=" + i + " HTTP/1.1\" " + (i % 10 == 0 ? 404 : 200)
+                        + " " + (512 + i % 100) + " \"https://petstore/\" \"Mozilla/5.0 (X11; Linux x86_64)\" 0.0"
+                        + (10 + i % 90) + "\n");
+            }
+        }
+        long size = Files.size(log);
+
+        AtomicLong parsed = new AtomicLong();
+        CaptureSink counter = captures -> {
+            parsed.addAndGet(captures.size());
+            return null;
+        };
+        new AccessLogReader(counter).read(log);
+        long parse = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            new AccessLogReader(counter).read(log);
+            parse = Math.min(parse, System.nanoTime() - start);
+        }
+
+        CoverageSession session = null;
+        long evaluate = Long.MAX_VALUE;
+        for (int round = 0; round <= ROUNDS; round++) {
+            session = CoverageSession.open(Collections.singletonList(
+                    CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+            long start = System.nanoTime();
+            try (CapturePipeline pipeline = session.pipeline()) {
+                new AccessLogReader(pipeline).read(log);
+            }
+            if (round > 0) {
+                evaluate = Math.min(evaluate, System.nanoTime() - start);
+            }
+        }
+
+        LOGGER.info("Read {} MB of access log on {} cores: parse {} MB/s, parse and evaluate {} MB/s",
+                size >> 20, Runtime.getRuntime().availableProcessors(), speed(size, parse), speed(size, evaluate));
+        assertThat(parsed.get(), equalTo((ROUNDS + 1L) * LINES));
+        assertThat(session.build().getOperations().get(new OperationKey().setPath("/pet/findByStatus")
+                .setHttpMethod(PathItem.HttpMethod.GET)).getProcessCount(), equalTo((long) LINES));
+    }
+
+    private static String speed(long bytes, long nanos) {
+        return String.format("%.0f", bytes / (nanos / 1e9) / (1024 * 1024));
+    }
+}
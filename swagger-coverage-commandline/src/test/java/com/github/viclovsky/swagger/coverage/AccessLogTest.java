@@ -0,0 +1,108 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.generator.OperationRouter;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationResult;
+import com.github.viclovsky.swagger.coverage.core.source.AccessLogReader;
+import io.swagger.v3.oas.models.PathItem;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class AccessLogTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldPreferLiteralSegments() {
+        OperationKey findByStatus = key("/pet/findByStatus", PathItem.HttpMethod.GET);
+        OperationKey petById = key("/pet/{petId}", PathItem.HttpMethod.GET);
+        OperationKey image = key("/pet/{petId}/{name}.png", PathItem.HttpMethod.GET);
+        OperationRouter router = new OperationRouter(Arrays.asList(petById, findByStatus, image));
+
+        assertThat(router.route(PathItem.HttpMethod.GET, "/pet/findByStatus"), equalTo(findByStatus));
+        assertThat(router.route(PathItem.HttpMethod.GET, "/pet/12"), equalTo(petById));
+        assertThat(router.route(PathItem.HttpMethod.GET, "/pet/12/rex.png"), equalTo(image));
+        assertThat(router.route(PathItem.HttpMethod.GET, "/pet/12/rex.gif"), nullValue());
+        assertThat(router.route(PathItem.HttpMethod.DELETE, "/pet/findByStatus"), nullValue());
+    }
+
+    @Test
+    public void shouldReadPlainAndGzipCombinedLogsInChunks() throws IOException {
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            log.append("10.0.0.1 - - [19/Oct/2026:10:00:00 +0000] \"GET /store/order/").append(i)
+                    .append(" HTTP/1.1\" ").append(i % 10 == 0 ? 404 : 200)
+                    .append(" 512 \"-\" \"curl/8.0 (x86_64)\" 0.0").append(10 + i % 90).append('\n');
+        }
+        Path logs = folder.newFolder().toPath();
+        Files.write(logs.resolve("access.log"), log.toString().getBytes(StandardCharsets.UTF_8));
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(logs.resolve("access.log.1.gz")))) {
+            out.write(log.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        CoverageSession session = session();
+        AccessLogReader reader = new AccessLogReader(session).setChunkSize(256).setParallelism(4).read(logs);
+
+        OperationResult order = operation(session.build(), "/store/order/{orderId}", PathItem.HttpMethod.GET);
+        assertThat(reader.getCalls(), equalTo(200L));
+        assertThat(order.getProcessCount(), equalTo(200L));
+        assertThat(order.getLatency().getStatuses().keySet(), contains("200", "404"));
+        assertThat(order.getLatency().getStatuses().get("404").getCount(), equalTo(20L));
+        assertThat(order.getLatency().getAll().getMax(), equalTo(99L));
+        assertThat(order.getPayload().getResponse().getMax(), equalTo(512L));
+    }
+
+    @Test
+    public void shouldReadJsonLogs() throws IOException {
+        Path log = folder.newFile("access.json").toPath();
+        Files.write(log, Arrays.asList(
+                "{\"method\": \"GET\", \"uri\": \"/pet/findByStatus\", \"args\": \"status=sold\", \"status\": 200, \"request_time\": 0.005}",
+                "{\"request\": \"GET /pet/7 HTTP/1.1\", \"status\": \"200\", \"headers\": {\"host\": \"petstore\"}}",
+                "not a request"
+        ), StandardCharsets.UTF_8);
+
+        CoverageSession session = session();
+        AccessLogReader reader = new AccessLogReader(session).read(log);
+
+        Results results = session.build();
+        assertThat(reader.getLines(), equalTo(3L));
+        assertThat(operation(results, "/pet/findByStatus", PathItem.HttpMethod.GET).getProcessCount(), equalTo(1L));
+        assertThat(operation(results, "/pet/findByStatus", PathItem.HttpMethod.GET).getLatency().getAll().getMax(),
+                equalTo(5L));
+        assertThat(operation(results, "/pet/{petId}", PathItem.HttpMethod.GET).getProcessCount(), equalTo(1L));
+    }
+
+    private static CoverageSession session() {
+        return CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+    }
+
+    private static OperationResult operation(Results results, String path, PathItem.HttpMethod method) {
+        return results.getOperations().get(key(path, method));
+    }
+
+    private static OperationKey key(String path, PathItem.HttpMethod method) {
+        return new OperationKey().setPath(path).setHttpMethod(method);
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.OperationConditionGenerator;
+import com.github.viclovsky.swagger.coverage.core.generator.SpecificationLoader;
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.rule.body.BodyVariantRule;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaIndex;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaMatcher;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+public class BodyVariantRuleTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/body_variants.yaml");
+
+    @Test
+    public void shouldPrecomputeDiscriminatorMapping() {
+        SchemaMatcher matcher = new SchemaIndex(spec()).matcher(new Schema().$ref("#/components/schemas/Pet"));
+
+        assertThat(matcher.getDiscriminator(), equalTo("petType"));
+        assertThat(matcher.getDiscriminatorIndex().get("cat"), equalTo(0));
+        assertThat(matcher.getDiscriminatorIndex().get("dog"), equalTo(1));
+        assertThat(matcher.getDiscriminatorIndex().get("Lizard"), equalTo(2));
+    }
+
+    @Test
+    public void shouldCoverVariantByDiscriminatorValue() {
+        Map<String, Boolean> covered = check("/pet", new Schema()
+                .addProperties("petType", new Schema().example("dog"))
+                .addProperties("name", new Schema()));
+
+        assertThat(covered.keySet(), contains("«application/json» body variant «Cat»",
+                "«application/json» body variant «Dog»", "«application/json» body variant «Lizard»"));
+        assertThat(covered.get("«application/json» body variant «Dog»"), equalTo(true));
+        assertThat(covered.get("«application/json» body variant «Cat»"), equalTo(false));
+    }
+
+    @Test
+    public void shouldNotCoverVariantByUnknownDiscriminatorValue() {
+        Map<String, Boolean> covered = check("/pet", new Schema()
+                .addProperties("petType", new Schema().example("parrot")));
+
+        assertThat(covered.containsValue(true), equalTo(false));
+    }
+
+    @Test
+    public void shouldCoverVariantByStructureWithoutDiscriminator() {
+        Map<String, Boolean> covered = check("/shape", new Schema().addProperties("side", new Schema()));
+
+        assertThat(covered.get("«application/json» body variant «Square»"), equalTo(true));
+        assertThat(covered.get("«application/json» body variant «Circle»"), equalTo(false));
+    }
+
+    private Map<String, Boolean> check(String path, Schema body) {
+        List<Condition> conditions = OperationConditionGenerator.getOperationMap(spec(),
+                        Collections.singletonList(new BodyVariantRule()))
+                .get(new OperationKey().setPath(path).setHttpMethod(PathItem.HttpMethod.POST))
+                .getConditions();
+        Operation captured = new Operation().requestBody(new RequestBody()
+                .content(new Content().addMediaType("application/json", new MediaType().schema(body))));
+
+        conditions.forEach(condition -> condition.check(captured));
+        return conditions.stream()
+                .collect(Collectors.toMap(Condition::getName, Condition::isCovered, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private static OpenAPI spec() {
+        return SpecificationLoader.load(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/body_variants.yaml").toUri()), null);
+    }
+}
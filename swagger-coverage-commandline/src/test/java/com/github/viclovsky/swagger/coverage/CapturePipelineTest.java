@@ -0,0 +1,98 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CapturePipeline;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.generator.PipelineStage;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.source.CaptureSources;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Paths;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.fail;
+
+public class CapturePipelineTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Test
+    public void shouldEvaluateLikeSession() {
+        CoverageSession direct = session();
+        for (Path path : new FileSystemOutputReader(CONFIG.getOutput()).getOutputs()) {
+            direct.addFile(path);
+        }
+
+        CoverageSession staged = session();
+        staged.getConfiguration().getPipelineOptions()
+                .setDecodeParallelism(3)
+                .setRouteParallelism(2)
+                .setEvaluateParallelism(3)
+                .setQueueCapacity(1)
+                .setBatchSize(1);
+        CapturePipeline pipeline = staged.pipeline();
+        try {
+            CaptureSources.read(CaptureSources.FILE + ":" + CONFIG.getOutput(), pipeline, 2);
+        } finally {
+            pipeline.close();
+        }
+
+        Results expected = direct.build();
+        Results actual = staged.build();
+
+        assertThat(actual.getConditionCounter().getCovered(), greaterThan(0L));
+        assertThat(actual.getConditionCounter().getCovered(), equalTo(expected.getConditionCounter().getCovered()));
+        assertThat(actual.getMissed().keySet(), equalTo(expected.getMissed().keySet()));
+        assertThat(actual.getGenerationStatistics().getResultFileCount(),
+                equalTo(expected.getGenerationStatistics().getResultFileCount()));
+        expected.getOperations().forEach((key, operation) -> assertThat(key.toString(),
+                actual.getOperations().get(key).getProcessCount(), equalTo(operation.getProcessCount())));
+
+        PipelineStage decode = pipeline.getStages().get(0);
+        assertThat(decode.getItems(), equalTo(actual.getGenerationStatistics().getResultFileCount()));
+        assertThat(decode.getMaxDepth(), lessThanOrEqualTo((long) decode.getCapacity()));
+    }
+
+    @Test(timeout = 10000)
+    public void shouldReportErrorOfWorker() {
+        CoverageSession session = session();
+        session.getConfiguration().getPipelineOptions()
+                .setQueueCapacity(1)
+                .setBatchSize(1);
+        CapturePipeline pipeline = session.pipeline();
+        OpenAPI broken = new OpenAPI() {
+            @Override
+            public Paths getPaths() {
+                throw new AssertionError("broken capture");
+            }
+        };
+
+        try {
+            for (int i = 0; i < 100; i++) {
+                pipeline.addAll(Collections.singletonList(broken));
+            }
+        } catch (IllegalStateException e) {
+            assertThat(e.getCause(), instanceOf(AssertionError.class));
+        }
+
+        try {
+            pipeline.close();
+            fail("Error of worker is not reported");
+        } catch (IllegalStateException e) {
+            assertThat(e.getCause(), instanceOf(AssertionError.class));
+        }
+    }
+
+    private CoverageSession session() {
+        return CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.configuration.ConfigurationBuilder;
+import com.github.viclovsky.swagger.coverage.core.generator.CaptureProjectionBuilder;
+import com.github.viclovsky.swagger.coverage.core.generator.SpecificationLoader;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class CaptureProjectionTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldKeepOnlyWhatRulesRead() {
+        CaptureProjection projection = build();
+
+        assertThat(projection.isAll(), is(false));
+        assertThat(projection.keepName(CaptureProjection.PATH, "petId"), is(true));
+        assertThat(projection.keepValue(CaptureProjection.PATH, "petId"), is(false));
+        assertThat(projection.keepName(CaptureProjection.HEADER, "API_KEY"), is(true));
+        assertThat(projection.keepValue(CaptureProjection.QUERY, "status"), is(true));
+        assertThat(projection.keepName(CaptureProjection.HEADER, "X-Request-ID"), is(false));
+        assertThat(projection.keepName(CaptureProjection.QUERY, "petId"), is(false));
+    }
+
+    @Test
+    public void shouldReadWrittenProjection() throws Exception {
+        CaptureProjection projection = build();
+        Path file = folder.getRoot().toPath().resolve("projection.json");
+
+        projection.write(file);
+        CaptureProjection read = CaptureProjection.read(file);
+
+        assertThat(read.getNames(), equalTo(projection.getNames()));
+        assertThat(read.getValues(), equalTo(projection.getValues()));
+    }
+
+    private CaptureProjection build() {
+        OpenAPI spec = SpecificationLoader.load(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), null);
+        return CaptureProjectionBuilder.build(spec, ConfigurationBuilder.build(CONFIG.getPath()).getRulesList());
+    }
+}
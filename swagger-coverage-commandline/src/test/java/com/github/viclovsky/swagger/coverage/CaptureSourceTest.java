@@ -0,0 +1,69 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.source.CaptureSource;
+import com.github.viclovsky.swagger.coverage.core.source.CaptureSources;
+import com.github.viclovsky.swagger.coverage.core.source.FileCaptureSource;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.iterableWithSize;
+import static org.hamcrest.Matchers.nullValue;
+
+public class CaptureSourceTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Test
+    public void shouldSelectSourceByScheme() {
+        assertThat(CaptureSources.scheme("har:session.har"), equalTo("har"));
+        assertThat(CaptureSources.location("har:session.har"), equalTo("session.har"));
+        assertThat(CaptureSources.scheme("ACCESS-LOG:/var/log/nginx"), equalTo("access-log"));
+        assertThat(CaptureSources.scheme("-"), equalTo(CaptureSources.STDIN));
+        assertThat(CaptureSources.scheme("swagger-coverage-output"), nullValue());
+        assertThat(CaptureSources.scheme("C:\\swagger-coverage-output"), nullValue());
+
+        assertThat(CaptureSources.open(CONFIG.getOutput().toString()), instanceOf(FileCaptureSource.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnUnknownScheme() {
+        CaptureSources.open("kafka:captures");
+    }
+
+    @Test
+    public void shouldReadSplitFileSourceLikeFiles() {
+        CoverageSession fromFiles = session();
+        for (Path path : new FileSystemOutputReader(CONFIG.getOutput()).getOutputs()) {
+            fromFiles.addFile(path);
+        }
+
+        String input = CaptureSources.FILE + ":" + CONFIG.getOutput();
+        List<CaptureSource> parts = CaptureSources.open(input).split(3);
+        CoverageSession fromSource = session();
+        CaptureSources.read(input, fromSource, 3);
+
+        Results expected = fromFiles.build();
+        Results actual = fromSource.build();
+
+        assertThat(parts, iterableWithSize(3));
+        assertThat(actual.getConditionCounter().getCovered(), greaterThan(0L));
+        assertThat(actual.getConditionCounter().getCovered(), equalTo(expected.getConditionCounter().getCovered()));
+        assertThat(actual.getGenerationStatistics().getResultFileCount(),
+                equalTo(expected.getGenerationStatistics().getResultFileCount()));
+    }
+
+    private CoverageSession session() {
+        return CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+    }
+}
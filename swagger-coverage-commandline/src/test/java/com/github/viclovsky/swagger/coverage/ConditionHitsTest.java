@@ -0,0 +1,128 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.model.ConditionOperationCoverage;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.model.SinglePredicateCondition;
+import com.github.viclovsky.swagger.coverage.core.predicate.DefaultParameterValueConditionPredicate;
+import com.github.viclovsky.swagger.coverage.core.predicate.ParameterValueConditionPredicate;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+
+public class ConditionHitsTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Test
+    public void shouldCountHitsOfCoveredConditions() {
+        CoverageSession session = CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+        Set<Path> outputs = new FileSystemOutputReader(CONFIG.getOutput()).getOutputs();
+
+        outputs.forEach(session::addFile);
+        Results once = session.build();
+        long covered = once.getConditionCounter().getCovered();
+        Map<OperationKey, long[]> hitsOnce = once.getConditionHeatmap().getOperations();
+
+        outputs.forEach(session::addFile);
+        Results twice = session.build();
+
+        assertThat(once.getConditionHeatmap().getMaxHits(), greaterThan(0L));
+        assertThat(once.getConditionHeatmap().getSingleHit(), not(empty()));
+        assertThat(twice.getConditionCounter().getCovered(), equalTo(covered));
+        assertThat(twice.getConditionHeatmap().getSingleHit(), empty());
+        assertThat(twice.getConditionHeatmap().getMaxHits(), equalTo(2 * once.getConditionHeatmap().getMaxHits()));
+        hitsOnce.forEach((operation, hits) -> {
+            long[] hitsTwice = twice.getConditionHeatmap().getOperations().get(operation);
+            for (int id = 0; id < hits.length; id++) {
+                assertThat(hitsTwice[id], equalTo(2 * hits[id]));
+            }
+        });
+    }
+
+    @Test
+    public void shouldCountOnlyCallsWhichMatchValue() {
+        Condition all = new SinglePredicateCondition("all", "",
+                new ParameterValueConditionPredicate("status", "query", Arrays.asList("sold", "pending")));
+        Condition sold = new SinglePredicateCondition("sold", "",
+                new DefaultParameterValueConditionPredicate("status", "query", "sold"));
+        List<Condition> conditions = Arrays.asList(all, sold);
+        ConditionOperationCoverage coverage = new ConditionOperationCoverage().setConditions(conditions);
+
+        coverage.check(call("sold")).check(call("available")).check(call("sold")).check(call("pending"));
+        all.postCheck();
+
+        assertThat(all.isCovered(), equalTo(true));
+        assertThat(coverage.getHits(0), equalTo(3L));
+        assertThat(sold.isCovered(), equalTo(true));
+        assertThat(coverage.getHits(1), equalTo(2L));
+    }
+
+    @Test
+    public void shouldCountHitsOfConditionFromCheck() {
+        Condition soldOnly = new Condition("sold only", "") {
+            @Override
+            public void postCheck() {
+            }
+
+            @Override
+            public boolean isHasPostCheck() {
+                return false;
+            }
+
+            @Override
+            public boolean isNeedCheck() {
+                return !isCovered();
+            }
+
+            @Override
+            public boolean check(Operation operation) {
+                boolean sold = "sold".equals(operation.getParameters().get(0).getExample());
+                setCovered(isCovered() || sold);
+                return sold;
+            }
+
+            @Override
+            public String getReason() {
+                return null;
+            }
+
+            @Override
+            public String getType() {
+                return "custom";
+            }
+        };
+        ConditionOperationCoverage coverage = new ConditionOperationCoverage()
+                .setConditions(Collections.singletonList(soldOnly));
+
+        coverage.check(call("sold")).check(call("available")).check(call("sold"));
+
+        assertThat(soldOnly.isCovered(), equalTo(true));
+        assertThat(coverage.getHits(0), equalTo(2L));
+    }
+
+    private static Operation call(String status) {
+        QueryParameter parameter = new QueryParameter();
+        parameter.setName("status");
+        parameter.setExample(status);
+        return new Operation().addParametersItem(parameter).responses(new ApiResponses());
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.collector.CoverageCollector;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+public class CoverageCollectorTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldCollectCallsFromNetworkWriter() throws Exception {
+        CoverageSession session = session();
+        Set<Path> outputs = new FileSystemOutputReader(CONFIG.getOutput()).getOutputs();
+
+        try (CoverageCollector collector = new CoverageCollector(session, 0).start()) {
+            NetworkOutputWriter writer = new NetworkOutputWriter(URI.create("http://localhost:" + collector.getPort()),
+                    folder.getRoot().toPath()).setBatchSize(3);
+            outputs.forEach(path -> writer.write(read(path)));
+            writer.close();
+
+            assertThat(collector.getReceived(), equalTo((long) outputs.size()));
+            assertThat(new FileSystemOutputReader(folder.getRoot().toPath()).getOutputs(), hasSize(0));
+        }
+
+        CoverageSession expected = session();
+        outputs.forEach(expected::addFile);
+        assertThat(coveredConditions(session), equalTo(coveredConditions(expected)));
+    }
+
+    @Test
+    public void shouldSpoolCallsWhenCollectorIsNotAvailable() {
+        Set<Path> outputs = new FileSystemOutputReader(CONFIG.getOutput()).getOutputs();
+
+        NetworkOutputWriter writer = new NetworkOutputWriter(URI.create("http://localhost:1"),
+                folder.getRoot().toPath()).setBatchSize(1);
+        outputs.forEach(path -> writer.write(read(path)));
+        writer.close();
+
+        Set<Path> spooled = new FileSystemOutputReader(folder.getRoot().toPath()).getOutputs();
+        assertThat(spooled, hasSize(outputs.size()));
+        spooled.forEach(path -> assertThat(path.getFileName().toString(), endsWith(".json")));
+    }
+
+    @Test
+    public void shouldRejectWholeBatchWithBrokenFrame() throws Exception {
+        CoverageSession session = session();
+        Path output = new FileSystemOutputReader(CONFIG.getOutput()).getOutputs().iterator().next();
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(body)) {
+            CaptureRecordCodec.writeFrame(out, CaptureRecordCodec.encode(read(output)));
+            out.writeInt(Integer.MAX_VALUE);
+            out.write(new byte[]{CaptureRecordCodec.OPENAPI});
+        }
+
+        try (CoverageCollector collector = new CoverageCollector(session, 0).start()) {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + collector.getPort()
+                    + CoverageCollector.CAPTURES_PATH).openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            try (OutputStream os = connection.getOutputStream()) {
+                body.writeTo(os);
+            }
+            assertThat(connection.getResponseCode(), equalTo(400));
+            connection.disconnect();
+
+            assertThat(collector.getReceived(), equalTo(0L));
+        }
+        assertThat(coveredConditions(session), equalTo(coveredConditions(session())));
+    }
+
+    @Test
+    public void shouldBuildSameSnapshotTwice() {
+        CoverageSession session = session();
+        new FileSystemOutputReader(CONFIG.getOutput()).getOutputs().forEach(session::addFile);
+
+        Results first = session.build();
+        Results second = session.build();
+
+        assertThat(second.getConditionCounter().getCovered(), equalTo(first.getConditionCounter().getCovered()));
+        assertThat(second.getConditionCounter().getAll(), equalTo(first.getConditionCounter().getAll()));
+        assertThat(second.getZeroCall(), equalTo(first.getZeroCall()));
+    }
+
+    private static long coveredConditions(CoverageSession session) {
+        return session.build().getConditionCounter().getCovered();
+    }
+
+    private static OpenAPI read(Path path) {
+        return new OpenAPIParser().readLocation(path.toUri().toString(), null, null).getOpenAPI();
+    }
+
+    private CoverageSession session() {
+        return CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+    }
+}
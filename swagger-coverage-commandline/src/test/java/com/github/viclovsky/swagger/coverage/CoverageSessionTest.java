@@ -0,0 +1,77 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.results.data.GenerationStatistics;
+import com.github.viclovsky.swagger.coverage.core.results.util.DateTimeUtil;
+import io.swagger.parser.OpenAPIParser;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+public class CoverageSessionTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldCollectSameCoverageInMemoryAsFromFiles() {
+        CoverageSession fromFiles = session();
+        CoverageSession inMemory = session();
+        OpenAPIParser parser = new OpenAPIParser();
+
+        for (Path path : new FileSystemOutputReader(CONFIG.getOutput()).getOutputs()) {
+            fromFiles.addFile(path);
+            inMemory.write(parser.readLocation(path.toUri().toString(), null, null).getOpenAPI());
+        }
+
+        Results expected = fromFiles.build();
+        Results actual = inMemory.build();
+
+        assertThat(actual.getConditionCounter().getCovered(), greaterThan(0L));
+        assertThat(actual.getConditionCounter().getCovered(), equalTo(expected.getConditionCounter().getCovered()));
+        assertThat(actual.getCoverageOperationMap().getFull(), equalTo(expected.getCoverageOperationMap().getFull()));
+        assertThat(actual.getCoverageOperationMap().getParty(), equalTo(expected.getCoverageOperationMap().getParty()));
+    }
+
+    @Test
+    public void shouldCountFilesAndDateInMemoryCapturesByArrival() throws IOException {
+        CoverageSession session = session();
+        OpenAPIParser parser = new OpenAPIParser();
+        Path output = new FileSystemOutputReader(CONFIG.getOutput()).getOutputs().iterator().next();
+        Path file = Files.copy(output, folder.getRoot().toPath().resolve(output.getFileName()));
+        Instant written = Instant.parse("2020-01-01T00:00:00Z");
+        Files.setLastModifiedTime(file, FileTime.from(written));
+
+        session.addFile(file);
+        session.write(parser.readLocation(output.toUri().toString(), null, null).getOpenAPI());
+        session.write(parser.readLocation(output.toUri().toString(), null, null).getOpenAPI());
+
+        GenerationStatistics statistics = session.build().getGenerationStatistics();
+        assertThat(statistics.getResultFileCount(), equalTo(1L));
+        assertThat(statistics.getFileResultDateInterval(), startsWith(DateTimeUtil.formatDate(written) + " - "));
+        assertThat(statistics.getFileResultDateInterval(), not(endsWith(DateTimeUtil.formatDate(written))));
+    }
+
+    private CoverageSession session() {
+        return CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+    }
+}
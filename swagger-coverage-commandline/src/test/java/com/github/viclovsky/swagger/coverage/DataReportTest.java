@@ -0,0 +1,72 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.viclovsky.swagger.coverage.configuration.options.ResultsWriterOptions;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.writer.DataReportResultsWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class DataReportTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    private static final String DATA_START = "id=\"swagger-coverage-data\">";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldEmbedCompressedResults() throws IOException {
+        CoverageSession session = CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+        for (Path path : new FileSystemOutputReader(CONFIG.getOutput()).getOutputs()) {
+            session.addFile(path);
+        }
+        Results results = session.build();
+
+        Path report = folder.getRoot().toPath().resolve("data.html");
+        new DataReportResultsWriter(new ResultsWriterOptions().setFilename(report.toString())).write(results);
+
+        String page = new String(Files.readAllBytes(report), StandardCharsets.UTF_8);
+        assertThat(page, containsString("DecompressionStream"));
+        int start = page.indexOf(DATA_START) + DATA_START.length();
+        String encoded = page.substring(start, page.indexOf("</script>", start)).trim();
+
+        JsonNode data;
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encoded)))) {
+            data = new ObjectMapper().readTree(in);
+        }
+        assertThat(data.get("operations").size(), equalTo(results.getOperations().size()));
+        assertThat(data.get("tags").size(), equalTo(results.getTagCoverageMap().size()));
+        assertThat(data.get("conditions").size(), greaterThan(0));
+
+        int conditions = results.getOperations().values().stream()
+                .mapToInt(operation -> operation.getConditions().size()).sum();
+        assertThat(data.get("conditions").size(), equalTo(conditions));
+        JsonNode condition = data.get("conditions").get(0);
+        assertThat(data.get("strings").get(condition.get(1).asInt()).asText(),
+                equalTo(results.getOperations().values().stream()
+                        .filter(operation -> !operation.getConditions().isEmpty())
+                        .findFirst().get().getConditions().get(0).getName()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationResult;
+import com.github.viclovsky.swagger.coverage.core.source.HarReader;
+import io.swagger.v3.oas.models.PathItem;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+public class HarTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadEntriesOfSeveralArchives() throws IOException {
+        Path archives = folder.newFolder().toPath();
+        write(archives.resolve("first.har"),
+                entry("GET", "https://petstore.io/pet/findByStatus?status=sold", 200, 12.6, "\"content\": {\"mimeType\": \"application/json\", \"size\": 2048, \"text\": \"[{},{}]\"}"),
+                entry("GET", "https://petstore.io/pet/findByStatus?status=pending", 400, 3, "\"content\": {\"size\": 0}"));
+        write(archives.resolve("second.har"),
+                entry("GET", "https://petstore.io/store/order/3", 200, 8, "\"content\": {\"mimeType\": \"application/json\"}"),
+                entry("GET", "https://petstore.io/store/order/4", 0, 0, "\"content\": {}"));
+        Files.write(archives.resolve("notes.txt"), "not an archive".getBytes(StandardCharsets.UTF_8));
+
+        CoverageSession session = CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+        HarReader reader = new HarReader(session).setParallelism(2).read(archives);
+
+        Results results = session.build();
+        OperationResult findByStatus = operation(results, "/pet/findByStatus");
+        assertThat(reader.getEntries(), equalTo(4L));
+        assertThat(reader.getCalls(), equalTo(3L));
+        assertThat(findByStatus.getProcessCount(), equalTo(2L));
+        assertThat(findByStatus.getLatency().getStatuses().keySet(), contains("200", "400"));
+        assertThat(findByStatus.getLatency().getAll().getMax(), equalTo(13L));
+        assertThat(findByStatus.getPayload().getResponse().getMax(), equalTo(2048L));
+        assertThat(operation(results, "/store/order/{orderId}").getProcessCount(), equalTo(1L));
+    }
+
+    private static OperationResult operation(Results results, String path) {
+        return results.getOperations().get(new OperationKey().setPath(path).setHttpMethod(PathItem.HttpMethod.GET));
+    }
+
+    private static String entry(String method, String url, int status, double time, String content) {
+        return "{\"startedDateTime\": \"2026-10-19T10:00:00.000Z\", \"time\": " + time + ", "
+                + "\"request\": {\"method\": \"" + method + "\", \"url\": \"" + url + "\", \"httpVersion\": \"HTTP/2\", "
+                + "\"headers\": [{\"name\": \":authority\", \"value\": \"petstore.io\"}, {\"name\": \"accept\", \"value\": \"*/*\"}], "
+                + "\"queryString\": [], \"cookies\": [], \"headersSize\": -1, \"bodySize\": 0}, "
+                + "\"response\": {\"status\": " + status + ", \"statusText\": \"\", \"headers\": [], " + content + "}, "
+                + "\"cache\": {}, \"timings\": {\"send\": 0, \"wait\": " + time + ", \"receive\": 0}}";
+    }
+
+    private static void write(Path file, String... entries) throws IOException {
+        String har = "{\"log\": {\"version\": \"1.2\", \"creator\": {\"name\": \"test\"}, \"entries\": ["
+                + String.join(",", entries) + "], \"pages\": []}}";
+        Files.write(file, har.getBytes(StandardCharsets.UTF_8));
+    }
+}
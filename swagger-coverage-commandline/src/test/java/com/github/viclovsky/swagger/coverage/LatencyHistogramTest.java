@@ -0,0 +1,137 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.results.data.LogLinearHistogram;
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationLatency;
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationPayload;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+public class LatencyHistogramTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Test
+    public void shouldKeepPercentilesWithinBucketError() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (long value = 1; value <= 10000; value++) {
+            histogram.record(value);
+        }
+
+        assertThat((double) histogram.getP50(), closeTo(5000, 5000 / 16.0));
+        assertThat((double) histogram.getP95(), closeTo(9500, 9500 / 16.0));
+        assertThat((double) histogram.getP99(), closeTo(9900, 9900 / 16.0));
+        assertThat(histogram.getMax(), equalTo(10000L));
+        assertThat(histogram.getCount(), equalTo(10000L));
+    }
+
+    @Test
+    public void shouldMergeSameAsRecordedTogether() {
+        LogLinearHistogram first = new LogLinearHistogram();
+        LogLinearHistogram second = new LogLinearHistogram();
+        LogLinearHistogram together = new LogLinearHistogram();
+        for (long value = 0; value < 1000; value++) {
+            (value % 3 == 0 ? first : second).record(value * value);
+            together.record(value * value);
+        }
+
+        first.merge(second);
+
+        assertThat(first.getBuckets(), equalTo(together.getBuckets()));
+        assertThat(first.getP99(), equalTo(together.getP99()));
+        assertThat(first.getSum(), equalTo(together.getSum()));
+    }
+
+    @Test
+    public void shouldAllocateBucketsUpToLargestValue() {
+        LogLinearHistogram histogram = LogLinearHistogram.latency();
+        assertThat(histogram.size(), equalTo(0));
+
+        histogram.record(100);
+        assertThat(histogram.size(), lessThan(64));
+
+        histogram.record(Long.MAX_VALUE);
+        assertThat(histogram.size(), equalTo(352));
+        assertThat(histogram.getP99(), equalTo((1L << 25) - 1));
+    }
+
+    @Test
+    public void shouldNotKeepLatencyOfOperationWithoutTimes() {
+        CoverageSession session = CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+
+        assertThat(session.build().getOperations()
+                .get(new OperationKey().setPath("/store/order/{orderId}").setHttpMethod(PathItem.HttpMethod.GET))
+                .getLatency(), nullValue());
+    }
+
+    @Test
+    public void shouldAggregateCapturedResponseTimesPerStatus() {
+        CoverageSession session = CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+
+        session.add(call("200", 20)).add(call("200", 40)).add(call("404", 5));
+
+        OperationLatency latency = session.build().getOperations()
+                .get(new OperationKey().setPath("/store/order/{orderId}").setHttpMethod(PathItem.HttpMethod.GET))
+                .getLatency();
+        assertThat(latency.getAll().getCount(), equalTo(3L));
+        assertThat(latency.getAll().getMax(), equalTo(40L));
+        assertThat(latency.getStatuses().keySet(), contains("200", "404"));
+        assertThat(latency.getStatuses().get("404").getP50(), equalTo(5L));
+    }
+
+    @Test
+    public void shouldAggregateCapturedBodySizes() {
+        CoverageSession session = CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+
+        OpenAPI withoutSizes = call("200", 10);
+        OpenAPI withSizes = call("200", 10);
+        Operation operation = withSizes.getPaths().get("/store/order/1").getGet();
+        operation.addExtension(SwaggerCoverageConstants.REQUEST_SIZE_EXTENSION, 100L);
+        operation.addExtension(SwaggerCoverageConstants.RESPONSE_SIZE_EXTENSION, 4096L);
+        session.add(withSizes).add(withoutSizes);
+
+        OperationPayload payload = session.build().getOperations()
+                .get(new OperationKey().setPath("/store/order/{orderId}").setHttpMethod(PathItem.HttpMethod.GET))
+                .getPayload();
+        assertThat(payload.getRequest().getCount(), equalTo(1L));
+        assertThat(payload.getRequest().getMax(), equalTo(100L));
+        assertThat(payload.getResponse().getP95(), equalTo(4096L));
+    }
+
+    @Test
+    public void shouldNotKeepPayloadOfCallsWithoutSizes() {
+        CoverageSession session = CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+
+        session.add(call("200", 10));
+
+        assertThat(session.build().getOperations()
+                .get(new OperationKey().setPath("/store/order/{orderId}").setHttpMethod(PathItem.HttpMethod.GET))
+                .getPayload(), nullValue());
+    }
+
+    private static OpenAPI call(String status, long millis) {
+        Operation operation = new Operation()
+                .responses(new ApiResponses().addApiResponse(status, new ApiResponse()));
+        operation.addExtension(SwaggerCoverageConstants.RESPONSE_TIME_EXTENSION, millis);
+        return new OpenAPI().path("/store/order/1", new PathItem().get(operation));
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.configuration.Configuration;
+import com.github.viclovsky.swagger.coverage.configuration.ConfigurationBuilder;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.generator.SpecificationLoader;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.results.data.LatencyRegression;
+import com.github.viclovsky.swagger.coverage.model.SwaggerCoverage2ModelJackson;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+public class LatencyRegressionTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path baseline;
+
+    @Before
+    public void writeBaseline() throws IOException {
+        CoverageSession session = session(null);
+        for (int i = 0; i < 50; i++) {
+            session.add(call("200", 20 + i));
+        }
+        baseline = folder.newFile("baseline.json").toPath();
+        SwaggerCoverage2ModelJackson.createJsonMapper().writeValue(baseline.toFile(), session.build());
+    }
+
+    @Test
+    public void shouldNotReportSameDistribution() {
+        CoverageSession session = session(baseline);
+        for (int i = 0; i < 50; i++) {
+            session.add(call("200", 69 - i));
+        }
+
+        assertThat(session.build().getLatencyRegressions(), empty());
+    }
+
+    @Test
+    public void shouldReportSlowerCallsAndMoreErrors() {
+        CoverageSession session = session(baseline);
+        for (int i = 0; i < 50; i++) {
+            session.add(call(i % 5 == 0 ? "500" : "200", 40 + 2 * i));
+        }
+
+        Results results = session.build();
+        List<LatencyRegression.Kind> kinds = results.getLatencyRegressions().stream()
+                .map(LatencyRegression::getKind)
+                .collect(Collectors.toList());
+        assertThat(kinds, containsInAnyOrder(LatencyRegression.Kind.P95, LatencyRegression.Kind.ERROR_SHARE));
+    }
+
+    private static CoverageSession session(Path baseline) {
+        Configuration configuration = ConfigurationBuilder.build(CONFIG.getPath());
+        if (baseline != null) {
+            configuration.getRegressionOptions().setBaseline(baseline.toString());
+        }
+        return new CoverageSession(SpecificationLoader.load(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), null), configuration);
+    }
+
+    private static OpenAPI call(String status, long millis) {
+        Operation operation = new Operation()
+                .responses(new ApiResponses().addApiResponse(status, new ApiResponse()));
+        operation.addExtension(SwaggerCoverageConstants.RESPONSE_TIME_EXTENSION, millis);
+        return new OpenAPI().path("/store/order/1", new PathItem().get(operation));
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationResult;
+import com.github.viclovsky.swagger.coverage.core.source.AccessLogReader;
+import com.github.viclovsky.swagger.coverage.core.source.GatlingLogParser;
+import com.github.viclovsky.swagger.coverage.core.source.JtlReader;
+import io.swagger.v3.oas.models.PathItem;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+public class LoadTestResultsTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadJmeterCsvInChunks() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("timeStamp,elapsed,label,responseCode,responseMessage,threadName,dataType,success,failureMessage,"
+                + "bytes,sentBytes,grpThreads,allThreads,URL,Latency,IdleTime,Connect");
+        for (int i = 0; i < 60; i++) {
+            lines.add("1760868000000," + (10 + i) + ",GET /pet/{petId},200,OK,\"Pets, 1-" + i + "\",text,true,,"
+                    + "512,120,1,1,http://petstore/pet/" + i + ",9,0,2");
+        }
+        lines.add("1760868000000,3,find sold,200,OK,Pets 1-1,text,true,,64,120,1,1,"
+                + "http://petstore/pet/findByStatus?status=sold,2,0,1");
+        lines.add("1760868000000,1000,GET /pet/{petId},Non HTTP response code: java.net.ConnectException,"
+                + "\"Non HTTP response message: Connection refused\",Pets 1-1,text,false,,0,0,1,1,http://petstore/pet/1,0,0,1000");
+        Path results = folder.newFile("results.jtl").toPath();
+        Files.write(results, lines);
+
+        CoverageSession session = session();
+        JtlReader reader = new JtlReader(session).setChunkSize(512).setParallelism(4).read(results);
+
+        Results built = session.build();
+        OperationResult petById = operation(built, "/pet/{petId}", PathItem.HttpMethod.GET);
+        assertThat(reader.getSamples(), equalTo(62L));
+        assertThat(reader.getCalls(), equalTo(60L));
+        assertThat(petById.getProcessCount(), equalTo(60L));
+        assertThat(petById.getLatency().getAll().getMax(), equalTo(69L));
+        assertThat(petById.getPayload().getResponse().getMax(), equalTo(512L));
+        // method of "find sold" is not known
+        assertThat(operation(built, "/pet/findByStatus", PathItem.HttpMethod.GET).getProcessCount(), equalTo(0L));
+    }
+
+    @Test
+    public void shouldReadJmeterXmlWithoutTransactions() throws IOException {
+        Path results = folder.newFile("results.xml").toPath();
+        Files.write(results, Arrays.asList(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+                "<testResults version=\"1.2\">",
+                "<sample t=\"30\" lb=\"Buy pet\" rc=\"200\" s=\"true\">",
+                "  <httpSample t=\"10\" lb=\"place order\" rc=\"200\" by=\"100\" s=\"true\">",
+                "    <method class=\"java.lang.String\">POST</method>",
+                "    <java.net.URL>http://petstore/store/order</java.net.URL>",
+                "    <responseData class=\"java.lang.String\">{\"id\": 1}</responseData>",
+                "  </httpSample>",
+                "  <httpSample t=\"20\" lb=\"GET /store/order/{orderId}\" rc=\"404\" by=\"10\" s=\"false\">",
+                "    <java.net.URL>http://petstore/store/order/1</java.net.URL>",
+                "  </httpSample>",
+                "</sample>",
+                "</testResults>"));
+
+        CoverageSession session = session();
+        JtlReader reader = new JtlReader(session).read(results);
+
+        Results built = session.build();
+        assertThat(reader.getSamples(), equalTo(2L));
+        assertThat(operation(built, "/store/order", PathItem.HttpMethod.POST).getProcessCount(), equalTo(1L));
+        assertThat(operation(built, "/store/order/{orderId}", PathItem.HttpMethod.GET).getLatency().getStatuses()
+                .keySet(), contains("404"));
+    }
+
+    @Test
+    public void shouldReadGatlingSimulationLog() throws IOException {
+        Path log = folder.newFile("simulation.log").toPath();
+        Files.write(log, Arrays.asList(
+                "RUN\tpetstore.PetSimulation\tpetsimulation\t1760868000000\t \t3.9.5",
+                "USER\tPets\tSTART\t1760868000000\t1760868000000",
+                "REQUEST\t\tGET /pet/findByStatus?status=sold\t1760868000100\t1760868000142\tOK\t ",
+                "REQUEST\t\tGET /pet/{petId}\t1760868000200\t1760868000210\tKO\t"
+                        + "status.find.in([200, 209], 304), found 404",
+                "REQUEST\t\tlogin\t1760868000300\t1760868000310\tOK\t ",
+                "USER\tPets\tEND\t1760868000000\t1760868000400"));
+
+        CoverageSession session = session();
+        AccessLogReader reader = new AccessLogReader(session, new GatlingLogParser()).read(log);
+
+        Results built = session.build();
+        assertThat(reader.getCalls(), equalTo(2L));
+        OperationResult findByStatus = operation(built, "/pet/findByStatus", PathItem.HttpMethod.GET);
+        assertThat(findByStatus.getLatency().getAll().getMax(), equalTo(42L));
+        // log has no status of OK requests
+        assertThat(findByStatus.getLatency().getStatuses().keySet(), empty());
+        assertThat(operation(built, "/pet/{petId}", PathItem.HttpMethod.GET).getLatency().getStatuses().keySet(),
+                contains("404"));
+    }
+
+    private static CoverageSession session() {
+        return CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+    }
+
+    private static OperationResult operation(Results results, String path, PathItem.HttpMethod method) {
+        return results.getOperations().get(new OperationKey().setPath(path).setHttpMethod(method));
+    }
+}
@@ -0,0 +1,170 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.collector.MappedRingBufferReader;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class MappedRingBufferTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadSameCoverageAsFromFiles() {
+        Path directory = folder.getRoot().toPath();
+        List<OpenAPI> calls = calls();
+
+        MappedRingBufferOutputWriter writer = new MappedRingBufferOutputWriter(directory);
+        calls.forEach(writer::write);
+        writer.close();
+
+        CoverageSession session = session();
+        long read = new MappedRingBufferReader(directory, session).poll();
+
+        CoverageSession expected = session();
+        new FileSystemOutputReader(CONFIG.getOutput()).getOutputs().forEach(expected::addFile);
+
+        assertThat(read, equalTo((long) calls.size()));
+        assertThat(session.build().getConditionCounter().getCovered(),
+                equalTo(expected.build().getConditionCounter().getCovered()));
+        assertThat(Files.exists(writer.getFile()), is(false));
+    }
+
+    @Test
+    public void shouldWrapAroundWhileWritersAndReaderRunConcurrently() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        List<OpenAPI> calls = calls();
+        int threads = 4;
+        int iterations = 50;
+
+        MappedRingBufferOutputWriter writer = new MappedRingBufferOutputWriter(directory, 64 * 1024)
+                .setOverflowTimeout(30, TimeUnit.SECONDS);
+        MappedRingBufferReader reader = new MappedRingBufferReader(directory, session());
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicLong read = new AtomicLong();
+        Thread consumer = new Thread(() -> {
+            while (!done.get()) {
+                read.addAndGet(reader.poll());
+            }
+        });
+        consumer.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < iterations; j++) {
+                    calls.forEach(writer::write);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        writer.close();
+
+        done.set(true);
+        consumer.join();
+        read.addAndGet(reader.poll());
+
+        assertThat(read.get(), equalTo((long) threads * iterations * calls.size()));
+    }
+
+    @Test
+    public void shouldWriteFilesWithoutWaitingAfterFirstOverflow() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        List<OpenAPI> calls = calls();
+        MappedRingBufferOutputWriter writer = new MappedRingBufferOutputWriter(directory, 64 * 1024)
+                .setOverflowTimeout(500, TimeUnit.MILLISECONDS);
+
+        int written = 0;
+        while (overflowFiles(directory) == 0) {
+            writer.write(calls.get(written++ % calls.size()));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            writer.write(calls.get(i % calls.size()));
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        writer.close();
+
+        assertThat(elapsed, lessThan(500L));
+        assertThat(overflowFiles(directory), equalTo(21L));
+
+        long read = new MappedRingBufferReader(directory, session()).poll();
+        assertThat(read, equalTo((long) written - 1));
+    }
+
+    @Test
+    public void shouldSkipSlotWhichIsClaimedButNotWritten() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        List<OpenAPI> calls = calls();
+        MappedRingBufferOutputWriter writer = new MappedRingBufferOutputWriter(directory, 64 * 1024);
+        writer.write(calls.get(0));
+        writer.write(calls.get(1));
+        writer.close();
+
+        // first record looks like its writer died after the claim
+        try (RandomAccessFile raf = new RandomAccessFile(writer.getFile().toFile(), "rw")) {
+            raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, raf.length())
+                    .putInt(MappedRingBufferOutputWriter.HEADER_SIZE, 0);
+        }
+
+        MappedRingBufferReader reader = new MappedRingBufferReader(directory, session())
+                .setClaimTimeout(0, TimeUnit.MILLISECONDS);
+        assertThat(reader.poll(), equalTo(0L));
+        Thread.sleep(1);
+        assertThat(reader.poll(), equalTo(1L));
+        assertThat(Files.exists(writer.getFile()), is(false));
+    }
+
+    private static long overflowFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> !MappedRingBufferReader.isRingBuffer(path)).count();
+        }
+    }
+
+    private static List<OpenAPI> calls() {
+        OpenAPIParser parser = new OpenAPIParser();
+        List<OpenAPI> calls = new ArrayList<>();
+        new FileSystemOutputReader(CONFIG.getOutput()).getOutputs().forEach(path ->
+                calls.add(parser.readLocation(path.toUri().toString(), null, null).getOpenAPI()));
+        return calls;
+    }
+
+    private CoverageSession session() {
+        return CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+    }
+}
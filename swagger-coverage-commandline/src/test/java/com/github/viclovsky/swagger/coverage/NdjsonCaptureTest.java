@@ -0,0 +1,58 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.source.NdjsonCaptureReader;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class NdjsonCaptureTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Test
+    public void shouldCollectSameCoverageFromJsonLinesAsFromFiles() throws IOException {
+        CoverageSession fromFiles = session();
+        StringBuilder lines = new StringBuilder();
+        OpenAPIParser parser = new OpenAPIParser();
+        int files = 0;
+
+        for (Path path : new FileSystemOutputReader(CONFIG.getOutput()).getOutputs()) {
+            fromFiles.addFile(path);
+            lines.append(Json.mapper().writeValueAsString(
+                    parser.readLocation(path.toUri().toString(), null, null).getOpenAPI())).append('\n');
+            files++;
+        }
+        lines.append('\n').append("not a capture\n");
+
+        CoverageSession fromLines = session();
+        NdjsonCaptureReader reader = new NdjsonCaptureReader(fromLines).setBatchSize(2).setParallelism(3)
+                .read(new ByteArrayInputStream(lines.toString().getBytes(StandardCharsets.UTF_8)));
+
+        Results expected = fromFiles.build();
+        Results actual = fromLines.build();
+
+        assertThat(reader.getCalls(), equalTo((long) files));
+        assertThat(actual.getConditionCounter().getCovered(), greaterThan(0L));
+        assertThat(actual.getConditionCounter().getCovered(), equalTo(expected.getConditionCounter().getCovered()));
+        assertThat(actual.getCoverageOperationMap().getFull(), equalTo(expected.getCoverageOperationMap().getFull()));
+        assertThat(actual.getCoverageOperationMap().getParty(), equalTo(expected.getCoverageOperationMap().getParty()));
+    }
+
+    private CoverageSession session() {
+        return CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.configuration.options.RuleConfigurationOptions;
+import com.github.viclovsky.swagger.coverage.core.generator.OperationConditionGenerator;
+import com.github.viclovsky.swagger.coverage.core.generator.SpecificationLoader;
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.rule.body.PropertyEnumAllValuesRule;
+import com.github.viclovsky.swagger.coverage.core.rule.body.PropertyNotEmptyRule;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaIndex;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class NestedPropertiesTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/nested_properties.yaml");
+
+    @Test
+    public void shouldFlattenNestedArrayAndAllOfProperties() {
+        SchemaIndex index = new SchemaIndex(spec());
+        Schema pet = new Schema().$ref("#/components/schemas/Pet");
+
+        Map<List<String>, Schema> properties = index.flatten(pet);
+
+        assertThat(properties.keySet(), contains(
+                Collections.singletonList("id"),
+                Collections.singletonList("category"),
+                Arrays.asList("category", "name"),
+                Arrays.asList("category", "parent"),
+                Collections.singletonList("tags"),
+                Arrays.asList("tags", "name")));
+        assertThat(index.flatten(new Schema().$ref("#/components/schemas/Pet")), sameInstance(properties));
+    }
+
+    @Test
+    public void shouldFlattenSameWhateverSchemaIsFlattenedFirst() {
+        OpenAPI spec = new OpenAPI().components(new Components()
+                .addSchemas("Owner", new Schema().addProperties("name", new Schema())
+                        .addProperties("pet", new Schema().$ref("#/components/schemas/Animal")))
+                .addSchemas("Animal", new Schema().addProperties("kind", new Schema())
+                        .addProperties("owner", new Schema().$ref("#/components/schemas/Owner"))));
+        Schema animal = new Schema().$ref("#/components/schemas/Animal");
+        Schema owner = new Schema().$ref("#/components/schemas/Owner");
+
+        SchemaIndex animalFirst = new SchemaIndex(spec);
+        animalFirst.flatten(animal);
+        SchemaIndex ownerFirst = new SchemaIndex(spec);
+
+        assertThat(animalFirst.flatten(owner), equalTo(ownerFirst.flatten(owner)));
+        assertThat(ownerFirst.flatten(owner).keySet(), hasItem(Arrays.asList("pet", "owner")));
+    }
+
+    @Test
+    public void shouldCoverNestedPropertiesOfCapturedBody() {
+        List<Condition> conditions = conditions("/pets");
+        Schema tag = new Schema().addProperties("name", new Schema().example("sold"));
+        Operation captured = captured(new Schema()
+                .addProperties("category", new Schema().addProperties("name", new Schema()))
+                .addProperties("tags", tag));
+
+        conditions.forEach(condition -> condition.check(captured));
+
+        Map<String, Boolean> covered = conditions.stream()
+                .collect(Collectors.toMap(Condition::getName, Condition::isCovered));
+        assertThat(covered.get("«id» is not empty"), equalTo(false));
+        assertThat(covered.get("«/category/name» is not empty"), equalTo(true));
+        assertThat(covered.get("«/category/parent» is not empty"), equalTo(false));
+        assertThat(covered.get("«/tags/name» is not empty"), equalTo(true));
+    }
+
+    @Test
+    public void shouldKeepTopLevelPropertiesOfInlineSchemaByDefault() {
+        List<String> names = conditions("/pets", new RuleConfigurationOptions()).stream()
+                .map(Condition::getName)
+                .collect(Collectors.toList());
+
+        assertThat(names, not(hasItem("«/category/name» is not empty")));
+    }
+
+    private List<Condition> conditions(String path) {
+        return conditions(path, new RuleConfigurationOptions().setNested(true));
+    }
+
+    private List<Condition> conditions(String path, RuleConfigurationOptions options) {
+        return OperationConditionGenerator.getOperationMap(spec(),
+                        Arrays.asList(new PropertyNotEmptyRule().configure(options),
+                                new PropertyEnumAllValuesRule().configure(options)))
+                .get(new OperationKey().setPath(path).setHttpMethod(PathItem.HttpMethod.POST))
+                .getConditions();
+    }
+
+    private static Operation captured(Schema body) {
+        return new Operation().requestBody(new RequestBody()
+                .content(new Content().addMediaType("application/json", new MediaType().schema(body))));
+    }
+
+    private static OpenAPI spec() {
+        return SpecificationLoader.load(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/nested_properties.yaml").toUri()), null);
+    }
+}
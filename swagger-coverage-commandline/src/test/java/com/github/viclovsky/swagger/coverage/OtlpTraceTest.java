@@ -0,0 +1,122 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.generator.OperationRouter;
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.results.data.OperationResult;
+import com.github.viclovsky.swagger.coverage.core.source.OtlpTraceReader;
+import io.swagger.v3.oas.models.PathItem;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+
+public class OtlpTraceTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldRouteByTemplate() {
+        OperationKey findByStatus = key("/pet/findByStatus", PathItem.HttpMethod.GET);
+        OperationKey petById = key("/pet/{petId}", PathItem.HttpMethod.GET);
+        OperationRouter router = new OperationRouter(Arrays.asList(petById, findByStatus));
+
+        assertThat(router.route(PathItem.HttpMethod.GET, "/pet/{id}"), equalTo(petById));
+        assertThat(router.route(PathItem.HttpMethod.GET, "/pet/findByStatus"), equalTo(findByStatus));
+        assertThat(OperationRouter.paramNames("/pet/{id}", "/pet/{petId}"), hasEntry("id", "petId"));
+    }
+
+    @Test
+    public void shouldReadServerSpans() throws IOException {
+        Path traces = folder.newFolder().toPath();
+        Files.write(traces.resolve("traces.jsonl"), Arrays.asList(
+                request("scopeSpans",
+                        span(2, 25, attribute("http.request.method", "GET"), attribute("http.route", "/pet/:id"),
+                                attribute("url.path", "/pet/5"), intAttribute("http.response.status_code", "\"200\"")),
+                        span(2, 3, attribute("http.request.method", "GET"), attribute("url.path", "/pet/findByStatus"),
+                                attribute("url.query", "status=sold"), intAttribute("http.response.status_code", "400")),
+                        span(3, 7, attribute("http.request.method", "GET"), attribute("url.full", "http://pet/pet/5"),
+                                intAttribute("http.response.status_code", "200"))),
+                request("scopeSpans",
+                        span(2, 40, attribute("http.request.method", "GET"), attribute("http.route", "/pet/{petId}"),
+                                intAttribute("http.response.status_code", "404")))));
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(traces.resolve("old.json.gz")))) {
+            out.write(request("instrumentationLibrarySpans",
+                    span("\"SPAN_KIND_SERVER\"", 5, attribute("http.method", "GET"),
+                            attribute("http.target", "/store/order/7?trace=1"), intAttribute("http.status_code", "200")))
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        CoverageSession session = CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+        OtlpTraceReader reader = new OtlpTraceReader(session).setParallelism(2).read(traces);
+
+        Results results = session.build();
+        OperationResult petById = operation(results, "/pet/{petId}");
+        assertThat(reader.getSpans(), equalTo(5L));
+        assertThat(reader.getCalls(), equalTo(4L));
+        assertThat(petById.getProcessCount(), equalTo(2L));
+        assertThat(petById.getLatency().getStatuses().keySet(), contains("200", "404"));
+        assertThat(petById.getLatency().getAll().getMax(), equalTo(40L));
+        // value of the param is taken from url.path, its name from the specification
+        assertThat(petById.getConditions().stream()
+                .filter(condition -> "path «petId» is not empty".equals(condition.getName()))
+                .map(Condition::isCovered).collect(Collectors.toList()), contains(true));
+        assertThat(operation(results, "/pet/findByStatus").getProcessCount(), equalTo(1L));
+        assertThat(operation(results, "/store/order/{orderId}").getProcessCount(), equalTo(1L));
+    }
+
+    private static OperationKey key(String path, PathItem.HttpMethod method) {
+        return new OperationKey().setPath(path).setHttpMethod(method);
+    }
+
+    private static OperationResult operation(Results results, String path) {
+        return results.getOperations().get(key(path, PathItem.HttpMethod.GET));
+    }
+
+    private static String request(String scope, String... spans) {
+        return "{\"resourceSpans\": [{\"resource\": {\"attributes\": [" + attribute("service.name", "petstore")
+                + "]}, \"" + scope + "\": [{\"scope\": {\"name\": \"http\"}, \"spans\": ["
+                + String.join(",", spans) + "]}]}]}";
+    }
+
+    private static String span(int kind, long millis, String... attributes) {
+        return span(String.valueOf(kind), millis, attributes);
+    }
+
+    private static String span(String kind, long millis, String... attributes) {
+        long start = 1760868000000000000L;
+        return "{\"traceId\": \"5b8efff798038103d269b633813fc60c\", \"spanId\": \"eee19b7ec3c1b174\", "
+                + "\"name\": \"GET\", \"kind\": " + kind + ", "
+                + "\"startTimeUnixNano\": \"" + start + "\", \"endTimeUnixNano\": \"" + (start + millis * 1_000_000) + "\", "
+                + "\"attributes\": [" + String.join(",", attributes) + "], \"status\": {}}";
+    }
+
+    private static String attribute(String key, String value) {
+        return "{\"key\": \"" + key + "\", \"value\": {\"stringValue\": \"" + value + "\"}}";
+    }
+
+    private static String intAttribute(String key, String value) {
+        return "{\"key\": \"" + key + "\", \"value\": {\"intValue\": " + value + "}}";
+    }
+}
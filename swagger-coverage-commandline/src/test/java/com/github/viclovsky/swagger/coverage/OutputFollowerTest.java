@@ -0,0 +1,110 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.collector.OutputFollower;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.COMPLETION_MARKER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class OutputFollowerTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldAddFilesWhileTheyAreWritten() throws Exception {
+        Path directory = folder.getRoot().toPath().resolve("output");
+        CoverageSession session = session();
+
+        OutputFollower follower = new OutputFollower(directory, session).setPollInterval(20);
+        Thread following = new Thread(() -> follower.follow(follower::isCompleted));
+        following.start();
+
+        Set<Path> outputs = new FileSystemOutputReader(CONFIG.getOutput()).getOutputs();
+        Files.createDirectories(directory);
+        for (Path output : outputs) {
+            Files.copy(output, directory.resolve(output.getFileName()));
+            Thread.sleep(10);
+        }
+        Files.createFile(directory.resolve(COMPLETION_MARKER));
+
+        following.join();
+        follower.finish();
+        follower.close();
+
+        CoverageSession expected = session();
+        outputs.forEach(expected::addFile);
+        assertThat(session.build().getConditionCounter().getCovered(),
+                equalTo(expected.build().getConditionCounter().getCovered()));
+    }
+
+    @Test
+    public void shouldAddFilesOfSubdirectoriesBeforeFinish() throws Exception {
+        Path directory = folder.getRoot().toPath().resolve("output");
+        Files.createDirectories(directory);
+        CoverageSession session = session();
+
+        OutputFollower follower = new OutputFollower(directory, session).setPollInterval(20);
+        Thread following = new Thread(() -> follower.follow(follower::isCompleted));
+        following.start();
+
+        Set<Path> outputs = new FileSystemOutputReader(CONFIG.getOutput()).getOutputs();
+        CoverageSession expected = session();
+        outputs.forEach(expected::addFile);
+        long covered = expected.build().getConditionCounter().getCovered();
+
+        Path nested = Files.createDirectories(directory.resolve("worker-1").resolve("calls"));
+        for (Path output : outputs) {
+            Files.copy(output, nested.resolve(output.getFileName()));
+        }
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (session.build().getConditionCounter().getCovered() < covered
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Files.createFile(directory.resolve(COMPLETION_MARKER));
+        following.join();
+        follower.close();
+
+        assertThat(session.build().getConditionCounter().getCovered(), equalTo(covered));
+    }
+
+    @Test
+    public void shouldIgnoreMarkerOfPreviousRun() throws Exception {
+        Path directory = folder.getRoot().toPath().resolve("output");
+        Path marker = Files.createFile(Files.createDirectories(directory).resolve(COMPLETION_MARKER));
+        Files.setLastModifiedTime(marker,
+                FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1)));
+
+        OutputFollower follower = new OutputFollower(directory, session()).setPollInterval(20);
+        assertThat(follower.isCompleted(), equalTo(false));
+
+        Thread following = new Thread(() -> follower.follow(follower::isCompleted));
+        following.start();
+        Files.setLastModifiedTime(marker, FileTime.fromMillis(System.currentTimeMillis()));
+        following.join();
+        follower.close();
+
+        assertThat(Files.exists(marker), equalTo(false));
+    }
+
+    private CoverageSession session() {
+        return CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.core.generator.OperationConditionGenerator;
+import com.github.viclovsky.swagger.coverage.core.generator.SpecificationLoader;
+import com.github.viclovsky.swagger.coverage.core.model.Condition;
+import com.github.viclovsky.swagger.coverage.core.model.ConditionOperationCoverage;
+import com.github.viclovsky.swagger.coverage.core.model.OperationKey;
+import com.github.viclovsky.swagger.coverage.core.rule.core.ConditionRule;
+import com.github.viclovsky.swagger.coverage.core.rule.response.ResponsePropertyRule;
+import com.github.viclovsky.swagger.coverage.core.rule.response.ResponseVariantRule;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaIndex;
+import com.github.viclovsky.swagger.coverage.core.schema.SchemaMatcher;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ResponseRulesTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/response_variants.yaml");
+
+    @Test
+    public void shouldCompileReferencedSchemaOnce() {
+        SchemaIndex index = new SchemaIndex(spec());
+        Schema pet = new Schema().$ref("#/components/schemas/Pet");
+
+        SchemaMatcher matcher = index.matcher(pet);
+
+        assertThat(index.matcher(new Schema().$ref("#/components/schemas/Pet")), sameInstance(matcher));
+        assertThat(matcher.getVariantNames(), contains("Cat", "Dog"));
+        assertThat(matcher.getVariants().get(1).getProperties().keySet(), contains("id", "name", "bark"));
+        assertThat(index.size(), equalTo(4));
+    }
+
+    @Test
+    public void shouldCreateResponseConditions() {
+        List<String> names = conditions("/pet/{petId}").stream().map(Condition::getName).collect(Collectors.toList());
+
+        assertThat(names, containsInAnyOrder(
+                "«200» response variant «Cat»",
+                "«200» response variant «Dog»"));
+    }
+
+    @Test
+    public void shouldCoverVariantOfCapturedResponse() {
+        List<Condition> conditions = conditions("/pet");
+        Operation dog = captured("id", "name", "bark");
+
+        conditions.forEach(condition -> condition.check(dog));
+
+        Map<String, Boolean> covered = conditions.stream()
+                .collect(Collectors.toMap(Condition::getName, Condition::isCovered));
+        assertThat(covered.get("«200» response variant «Dog»"), equalTo(true));
+        assertThat(covered.get("«200» response variant «Cat»"), equalTo(false));
+    }
+
+    private List<Condition> conditions(String path) {
+        List<ConditionRule> rules = Arrays.asList(new ResponsePropertyRule(), new ResponseVariantRule());
+        Map<OperationKey, ConditionOperationCoverage> operations =
+                OperationConditionGenerator.getOperationMap(spec(), rules);
+        return operations.get(new OperationKey().setPath(path).setHttpMethod(PathItem.HttpMethod.GET)).getConditions();
+    }
+
+    private static Operation captured(String... properties) {
+        Schema schema = new Schema();
+        Arrays.stream(properties).forEach(name -> schema.addProperties(name, new Schema()));
+        return new Operation().responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                .content(new Content().addMediaType("application/json", new MediaType().schema(schema)))));
+    }
+
+    private static OpenAPI spec() {
+        return SpecificationLoader.load(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/response_variants.yaml").toUri()), null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.github.viclovsky.swagger.coverage.configuration.options.ResultsWriterOptions;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
+import com.github.viclovsky.swagger.coverage.core.results.Results;
+import com.github.viclovsky.swagger.coverage.core.writer.HtmlReportResultsWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+public class SplitReportTest {
+
+    private static final Config CONFIG = new Config("full_configuration.json",
+            "v3/swagger-coverage-output", "v3/petstory.yaml");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldWriteIndexAndFragments() throws IOException {
+        CoverageSession session = CoverageSession.open(Collections.singletonList(
+                CONFIG.getPath().getParent().resolve("v3/petstory.yaml").toUri()), CONFIG.getPath());
+        for (Path path : new FileSystemOutputReader(CONFIG.getOutput()).getOutputs()) {
+            session.addFile(path);
+        }
+        Results results = session.build();
+
+        Path single = folder.getRoot().toPath().resolve("single.html");
+        Path index = folder.getRoot().toPath().resolve("report.html");
+        new HtmlReportResultsWriter(new ResultsWriterOptions().setFilename(single.toString())).write(results);
+        new HtmlReportResultsWriter(new ResultsWriterOptions().setFilename(index.toString()).setSplit(true))
+                .write(results);
+
+        String page = new String(Files.readAllBytes(index), StandardCharsets.UTF_8);
+        Path fragments = folder.getRoot().toPath().resolve("report-fragments");
+        assertThat(page, containsString("data-fragment=\"state-condition\""));
+        assertThat(page, containsString("data-fragment=\"section-latency\""));
+        assertThat(page, not(containsString("data-fragment=\"operation-")));
+        assertThat(Files.size(index), lessThan(Files.size(single)));
+
+        String operation = new String(Files.readAllBytes(fragments.resolve("operation-0.js")), StandardCharsets.UTF_8);
+        String state = new String(Files.readAllBytes(fragments.resolve("state-condition.js")), StandardCharsets.UTF_8);
+        assertThat(operation.trim(), startsWith("swaggerCoverage.loaded(\"operation-0\", \""));
+        assertThat(state, containsString("data-fragment=\\\"operation-"));
+        assertThat(Files.list(fragments).filter(path -> path.getFileName().toString().startsWith("operation-"))
+                .count(), equalTo((long) results.getFlatOperations().size()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.viclovsky.swagger.coverage;
+
+import java.io.File;
+
+/**
+ * Byte counts of bodies for the size extensions, bodies are measured in place and never copied.
+ */
+public final class BodySize {
+
+    public static final long UNKNOWN = -1;
+
+    private BodySize() {
+        throw new IllegalStateException("Do not instance");
+    }
+
+    /**
+     * @return size of body as sent, text is measured as utf-8, or {@link #UNKNOWN} for streams and other objects
+     */
+    public static long of(Object body) {
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof CharSequence) {
+            return utf8Length((CharSequence) body);
+        }
+        if (body instanceof File) {
+            return ((File) body).length();
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * @return value of Content-Length header or {@link #UNKNOWN}
+     */
+    public static long contentLength(String header) {
+        if (header == null) {
+            return UNKNOWN;
+        }
+        try {
+            long length = Long.parseLong(header.trim());
+            return length >= 0 ? length : UNKNOWN;
+        } catch (NumberFormatException e) {
+            return UNKNOWN;
+        }
+    }
+
+    static long utf8Length(CharSequence text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.viclovsky.swagger.coverage.model.SwaggerCoverage2ModelJackson;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Parts of a call the configured rules read, derived from specification and rules by the commandline.
+ * <p>
+ * Filters record a parameter or body property only if its name is needed and add its value only for
+ * value rules, everything else is dropped before serialisation. Names are grouped by location:
+ * {@code header}, {@code query}, {@code path}, {@code cookie}, {@code body} for body properties
+ * and {@code response} for properties of response body.
+ * Header names are compared ignoring case.
+ */
+public class CaptureProjection {
+
+    public static final String PROJECTION_PROPERTY = "swagger.coverage.projection";
+
+    public static final String HEADER = "header";
+    public static final String QUERY = "query";
+    public static final String PATH = "path";
+    public static final String COOKIE = "cookie";
+    public static final String BODY = "body";
+    public static final String RESPONSE = "response";
+
+    private static final CaptureProjection ALL = new CaptureProjection().setAll(true);
+
+    private boolean all;
+    private Map<String, Set<String>> names = new TreeMap<>();
+    private Map<String, Set<String>> values = new TreeMap<>();
+
+    /**
+     * Projection which keeps everything, the behaviour without projection.
+     */
+    public static CaptureProjection all() {
+        return ALL;
+    }
+
+    /**
+     * Projection from file set by system property {@code swagger.coverage.projection}, or {@link #all()}.
+     */
+    public static CaptureProjection load() {
+        String path = System.getProperty(PROJECTION_PROPERTY);
+        if (path == null || path.trim().isEmpty()) {
+            return all();
+        }
+        return read(Paths.get(path.trim()));
+    }
+
+    public static CaptureProjection read(Path path) {
+        try {
+            return createMapper().readValue(path.toFile(), CaptureProjection.class);
+        } catch (IOException e) {
+            throw new SwaggerCoverageReadException("Could not read capture projection " + path, e);
+        }
+    }
+
+    public void write(Path path) {
+        try {
+            if (path.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+            }
+            createMapper().writerWithDefaultPrettyPrinter().writeValue(path.toFile(), this);
+        } catch (IOException e) {
+            throw new SwaggerCoverageWriteException("Could not write capture projection " + path, e);
+        }
+    }
+
+    public CaptureProjection addName(String in, String name) {
+        names.computeIfAbsent(in, key -> new TreeSet<>()).add(normalize(in, name));
+        return this;
+    }
+
+    public CaptureProjection addValue(String in, String name) {
+        addName(in, name);
+        values.computeIfAbsent(in, key -> new TreeSet<>()).add(normalize(in, name));
+        return this;
+    }
+
+    public boolean keepName(String in, String name) {
+        return all || contains(names, in, name);
+    }
+
+    public boolean keepValue(String in, String name) {
+        return all || contains(values, in, name);
+    }
+
+    /**
+     * @return true if some name in this location is needed, e.g. response body has to be read
+     */
+    public boolean keepAny(String in) {
+        return all || names.containsKey(in);
+    }
+
+    /**
+     * @return true if a rule asked for some name in this location, false for {@link #all()} without names
+     */
+    public boolean isRequested(String in) {
+        return names.containsKey(in);
+    }
+
+    private static boolean contains(Map<String, Set<String>> required, String in, String name) {
+        Set<String> inNames = required.get(in);
+        return inNames != null && name != null && inNames.contains(normalize(in, name));
+    }
+
+    private static String normalize(String in, String name) {
+        return HEADER.equals(in) ? name.toLowerCase() : name;
+    }
+
+    private static ObjectMapper createMapper() {
+        return SwaggerCoverage2ModelJackson.createJsonMapper();
+    }
+
+    public boolean isAll() {
+        return all;
+    }
+
+    public CaptureProjection setAll(boolean all) {
+        this.all = all;
+        return this;
+    }
+
+    public Map<String, Set<String>> getNames() {
+        return names;
+    }
+
+    public CaptureProjection setNames(Map<String, Set<String>> names) {
+        this.names = names;
+        return this;
+    }
+
+    public Map<String, Set<String>> getValues() {
+        return values;
+    }
+
+    public CaptureProjection setValues(Map<String, Set<String>> values) {
+        this.values = values;
+        return this;
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.viclovsky.swagger.coverage.model.SwaggerCoverage2ModelJackson;
+import io.swagger.models.Swagger;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary form of a single captured call, shared by writers that do not go through the file system.
+ * <p>
+ * A record is one format byte ({@link #SWAGGER} or {@link #OPENAPI}) followed by the JSON of the call.
+ * Records are sent in frames: a four byte length followed by the record itself.
+ * A frame is at most {@link #MAX_FRAME_SIZE} bytes long.
+ */
+public final class CaptureRecordCodec {
+
+    public static final byte SWAGGER = 'S';
+    public static final byte OPENAPI = 'O';
+    public static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    private static final ObjectMapper MAPPER = SwaggerCoverage2ModelJackson.createJsonMapper();
+
+    private CaptureRecordCodec() {
+        throw new IllegalStateException("Do not instance");
+    }
+
+    public static byte[] encode(Swagger swagger) {
+        return encode(SWAGGER, swagger);
+    }
+
+    public static byte[] encode(OpenAPI openAPI) {
+        return encode(OPENAPI, openAPI);
+    }
+
+    private static byte[] encode(byte format, Object value) {
+        try {
+            byte[] content = MAPPER.writeValueAsBytes(value);
+            byte[] record = new byte[content.length + 1];
+            record[0] = format;
+            System.arraycopy(content, 0, record, 1, content.length);
+            return record;
+        } catch (JsonProcessingException e) {
+            throw new SwaggerCoverageWriteException("Could not encode capture record", e);
+        }
+    }
+
+    public static byte getFormat(byte[] record) {
+        return record[0];
+    }
+
+    public static String getContent(byte[] record) {
+        return new String(record, 1, record.length - 1, StandardCharsets.UTF_8);
+    }
+
+    public static void writeFrame(DataOutputStream out, byte[] record) throws IOException {
+        out.writeInt(record.length);
+        out.write(record);
+    }
+
+    /**
+     * @return next record or {@code null} if stream is over
+     */
+    public static byte[] readFrame(DataInputStream in) throws IOException {
+        return readFrame(in, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads next record without allocating more than {@code remaining} bytes and {@link #MAX_FRAME_SIZE}.
+     *
+     * @param remaining bytes left in the stream after the length, if known
+     * @return next record or {@code null} if stream is over
+     */
+    public static byte[] readFrame(DataInputStream in, long remaining) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        if (length < 1 || length > MAX_FRAME_SIZE || length > remaining) {
+            throw new IOException("Invalid frame length " + length);
+        }
+        byte[] record = new byte[length];
+        in.readFully(record);
+        return record;
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.viclovsky.swagger.coverage;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads property paths of a JSON body with a token parser, the body is never bound into a tree.
+ * <p>
+ * Every property is reported once with its path, array elements do not add a path segment.
+ * Scalar values are reported as text for enum and value rules, objects, arrays and long values are reported without value.
+ * Reading stops at the byte or property limit, objects deeper than the depth limit are skipped.
+ */
+public class JsonBodyPropertyExtractor {
+
+    public static final int DEFAULT_MAX_DEPTH = 16;
+    public static final int DEFAULT_MAX_PROPERTIES = 1000;
+    public static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+    public static final int DEFAULT_MAX_VALUE_LENGTH = 256;
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    private int maxProperties = DEFAULT_MAX_PROPERTIES;
+    private long maxBytes = DEFAULT_MAX_BYTES;
+    private int maxValueLength = DEFAULT_MAX_VALUE_LENGTH;
+
+    public static boolean isJson(String contentType) {
+        return contentType != null && contentType.toLowerCase().contains("json");
+    }
+
+    /**
+     * Name of property in conditions: top level properties by name, nested ones by json pointer like {@code /category/name}.
+     */
+    public static String propertyName(List<String> path) {
+        if (path.size() == 1) {
+            return path.get(0);
+        }
+        StringBuilder pointer = new StringBuilder();
+        for (String segment : path) {
+            pointer.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+        }
+        return pointer.toString();
+    }
+
+    /**
+     * @return false if body was not read completely because of limits or malformed json
+     */
+    public boolean extract(byte[] body, BiConsumer<List<String>, String> properties) {
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            return extract(parser, properties);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return false if body was not read completely because of limits or malformed json
+     */
+    public boolean extract(String body, BiConsumer<List<String>, String> properties) {
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            return extract(parser, properties);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean extract(JsonParser parser, BiConsumer<List<String>, String> properties) throws IOException {
+        List<String> containers = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        boolean complete = true;
+        String field = null;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (offset(parser.getCurrentLocation()) > maxBytes) {
+                return false;
+            }
+            switch (token) {
+                case FIELD_NAME:
+                    field = parser.getCurrentName();
+                    break;
+                case START_OBJECT:
+                case START_ARRAY:
+                    if (field != null && !report(containers, field, null, seen, properties)) {
+                        return false;
+                    }
+                    if (containers.size() >= maxDepth) {
+                        parser.skipChildren();
+                        complete = false;
+                    } else {
+                        containers.add(field);
+                    }
+                    field = null;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    containers.remove(containers.size() - 1);
+                    break;
+                default:
+                    if (field != null && !report(containers, field, value(parser, token), seen, properties)) {
+                        return false;
+                    }
+                    field = null;
+            }
+        }
+        return complete;
+    }
+
+    private boolean report(List<String> containers, String field, String value, Set<String> seen,
+                           BiConsumer<List<String>, String> properties) {
+        List<String> path = new ArrayList<>(containers.size() + 1);
+        for (String container : containers) {
+            if (container != null) {
+                path.add(container);
+            }
+        }
+        path.add(field);
+
+        if (seen.add(String.join("/", path))) {
+            if (seen.size() > maxProperties) {
+                return false;
+            }
+            properties.accept(Collections.unmodifiableList(path), value);
+        }
+        return true;
+    }
+
+    private String value(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL || parser.getTextLength() > maxValueLength) {
+            return null;
+        }
+        return parser.getText();
+    }
+
+    private static long offset(JsonLocation location) {
+        return Math.max(location.getByteOffset(), location.getCharOffset());
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public JsonBodyPropertyExtractor setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    public int getMaxProperties() {
+        return maxProperties;
+    }
+
+    public JsonBodyPropertyExtractor setMaxProperties(int maxProperties) {
+        this.maxProperties = maxProperties;
+        return this;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public JsonBodyPropertyExtractor setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+        return this;
+    }
+
+    public int getMaxValueLength() {
+        return maxValueLength;
+    }
+
+    public JsonBodyPropertyExtractor setMaxValueLength(int maxValueLength) {
+        this.maxValueLength = maxValueLength;
+        return this;
+    }
+}
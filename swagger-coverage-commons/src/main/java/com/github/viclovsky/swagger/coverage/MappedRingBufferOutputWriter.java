@@ -0,0 +1,200 @@
+package com.github.viclovsky.swagger.coverage;
+
+import io.swagger.models.Swagger;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Appends captured calls to a memory-mapped file, which is drained by commandline while tests are running.
+ * <p>
+ * Every writer owns its own file in the directory, threads of the process claim space in it with CAS on the
+ * write cursor. A record is {@code [int length][int claimed][CaptureRecordCodec record]} aligned to 8 bytes.
+ * Size of the slot is written to {@code claimed} right after the claim, length is written after the content and
+ * a store fence, so reader never sees half written record, and a slot whose writer died before publishing it can be
+ * skipped.
+ * Negative length means the next {@code -length} bytes are skipped: the unused tail of the buffer before wrap,
+ * or a slot whose content could not be written. Reader zeroes consumed records and publishes its cursor in the header.
+ * Write cursor is published in the header once, on close, reader follows published records until then.
+ * <p>
+ * If reader does not free space for {@code overflowTimeout}, the call and all calls after it are written to
+ * {@code directory} as files, without waiting, until space is freed again.
+ */
+public class MappedRingBufferOutputWriter implements CoverageOutputWriter, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedRingBufferOutputWriter.class);
+
+    public static final String FILE_SUFFIX = "-coverage.ring";
+
+    public static final int MAGIC = 0x53434F56;
+    public static final int VERSION = 2;
+    public static final int MAGIC_OFFSET = 0;
+    public static final int VERSION_OFFSET = 4;
+    public static final int CLOSED_OFFSET = 8;
+    public static final int CAPACITY_OFFSET = 16;
+    public static final int WRITE_CURSOR_OFFSET = 24;
+    public static final int READ_CURSOR_OFFSET = 32;
+    public static final int HEADER_SIZE = 64;
+    public static final int RECORD_HEADER_SIZE = 8;
+    public static final int RECORD_CLAIMED_OFFSET = 4;
+
+    private static final int DEFAULT_CAPACITY = 16 * 1024 * 1024;
+    private static final long DEFAULT_OVERFLOW_TIMEOUT = TimeUnit.SECONDS.toNanos(1);
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final AtomicLong writeCursor = new AtomicLong();
+    private final CoverageOutputWriter overflow;
+
+    private long overflowTimeout = DEFAULT_OVERFLOW_TIMEOUT;
+    private volatile boolean overflowing;
+
+    public MappedRingBufferOutputWriter(final Path directory) {
+        this(directory, DEFAULT_CAPACITY);
+    }
+
+    public MappedRingBufferOutputWriter(final Path directory, final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity should be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.overflow = new FileSystemOutputWriter(directory);
+        this.file = directory.resolve(UUID.randomUUID().toString() + FILE_SUFFIX);
+
+        try (RandomAccessFile raf = new RandomAccessFile(createFile(directory).toFile(), "rw")) {
+            raf.setLength(HEADER_SIZE + (long) capacity);
+            this.buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity);
+        } catch (IOException e) {
+            throw new SwaggerCoverageWriteException("Could not create ring buffer " + file, e);
+        }
+
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putLong(CAPACITY_OFFSET, capacity);
+        MemoryFences.storeFence();
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+    }
+
+    private Path createFile(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return Files.createFile(file);
+    }
+
+    public MappedRingBufferOutputWriter setOverflowTimeout(long timeout, TimeUnit unit) {
+        this.overflowTimeout = unit.toNanos(timeout);
+        return this;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void write(Swagger swagger) {
+        if (!append(CaptureRecordCodec.encode(swagger))) {
+            overflow.write(swagger);
+        }
+    }
+
+    @Override
+    public void write(OpenAPI openAPI) {
+        if (!append(CaptureRecordCodec.encode(openAPI))) {
+            overflow.write(openAPI);
+        }
+    }
+
+    private boolean append(byte[] record) {
+        int size = align(RECORD_HEADER_SIZE + record.length);
+        if (size > capacity) {
+            LOGGER.warn("Call of {} bytes does not fit into ring buffer, write it to file", record.length);
+            return false;
+        }
+
+        // once reader did not keep up, calls go to files without waiting until it frees space
+        long deadline = overflowing ? 0 : System.nanoTime() + overflowTimeout;
+        long start;
+        int padding;
+        while (true) {
+            long current = writeCursor.get();
+            int offset = offset(current);
+            padding = offset + size > capacity ? capacity - offset : 0;
+            long next = current + padding + size;
+
+            if (next - buffer.getLong(READ_CURSOR_OFFSET) > capacity) {
+                if (System.nanoTime() > deadline) {
+                    if (!overflowing) {
+                        overflowing = true;
+                        LOGGER.warn("Ring buffer {} is full, write calls to files until reader frees space", file);
+                    }
+                    return false;
+                }
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                continue;
+            }
+
+            if (writeCursor.compareAndSet(current, next)) {
+                start = current;
+                break;
+            }
+        }
+        if (overflowing) {
+            overflowing = false;
+            LOGGER.info("Ring buffer {} has space again", file);
+        }
+
+        if (padding > 0) {
+            buffer.putInt(HEADER_SIZE + offset(start), -padding);
+            start += padding;
+        }
+
+        int position = HEADER_SIZE + offset(start);
+        buffer.putInt(position + RECORD_CLAIMED_OFFSET, size);
+        boolean published = false;
+        try {
+            ByteBuffer content = buffer.duplicate();
+            content.position(position + RECORD_HEADER_SIZE);
+            content.put(record);
+            MemoryFences.storeFence();
+            buffer.putInt(position, record.length);
+            published = true;
+        } finally {
+            if (!published) {
+                MemoryFences.storeFence();
+                buffer.putInt(position, -size);
+            }
+        }
+        return true;
+    }
+
+    private int offset(long cursor) {
+        return (int) (cursor & (capacity - 1));
+    }
+
+    public static int align(int size) {
+        return (size + 7) & ~7;
+    }
+
+    /**
+     * Marks buffer as finished, reader removes the file after it is drained up to the final write cursor.
+     */
+    @Override
+    public void close() {
+        buffer.putLong(WRITE_CURSOR_OFFSET, writeCursor.get());
+        MemoryFences.storeFence();
+        buffer.putInt(CLOSED_OFFSET, 1);
+        buffer.force();
+    }
+}
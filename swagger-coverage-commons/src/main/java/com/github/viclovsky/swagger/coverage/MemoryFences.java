@@ -0,0 +1,72 @@
+package com.github.viclovsky.swagger.coverage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Fences between plain accesses of memory shared with another process, e.g. a mapped ring buffer.
+ * <p>
+ * Java 8 has no public fences, so those of {@code sun.misc.Unsafe} are used. Without it a volatile access is used,
+ * which orders the accesses on x86 only.
+ */
+public final class MemoryFences {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoryFences.class);
+
+    private static final MethodHandle STORE_FENCE = fence("storeFence");
+    private static final MethodHandle LOAD_FENCE = fence("loadFence");
+
+    private static volatile int barrier;
+
+    private MemoryFences() {
+        throw new IllegalStateException("Do not instance");
+    }
+
+    /**
+     * Stores before the fence are not reordered with stores after it.
+     */
+    public static void storeFence() {
+        if (STORE_FENCE == null) {
+            barrier = 0;
+            return;
+        }
+        try {
+            STORE_FENCE.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Store fence failed", e);
+        }
+    }
+
+    /**
+     * Loads before the fence are not reordered with loads and stores after it.
+     */
+    public static void loadFence() {
+        if (LOAD_FENCE == null) {
+            int ignored = barrier;
+            return;
+        }
+        try {
+            LOAD_FENCE.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Load fence failed", e);
+        }
+    }
+
+    private static MethodHandle fence(String name) {
+        try {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup().findVirtual(type, name, MethodType.methodType(void.class))
+                    .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.warn("Memory fence {} is not available, ring buffers are safe on x86 only", name, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.github.viclovsky.swagger.coverage;
+
+import io.swagger.models.Swagger;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.OUTPUT_DIRECTORY;
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageUtils.generateJsonCoverageOutputName;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+
+/**
+ * Sends captured calls to a running coverage collector in batches.
+ * <p>
+ * If collector is not reachable, calls are written to the spool directory in the usual file format,
+ * so they can be added to the report later. Writer tries to reconnect after {@code reconnectInterval}.
+ */
+public class NetworkOutputWriter implements CoverageOutputWriter, Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkOutputWriter.class);
+
+    public static final String CAPTURES_PATH = "/captures";
+    public static final String CONTENT_TYPE = "application/x-swagger-coverage-frames";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final long DEFAULT_FLUSH_INTERVAL = 500;
+    private static final long DEFAULT_RECONNECT_INTERVAL = 5000;
+    private static final int TIMEOUT = 5000;
+
+    private final URL capturesUrl;
+    private final Path spoolDirectory;
+    private final List<byte[]> batch = new ArrayList<>();
+    private final ScheduledExecutorService flusher;
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private long reconnectInterval = DEFAULT_RECONNECT_INTERVAL;
+    private volatile long offlineUntil = 0;
+
+    public NetworkOutputWriter(final URI collector) {
+        this(collector, Paths.get(OUTPUT_DIRECTORY));
+    }
+
+    public NetworkOutputWriter(final URI collector, final Path spoolDirectory) {
+        try {
+            this.capturesUrl = collector.resolve(CAPTURES_PATH).toURL();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid collector address: " + collector, e);
+        }
+        this.spoolDirectory = spoolDirectory;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "swagger-coverage-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, DEFAULT_FLUSH_INTERVAL, DEFAULT_FLUSH_INTERVAL,
+                TimeUnit.MILLISECONDS);
+        OpenWriters.add(this);
+    }
+
+    public NetworkOutputWriter setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public NetworkOutputWriter setReconnectInterval(long reconnectInterval) {
+        this.reconnectInterval = reconnectInterval;
+        return this;
+    }
+
+    @Override
+    public void write(Swagger swagger) {
+        add(CaptureRecordCodec.encode(swagger));
+    }
+
+    @Override
+    public void write(OpenAPI openAPI) {
+        add(CaptureRecordCodec.encode(openAPI));
+    }
+
+    private void add(byte[] record) {
+        List<byte[]> records = null;
+        synchronized (batch) {
+            batch.add(record);
+            if (batch.size() >= batchSize) {
+                records = drain();
+            }
+        }
+        if (records != null) {
+            send(records);
+        }
+    }
+
+    private List<byte[]> drain() {
+        List<byte[]> records = new ArrayList<>(batch);
+        batch.clear();
+        return records;
+    }
+
+    public void flush() {
+        List<byte[]> records;
+        synchronized (batch) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            records = drain();
+        }
+        send(records);
+    }
+
+    private void send(List<byte[]> records) {
+        if (System.currentTimeMillis() < offlineUntil) {
+            spool(records);
+            return;
+        }
+        try {
+            post(records);
+        } catch (IOException e) {
+            LOGGER.warn("Coverage collector {} is not available, spool calls to {}", capturesUrl, spoolDirectory);
+            offlineUntil = System.currentTimeMillis() + reconnectInterval;
+            spool(records);
+        }
+    }
+
+    private void post(List<byte[]> records) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(body)) {
+            for (byte[] record : records) {
+                CaptureRecordCodec.writeFrame(out, record);
+            }
+        }
+
+        HttpURLConnection connection = (HttpURLConnection) capturesUrl.openConnection();
+        try {
+            connection.setConnectTimeout(TIMEOUT);
+            connection.setReadTimeout(TIMEOUT);
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("Content-Type", CONTENT_TYPE);
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode(body.size());
+            try (OutputStream os = connection.getOutputStream()) {
+                body.writeTo(os);
+            }
+            int code = connection.getResponseCode();
+            if (code / 100 != 2) {
+                throw new IOException("Coverage collector responded with " + code);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private void spool(List<byte[]> records) {
+        try {
+            Files.createDirectories(spoolDirectory);
+            for (byte[] record : records) {
+                Files.write(spoolDirectory.resolve(generateJsonCoverageOutputName()),
+                        CaptureRecordCodec.getContent(record).getBytes(StandardCharsets.UTF_8), CREATE_NEW);
+            }
+        } catch (IOException e) {
+            throw new SwaggerCoverageWriteException("Could not spool Swagger", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        OpenWriters.remove(this);
+        flusher.shutdown();
+        flush();
+    }
+
+    /**
+     * Writers not closed yet, flushed by a single shutdown hook registered with the first writer.
+     */
+    private static final class OpenWriters {
+
+        private static final Set<NetworkOutputWriter> WRITERS = ConcurrentHashMap.newKeySet();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> WRITERS.forEach(NetworkOutputWriter::flush),
+                    "swagger-coverage-flush"));
+        }
+
+        private OpenWriters() {
+            throw new IllegalStateException("Do not instance");
+        }
+
+        static void add(NetworkOutputWriter writer) {
+            WRITERS.add(writer);
+        }
+
+        static void remove(NetworkOutputWriter writer) {
+            WRITERS.remove(writer);
+        }
+    }
+}
@@ -9,6 +9,18 @@ public final class SwaggerCoverageConstants {
     public static final String OUTPUT_DIRECTORY = "swagger-coverage-output";
     public static final String COVERAGE_JSON_OUTPUT_FILE_SUFFIX = "-coverage.json";
     public static final String COVERAGE_YAML_OUTPUT_FILE_SUFFIX = "-coverage.yaml";
+    public static final String COMPLETION_MARKER = "swagger-coverage.done";
+
+    /**
+     * Extension of captured operation with response time of the call in milliseconds.
+     */
+    public static final String RESPONSE_TIME_EXTENSION = "x-response-time-ms";
+
+    /**
+     * Extensions of captured operation with size of request and response body in bytes.
+     */
+    public static final String REQUEST_SIZE_EXTENSION = "x-request-bytes";
+    public static final String RESPONSE_SIZE_EXTENSION = "x-response-bytes";
 
     private SwaggerCoverageConstants() {
         throw new IllegalStateException("Do not instance");
@@ -1,6 +1,7 @@
 package com.github.viclovsky.swagger.coverage.utils;
 
 import freemarker.cache.FileTemplateLoader;
+import freemarker.core.Environment;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
@@ -8,13 +9,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
+ * Freemarker configurations are created once per template folder and keep compiled templates, number format is set
+ * per rendering. Messages are read once per locale.
+ *
  * @author eroshenkoam (Artem Eroshenko).
  */
 public final class FreemarkerUtils {
@@ -23,6 +29,10 @@ public final class FreemarkerUtils {
 
     private final static String TEMPLATES = "templates";
 
+    private static final Configuration CLASSPATH_CONFIGURATION = createConfiguration();
+    private static final Map<File, Configuration> CUSTOM_CONFIGURATIONS = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, String>> MESSAGES = new ConcurrentHashMap<>();
+
     private FreemarkerUtils() {
     }
 
@@ -30,46 +40,95 @@ public final class FreemarkerUtils {
         return processTemplate(path,"en", "0.###", object);
     }
 
-    private static String proccessTemplate(Configuration configuration, String locale, String templateName,
-                                           final Object object) {
-        Map<String, String> messages = readMessages(locale);
+    private static Configuration createConfiguration() {
+        final Configuration configuration = new Configuration(Configuration.VERSION_2_3_28);
+        configuration.setClassForTemplateLoading(FreemarkerUtils.class, "/");
+        configuration.setDefaultEncoding("UTF-8");
+        return configuration;
+    }
 
-        try {
-            final Map<String, Object> data = new HashMap<>();
-            data.put("data", object);
-            data.put("messages", messages);
+    private static Configuration customConfiguration(File folder) {
+        return CUSTOM_CONFIGURATIONS.computeIfAbsent(folder.getAbsoluteFile(), key -> {
+            final Configuration configuration = new Configuration(Configuration.VERSION_2_3_28);
+            try {
+                configuration.setTemplateLoader(new FileTemplateLoader(key));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            configuration.setDefaultEncoding("UTF-8");
+            return configuration;
+        });
+    }
+
+    private static void proccessTemplate(Configuration configuration, String locale, String numberFormat,
+                                         String templateName, final Object object, Map<String, Object> variables,
+                                         Writer writer) throws IOException {
+        final Map<String, Object> data = new HashMap<>(variables);
+        data.put("data", object);
+        data.put("messages", readMessages(locale));
 
-            final Writer writer = new StringWriter();
+        try {
             final Template template = configuration.getTemplate(templateName);
-            template.process(data, writer);
-            return writer.toString();
-        } catch (IOException | TemplateException e) {
+            final Environment environment = template.createProcessingEnvironment(data, writer);
+            environment.setNumberFormat(numberFormat);
+            environment.process();
+        } catch (TemplateException e) {
             throw new RuntimeException(e);
         }
     }
 
     public static String processTemplate(final String path, String locale, String numberFormat, final Object object) {
-        final Configuration configuration = new Configuration(Configuration.VERSION_2_3_28);
+        final Writer writer = new StringWriter();
+        try {
+            processTemplate(path, locale, numberFormat, object, writer);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return writer.toString();
+    }
 
-        configuration.setClassForTemplateLoading(FreemarkerUtils.class, "/");
-        configuration.setDefaultEncoding("UTF-8");
-        configuration.setNumberFormat(numberFormat);
+    /**
+     * Renders template of the classpath straight into writer, writer is not closed.
+     */
+    public static void processTemplate(final String path, String locale, String numberFormat, final Object object,
+                                       Writer writer) throws IOException {
+        processTemplate(path, locale, numberFormat, object, Collections.emptyMap(), writer);
+    }
 
-        return proccessTemplate(configuration, locale, path, object);
+    /**
+     * Renders template of the classpath with additional top level variables, writer is not closed.
+     */
+    public static void processTemplate(final String path, String locale, String numberFormat, final Object object,
+                                       Map<String, Object> variables, Writer writer) throws IOException {
+        proccessTemplate(CLASSPATH_CONFIGURATION, locale, numberFormat, path, object, variables, writer);
     }
 
     public static String processCustomTemplate(final String customTemplatePath, String locale, String numberFormat, Object object)
             throws IOException {
+        final Writer writer = new StringWriter();
+        processCustomTemplate(customTemplatePath, locale, numberFormat, object, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Renders template of the file system straight into writer, writer is not closed.
+     */
+    public static void processCustomTemplate(final String customTemplatePath, String locale, String numberFormat,
+                                             Object object, Writer writer) throws IOException {
         File template = new File(customTemplatePath);
-        final Configuration configuration = new Configuration(Configuration.VERSION_2_3_28);
+        try {
+            proccessTemplate(customConfiguration(template.getAbsoluteFile().getParentFile()), locale, numberFormat,
+                    template.getName(), object, Collections.emptyMap(), writer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 
-        configuration.setTemplateLoader(new FileTemplateLoader(template.getParentFile()));
-        configuration.setDefaultEncoding("UTF-8");
-        configuration.setNumberFormat(numberFormat);
-        return proccessTemplate(configuration, locale, template.getName(), object);
+    public static Map<String, String> readMessages(String localeCode) {
+        return MESSAGES.computeIfAbsent(localeCode, FreemarkerUtils::loadMessages);
     }
 
-    public static Map<String, String> readMessages(String localeCode){
+    private static Map<String, String> loadMessages(String localeCode){
         Properties properties = new Properties();
         HashMap<String, String> mymap= new HashMap<String, String>();
 
@@ -88,7 +147,7 @@ public final class FreemarkerUtils {
             mymap.put(key, value);
         }
 
-        return mymap;
+        return Collections.unmodifiableMap(mymap);
     }
 
 }
@@ -0,0 +1,507 @@
+<#ftl output_format="HTML">
+<#-- Page of the data report, written in two parts with the compressed results streamed between them -->
+<#global i18=messages>
+
+<#if part == "head">
+<!DOCTYPE html>
+<html>
+<head>
+    <meta charset="utf-8">
+    <title>Swagger Coverage</title>
+    <link rel="stylesheet" href="https://stackpath.bootstrapcdn.com/bootstrap/4.1.3/css/bootstrap.min.css"
+          integrity="sha384-MCw98/SFnGE8fJT3GXwEOngsV7Zt27NXFoaoApmYm81iuXoPkFOJwJ8ERdknLPMO" crossorigin="anonymous">
+    <style>
+        .title {
+            margin-top: 60px;
+        }
+
+        .virtual-header {
+            display: flex;
+            padding: 0 8px;
+            font-weight: bold;
+            border-bottom: 2px solid #dee2e6;
+            line-height: 32px;
+            user-select: none;
+        }
+
+        .virtual-header div {
+            cursor: pointer;
+        }
+
+        .virtual-list {
+            position: relative;
+            height: 65vh;
+            overflow-y: auto;
+        }
+
+        .virtual-rows {
+            position: absolute;
+            top: 0;
+            left: 0;
+            right: 0;
+        }
+
+        .virtual-row {
+            display: flex;
+            height: 32px;
+            line-height: 32px;
+            padding: 0 8px;
+            border-bottom: 1px solid #dee2e6;
+        }
+
+        .virtual-header div, .virtual-row div {
+            overflow: hidden;
+            white-space: nowrap;
+            text-overflow: ellipsis;
+            padding-right: 8px;
+        }
+
+        .clickable {
+            cursor: pointer;
+        }
+    </style>
+</head>
+<body>
+
+<nav class="navbar navbar-expand-md navbar-dark fixed-top bg-dark">
+    <div class="container">
+        <a class="navbar-brand" href="#">${(data.info.getTitle())!} ${(data.info.getVersion())!}</a>
+    </div>
+</nav>
+
+<main role="main" class="container">
+    <h2 class="title">${i18["menu.summary"]}</h2>
+    <div class="row" id="summary">
+        <div class="col-12 text-muted">${i18["details.operation.loading"]}</div>
+    </div>
+
+    <h2 class="title">${i18["menu.operations"]}</h2>
+    <ul class="nav nav-pills nav-fill" id="views">
+        <li class="nav-item"><a class="nav-link active" href="#" data-view="operations">${i18["menu.operations"]}</a></li>
+        <li class="nav-item"><a class="nav-link" href="#" data-view="conditions">${i18["menu.condition"]}</a></li>
+        <li class="nav-item"><a class="nav-link" href="#" data-view="tags">${i18["menu.tags"]}</a></li>
+        <li class="nav-item"><a class="nav-link" href="#" data-view="missed">${i18["operations.missed"]}</a></li>
+    </ul>
+    <br/>
+    <div class="form-row">
+        <div class="col-7">
+            <input type="search" class="form-control" id="filter" placeholder="${i18["data.filter"]}">
+        </div>
+        <div class="col-3">
+            <select class="form-control" id="state"></select>
+        </div>
+        <div class="col-2 text-right text-muted" id="shown"></div>
+    </div>
+    <div id="scope" class="mt-2"></div>
+    <br/>
+    <div id="header" class="virtual-header"></div>
+    <div id="rows" class="virtual-list"></div>
+</main>
+
+<script type="application/octet-stream" id="swagger-coverage-data">
+<#else>
+</script>
+<script>
+    var i18 = {
+        <#list ["menu.operations", "menu.condition", "menu.tags", "operations.all", "operations.full",
+                "operations.partial", "operations.empty", "operations.no_call", "operations.missed",
+                "operations.deprecated", "summary.conditions.total", "summary.conditions.covered",
+                "summary.conditions.uncovered", "details.condition.operation", "details.conditionlist.name",
+                "details.conditionlist.hits", "details.conditionlist.details", "details.operation.calls",
+                "details.tag.operations", "details.conditionprogress.postfix", "data.shown", "data.unsupported"] as key>
+        "${key?js_string?no_esc}": "${(i18[key]!key)?js_string?no_esc}"<#sep>,</#sep>
+        </#list>
+    };
+</script>
+<script>
+<#noparse>
+    (function () {
+        'use strict';
+
+        var ROW_HEIGHT = 32;
+        var OVERSCAN = 10;
+
+        function text(value) {
+            return value === null || value === undefined ? '' : String(value);
+        }
+
+        function percent(covered, all) {
+            return all > 0 ? Math.round(1000 * covered / all) / 10 + '%' : '--';
+        }
+
+        /**
+         * Renders only rows which are in the viewport, the spacer keeps the height of all rows for the scrollbar.
+         */
+        function VirtualList(container) {
+            var self = this;
+            self.container = container;
+            self.spacer = document.createElement('div');
+            self.body = document.createElement('div');
+            self.body.className = 'virtual-rows';
+            container.appendChild(self.spacer);
+            container.appendChild(self.body);
+            self.rows = [];
+            var scheduled = false;
+            container.addEventListener('scroll', function () {
+                if (!scheduled) {
+                    scheduled = true;
+                    window.requestAnimationFrame(function () {
+                        scheduled = false;
+                        self.render();
+                    });
+                }
+            });
+            window.addEventListener('resize', function () {
+                self.render();
+            });
+        }
+
+        VirtualList.prototype.show = function (columns, rows, rowClass, onClick) {
+            this.columns = columns;
+            this.rows = rows;
+            this.rowClass = rowClass;
+            this.onClick = onClick;
+            this.spacer.style.height = rows.length * ROW_HEIGHT + 'px';
+            this.container.scrollTop = 0;
+            this.render();
+        };
+
+        VirtualList.prototype.render = function () {
+            var height = this.container.clientHeight || window.innerHeight;
+            var first = Math.max(0, Math.floor(this.container.scrollTop / ROW_HEIGHT) - OVERSCAN);
+            var last = Math.min(this.rows.length, first + Math.ceil(height / ROW_HEIGHT) + 2 * OVERSCAN);
+            var fragment = document.createDocumentFragment();
+            for (var i = first; i < last; i++) {
+                fragment.appendChild(this.row(this.rows[i]));
+            }
+            this.body.style.transform = 'translateY(' + first * ROW_HEIGHT + 'px)';
+            this.body.textContent = '';
+            this.body.appendChild(fragment);
+        };
+
+        VirtualList.prototype.row = function (item) {
+            var self = this;
+            var row = document.createElement('div');
+            row.className = 'virtual-row ' + (self.rowClass ? self.rowClass(item) : '');
+            self.columns.forEach(function (column) {
+                var cell = document.createElement('div');
+                cell.style.flex = column.flex;
+                cell.textContent = text(column.value(item));
+                cell.title = cell.textContent;
+                row.appendChild(cell);
+            });
+            if (self.onClick) {
+                row.classList.add('clickable');
+                row.addEventListener('click', function () {
+                    self.onClick(item);
+                });
+            }
+            return row;
+        };
+
+        function start(data) {
+            var strings = data.strings;
+            var operations = data.operations.map(function (row, index) {
+                return {
+                    index: index, path: row[0], method: row[1], state: row[2], calls: row[3], covered: row[4],
+                    all: row[5], deprecated: row[6] === 1, p95: row[7], key: row[0] + ' ' + row[1]
+                };
+            });
+            var conditions = data.conditions;
+            var tags = data.tags.map(function (row) {
+                return {name: row[0], operations: row[1], calls: row[2], covered: row[3], all: row[4]};
+            });
+            var missed = data.missed.map(function (row) {
+                return {key: row[0] + ' ' + row[1]};
+            });
+
+            function stateOf(operation) {
+                if (operation.deprecated || operation.state === 'DEPRECATED') {
+                    return 'deprecated';
+                }
+                if (operation.calls === 0) {
+                    return 'zero';
+                }
+                return {FULL: 'full', PARTY: 'party', EMPTY: 'empty'}[operation.state] || 'empty';
+            }
+
+            operations.forEach(function (operation) {
+                operation.view = stateOf(operation);
+                operation.search = operation.key.toLowerCase();
+            });
+
+            summary();
+
+            var list = new VirtualList(document.getElementById('rows'));
+            var filter = document.getElementById('filter');
+            var state = document.getElementById('state');
+            var view = 'operations';
+            var scope = null;
+            var sort = null;
+            var conditionSearch = null;
+
+            var views = {
+                operations: {
+                    states: [['', i18['operations.all']], ['full', i18['operations.full']],
+                        ['party', i18['operations.partial']], ['empty', i18['operations.empty']],
+                        ['zero', i18['operations.no_call']], ['deprecated', i18['operations.deprecated']]],
+                    columns: [
+                        {title: i18['details.condition.operation'], flex: '6 1 0', value: function (o) {
+                            return o.key;
+                        }},
+                        {title: i18['details.operation.calls'], flex: '1 1 0', value: function (o) {
+                            return o.calls;
+                        }},
+                        {title: i18['details.conditionprogress.postfix'], flex: '2 1 0', value: function (o) {
+                            return o.covered + '/' + o.all + ' (' + percent(o.covered, o.all) + ')';
+                        }, sort: function (o) {
+                            return o.all > 0 ? o.covered / o.all : -1;
+                        }},
+                        {title: 'p95, ms', flex: '1 1 0', value: function (o) {
+                            return o.p95 < 0 ? '' : o.p95;
+                        }, sort: function (o) {
+                            return o.p95;
+                        }}
+                    ],
+                    rows: function (query, selected) {
+                        var allowed = scope ? scope.operations : null;
+                        return operations.filter(function (o) {
+                            return (!selected || o.view === selected)
+                                && (!allowed || allowed[o.index])
+                                && (!query || o.search.indexOf(query) >= 0);
+                        });
+                    },
+                    rowClass: function (o) {
+                        return {full: 'table-success', party: 'table-warning', empty: 'table-danger',
+                            zero: 'table-secondary', deprecated: 'table-light'}[o.view];
+                    },
+                    click: function (o) {
+                        var only = {};
+                        only[o.index] = true;
+                        select('conditions', {label: o.key, operations: only});
+                    }
+                },
+                conditions: {
+                    states: [['', i18['summary.conditions.total']], ['1', i18['summary.conditions.covered']],
+                        ['0', i18['summary.conditions.uncovered']]],
+                    columns: [
+                        {title: i18['details.condition.operation'], flex: '4 1 0', value: function (c) {
+                            return operations[c[0]].key;
+                        }},
+                        {title: i18['details.conditionlist.name'], flex: '3 1 0', value: function (c) {
+                            return strings[c[1]];
+                        }},
+                        {title: i18['details.conditionlist.hits'], flex: '1 1 0', value: function (c) {
+                            return c[3];
+                        }},
+                        {title: i18['details.conditionlist.details'], flex: '4 1 0', value: function (c) {
+                            return strings[c[4]].replace(/<[^>]*>/g, '');
+                        }}
+                    ],
+                    rows: function (query, selected) {
+                        if (query && !conditionSearch) {
+                            conditionSearch = conditions.map(function (c) {
+                                return (operations[c[0]].key + '\n' + strings[c[1]] + '\n' + strings[c[4]])
+                                    .toLowerCase();
+                            });
+                        }
+                        var allowed = scope ? scope.operations : null;
+                        var covered = selected === '' ? -1 : Number(selected);
+                        var rows = [];
+                        for (var i = 0; i < conditions.length; i++) {
+                            var c = conditions[i];
+                            if ((covered < 0 || c[2] === covered)
+                                && (!allowed || allowed[c[0]])
+                                && (!query || conditionSearch[i].indexOf(query) >= 0)) {
+                                rows.push(c);
+                            }
+                        }
+                        return rows;
+                    },
+                    rowClass: function (c) {
+                        return c[2] === 1 ? 'table-success' : 'table-danger';
+                    }
+                },
+                tags: {
+                    states: [['', i18['operations.all']]],
+                    columns: [
+                        {title: i18['menu.tags'], flex: '4 1 0', value: function (t) {
+                            return t.name;
+                        }},
+                        {title: i18['details.tag.operations'], flex: '1 1 0', value: function (t) {
+                            return t.operations.length;
+                        }},
+                        {title: i18['details.operation.calls'], flex: '1 1 0', value: function (t) {
+                            return t.calls;
+                        }},
+                        {title: i18['details.conditionprogress.postfix'], flex: '2 1 0', value: function (t) {
+                            return t.covered + '/' + t.all + ' (' + percent(t.covered, t.all) + ')';
+                        }, sort: function (t) {
+                            return t.all > 0 ? t.covered / t.all : -1;
+                        }}
+                    ],
+                    rows: function (query) {
+                        return tags.filter(function (t) {
+                            return !query || t.name.toLowerCase().indexOf(query) >= 0;
+                        });
+                    },
+                    click: function (t) {
+                        var only = {};
+                        t.operations.forEach(function (index) {
+                            only[index] = true;
+                        });
+                        select('operations', {label: t.name, operations: only});
+                    }
+                },
+                missed: {
+                    states: [['', i18['operations.missed']]],
+                    columns: [
+                        {title: i18['details.condition.operation'], flex: '1 1 0', value: function (m) {
+                            return m.key;
+                        }}
+                    ],
+                    rows: function (query) {
+                        return missed.filter(function (m) {
+                            return !query || m.key.toLowerCase().indexOf(query) >= 0;
+                        });
+                    }
+                }
+            };
+
+            function select(name, selectedScope) {
+                view = name;
+                scope = selectedScope || null;
+                sort = null;
+                filter.value = '';
+                state.textContent = '';
+                views[name].states.forEach(function (option) {
+                    var element = document.createElement('option');
+                    element.value = option[0];
+                    element.textContent = option[1];
+                    state.appendChild(element);
+                });
+                Array.prototype.forEach.call(document.querySelectorAll('#views a'), function (link) {
+                    link.classList.toggle('active', link.getAttribute('data-view') === name);
+                });
+                var scopeElement = document.getElementById('scope');
+                scopeElement.textContent = '';
+                if (scope) {
+                    var badge = document.createElement('span');
+                    badge.className = 'badge badge-info clickable';
+                    badge.textContent = scope.label + ' ×';
+                    badge.addEventListener('click', function () {
+                        select(view);
+                    });
+                    scopeElement.appendChild(badge);
+                }
+                header();
+                update();
+            }
+
+            function header() {
+                var element = document.getElementById('header');
+                element.textContent = '';
+                views[view].columns.forEach(function (column, index) {
+                    var cell = document.createElement('div');
+                    cell.style.flex = column.flex;
+                    cell.textContent = column.title;
+                    cell.addEventListener('click', function () {
+                        sort = sort && sort.column === index ? {column: index, order: -sort.order}
+                            : {column: index, order: 1};
+                        update();
+                    });
+                    element.appendChild(cell);
+                });
+            }
+
+            function update() {
+                var current = views[view];
+                var rows = current.rows(filter.value.trim().toLowerCase(), state.value);
+                if (sort) {
+                    var column = current.columns[sort.column];
+                    var key = column.sort || column.value;
+                    rows = rows.slice().sort(function (a, b) {
+                        var x = key(a);
+                        var y = key(b);
+                        return (x < y ? -1 : x > y ? 1 : 0) * sort.order;
+                    });
+                }
+                document.getElementById('shown').textContent = rows.length + ' ' + i18['data.shown'];
+                list.show(current.columns, rows, current.rowClass, current.click);
+            }
+
+            function summary() {
+                var counts = {full: 0, party: 0, empty: 0, zero: 0, deprecated: 0};
+                var covered = 0;
+                var all = 0;
+                operations.forEach(function (operation) {
+                    counts[operation.view]++;
+                    covered += operation.covered;
+                    all += operation.all;
+                });
+                var cards = [
+                    [i18['operations.all'], operations.length, 'alert-secondary'],
+                    [i18['operations.full'], counts.full, 'alert-success'],
+                    [i18['operations.partial'], counts.party, 'alert-warning'],
+                    [i18['operations.empty'], counts.empty, 'alert-danger'],
+                    [i18['operations.no_call'], counts.zero, 'alert-secondary'],
+                    [i18['operations.missed'], missed.length, 'alert-secondary'],
+                    [i18['summary.conditions.covered'], covered + '/' + all + ' (' + percent(covered, all) + ')',
+                        'alert-info']
+                ];
+                var element = document.getElementById('summary');
+                element.textContent = '';
+                cards.forEach(function (card) {
+                    var column = document.createElement('div');
+                    column.className = 'col-sm';
+                    var alert = document.createElement('div');
+                    alert.className = 'alert ' + card[2];
+                    alert.textContent = card[0] + ': ' + card[1];
+                    column.appendChild(alert);
+                    element.appendChild(column);
+                });
+            }
+
+            var timer = null;
+            filter.addEventListener('input', function () {
+                window.clearTimeout(timer);
+                timer = window.setTimeout(update, 150);
+            });
+            state.addEventListener('change', update);
+            Array.prototype.forEach.call(document.querySelectorAll('#views a'), function (link) {
+                link.addEventListener('click', function (event) {
+                    event.preventDefault();
+                    select(link.getAttribute('data-view'));
+                });
+            });
+            select('operations');
+        }
+
+        function fail(message) {
+            var element = document.getElementById('summary');
+            element.textContent = '';
+            var alert = document.createElement('div');
+            alert.className = 'col-12 alert alert-danger';
+            alert.textContent = message;
+            element.appendChild(alert);
+        }
+
+        if (!('DecompressionStream' in window)) {
+            fail(i18['data.unsupported']);
+            return;
+        }
+        var encoded = document.getElementById('swagger-coverage-data').textContent.replace(/\s/g, '');
+        fetch('data:application/gzip;base64,' + encoded)
+            .then(function (response) {
+                return new Response(response.body.pipeThrough(new DecompressionStream('gzip'))).json();
+            })
+            .then(start)
+            .catch(function (error) {
+                fail(String(error));
+            });
+    })();
+</#noparse>
+</script>
+</body>
+</html>
+</#if>
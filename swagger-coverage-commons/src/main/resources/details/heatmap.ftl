@@ -0,0 +1,60 @@
+<#macro list heatmap operations>
+    <#if heatmap.operations?size == 0>
+        ${i18["details.operation.no_data"]}
+    <#else>
+        <table class="table table-sm">
+            <thead>
+            <tr>
+                <th scope="col">${i18["details.condition.operation"]}</th>
+                <th scope="col">${i18["heatmap.conditions"]}</th>
+            </tr>
+            </thead>
+            <tbody>
+            <#list operations as key, operationResult>
+                <#if (operationResult.processCount > 0)>
+                    <tr>
+                        <td class="text-nowrap">${key} <small class="text-muted">(${operationResult.processCount})</small></td>
+                        <td>
+                            <#list operationResult.conditions as condition>
+                                <@cell hits=condition.hits max=heatmap.maxHits title=condition.name/>
+                            </#list>
+                        </td>
+                    </tr>
+                </#if>
+            </#list>
+            </tbody>
+        </table>
+    </#if>
+</#macro>
+
+<#macro singleHit heatmap>
+    <h4>${i18["heatmap.single_hit"]}: ${heatmap.singleHit?size}</h4>
+    <p><small>${i18["heatmap.single_hit.description"]}</small></p>
+    <#if (heatmap.singleHit?size > 0)>
+        <table class="table table-sm">
+            <thead>
+            <tr>
+                <th scope="col">${i18["details.condition.operation"]}</th>
+                <th scope="col">${i18["details.conditionlist.name"]}</th>
+            </tr>
+            </thead>
+            <tbody>
+            <#list heatmap.singleHit as item>
+                <tr class="table-warning">
+                    <td>${item.operation}</td>
+                    <td>${item.condition.name}</td>
+                </tr>
+            </#list>
+            </tbody>
+        </table>
+    </#if>
+</#macro>
+
+<#macro cell hits max title>
+    <#if hits == 0>
+        <#assign cellStyle = "background-color: #f5c6cb;">
+    <#else>
+        <#assign cellStyle = "background-color: rgba(40, 167, 69, ${(0.2 + 0.8 * hits / max)?c});">
+    </#if>
+    <span class="heatmap-cell" style="${cellStyle}" title="${title}: ${hits}"></span>
+</#macro>
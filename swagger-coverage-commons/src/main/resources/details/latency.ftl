@@ -0,0 +1,75 @@
+<#macro list operations>
+    <#assign timed = operations?values?filter(x -> x.latency?? && x.latency.all.count gt 0)>
+    <#if timed?size == 0>
+        ${i18["details.operation.no_data"]}
+    <#else>
+        <table class="table table-sm">
+            <thead>
+            <tr>
+                <th scope="col">${i18["details.condition.operation"]}</th>
+                <th scope="col">${i18["latency.status"]}</th>
+                <th scope="col">${i18["latency.calls"]}</th>
+                <th scope="col">p50, ms</th>
+                <th scope="col">p95, ms</th>
+                <th scope="col">p99, ms</th>
+                <th scope="col">max, ms</th>
+            </tr>
+            </thead>
+            <tbody>
+            <#list timed as operationResult>
+                <@row name=operationResult.operationKey?string status=i18["latency.all"] histogram=operationResult.latency.all style="table-active"/>
+                <#list operationResult.latency.statuses as status, histogram>
+                    <@row name="" status=status histogram=histogram style=""/>
+                </#list>
+            </#list>
+            </tbody>
+        </table>
+    </#if>
+</#macro>
+
+<#macro row name status histogram style>
+    <tr class="${style}">
+        <td>${name}</td>
+        <td>${status}</td>
+        <td>${histogram.count}</td>
+        <td>${histogram.p50?c}</td>
+        <td>${histogram.p95?c}</td>
+        <td>${histogram.p99?c}</td>
+        <td>${histogram.max?c}</td>
+    </tr>
+</#macro>
+
+<#macro regressions regressions>
+    <#if regressions?size gt 0>
+        <div class="alert alert-danger" role="alert">
+            ${i18["latency.regressions.description"]}
+        </div>
+        <table class="table table-sm">
+            <thead>
+            <tr>
+                <th scope="col">${i18["details.condition.operation"]}</th>
+                <th scope="col">${i18["latency.regressions.kind"]}</th>
+                <th scope="col">${i18["latency.regressions.baseline"]}</th>
+                <th scope="col">${i18["latency.regressions.current"]}</th>
+                <th scope="col">p-value</th>
+            </tr>
+            </thead>
+            <tbody>
+            <#list regressions as regression>
+                <tr class="table-danger">
+                    <td>${regression.operation?string}</td>
+                    <td>${i18["latency.regressions." + regression.kind]}</td>
+                    <#if regression.kind == "P95">
+                        <td>${regression.baseline?string["0"]} ms</td>
+                        <td>${regression.current?string["0"]} ms</td>
+                    <#else>
+                        <td>${regression.baseline?string.percent}</td>
+                        <td>${regression.current?string.percent}</td>
+                    </#if>
+                    <td>${regression.probability?string["0.####"]}</td>
+                </tr>
+            </#list>
+            </tbody>
+        </table>
+    </#if>
+</#macro>
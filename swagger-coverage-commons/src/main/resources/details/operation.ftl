@@ -103,7 +103,7 @@
             </div>
         </div>
         <div id="${target}" class="collapse" aria-labelledby="headingOne">
-            <@conditionList list=operationResult.conditions />
+            <@ui.lazy id=(fragmentIds[name])!""><@conditionList list=operationResult.conditions /></@ui.lazy>
         </div>
     </div>
 </#macro>
@@ -114,6 +114,7 @@
             <thead>
             <tr>
                 <th scope="col">${i18["details.conditionlist.name"]}</th>
+                <th scope="col">${i18["details.conditionlist.hits"]}</th>
                 <th scope="col">${i18["details.conditionlist.details"]}</th>
             </tr>
             </thead>
@@ -137,6 +138,7 @@
                         </#if>
                         &nbsp;${condition.name}
                     </td>
+                    <td>${condition.hits}</td>
                     <td>${condition.reason}</td>
                 </tr>
             </#list>
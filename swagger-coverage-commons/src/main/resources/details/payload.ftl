@@ -0,0 +1,51 @@
+<#macro list operations>
+    <#assign sized = operations?values?filter(x -> x.payload??)>
+    <#if sized?size == 0>
+        ${i18["details.operation.no_data"]}
+    <#else>
+        <table class="table table-sm">
+            <thead>
+            <tr>
+                <th scope="col" rowspan="2">${i18["details.condition.operation"]}</th>
+                <th scope="col" colspan="4">${i18["payload.request"]}</th>
+                <th scope="col" colspan="4">${i18["payload.response"]}</th>
+                <th scope="col" rowspan="2">p95, ms</th>
+            </tr>
+            <tr>
+                <@header/>
+                <@header/>
+            </tr>
+            </thead>
+            <tbody>
+            <#list sized as operationResult>
+                <tr>
+                    <td>${operationResult.operationKey?string}</td>
+                    <@cells histogram=operationResult.payload.request!{}/>
+                    <@cells histogram=operationResult.payload.response!{}/>
+                    <td><#if operationResult.latency?? && operationResult.latency.all.count gt 0>${operationResult.latency.all.p95?c}</#if></td>
+                </tr>
+            </#list>
+            </tbody>
+        </table>
+    </#if>
+</#macro>
+
+<#macro header>
+    <th scope="col">${i18["latency.calls"]}</th>
+    <th scope="col">p50, B</th>
+    <th scope="col">p95, B</th>
+    <th scope="col">max, B</th>
+</#macro>
+
+<#macro cells histogram>
+    <td>${histogram.count!0}</td>
+    <#if histogram.count?? && histogram.count gt 0>
+        <td>${histogram.p50?c}</td>
+        <td>${histogram.p95?c}</td>
+        <td>${histogram.max?c}</td>
+    <#else>
+        <td></td>
+        <td></td>
+        <td></td>
+    </#if>
+</#macro>
@@ -30,18 +30,22 @@
                     </div>
                 </div>
                 <div id="tag-${tag?index}" class="collapse" aria-labelledby="headingOne">
-                    <div class="card-body">
-                        <@ui.coverageBadget counter=tagCoverage.coverageCounter/>
-                        <#list tagCoverage.operations as op>
-                            <@operation.details
-                            name=op
-                            operationResult=operationMap[op]
-                            target="tag-" + tag + "-" + op?counter
-                            />
-                        </#list>
-                    </div>
+                    <@ui.lazy id="tag-" + tag?index><@body tag=tag tagCoverage=tagCoverage/></@ui.lazy>
                 </div>
             </div>
         </#list>
     </div>
+</#macro>
+
+<#macro body tag tagCoverage>
+    <div class="card-body">
+        <@ui.coverageBadget counter=tagCoverage.coverageCounter/>
+        <#list tagCoverage.operations as op>
+            <@operation.details
+            name=op
+            operationResult=operationMap[op]
+            target="tag-" + tag + "-" + op?counter
+            />
+        </#list>
+    </div>
 </#macro>
\ No newline at end of file
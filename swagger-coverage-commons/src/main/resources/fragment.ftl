@@ -0,0 +1,38 @@
+<#ftl output_format="HTML">
+<#-- One fragment of a split report, a script which hands the rendered markup over to the index page -->
+
+<#global i18=messages>
+<#global operationMap=data.flatOperations>
+
+<#import "sections/content.ftl" as content />
+<#import "details/operation.ftl" as operations />
+<#import "details/tag.ftl" as tag />
+
+<#assign markup>
+    <#switch kind>
+        <#case "operation">
+            <@operations.conditionList list=operationMap[name].conditions />
+            <#break>
+        <#case "state">
+            <@content.operationTab prefix=name/>
+            <#break>
+        <#case "tag">
+            <@tag.body tag=name tagCoverage=data.tagCoverageMap[name]/>
+            <#break>
+        <#case "conditions">
+            <@content.conditions/>
+            <#break>
+        <#case "heatmap">
+            <@content.heatmaps/>
+            <#break>
+        <#case "latency">
+            <@content.latencies/>
+            <#break>
+        <#case "payload">
+            <@content.payloads/>
+            <#break>
+    </#switch>
+</#assign>
+<#outputformat "plainText">
+swaggerCoverage.loaded("${fragment?js_string}", "${markup?markup_string?js_string}");
+</#outputformat>
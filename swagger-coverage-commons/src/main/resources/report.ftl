@@ -7,8 +7,7 @@
 <#import "ui.ftl" as ui/>
 <#import "sections/summary.ftl" as summary />
 <#import "sections/generation.ftl" as generation />
-<#import "details/operation.ftl" as operations />
-<#import "details/condition.ftl" as condition />
+<#import "sections/content.ftl" as content />
 <#import "details/tag.ftl" as tag />
 
 <head>
@@ -41,7 +40,71 @@
             width: 100%;
             color: black;
         }
+
+        .heatmap-cell {
+            display: inline-block;
+            width: 12px;
+            height: 12px;
+            margin: 1px;
+        }
     </style>
+    <#if split!false>
+        <#-- fragments are scripts, so the split report can be opened from disk where pages can not be fetched -->
+        <script>
+            var swaggerCoverage = (function () {
+                var path = '${fragmentPath?js_string?no_esc}/';
+                var waiting = {};
+                var observer = 'IntersectionObserver' in window ? new IntersectionObserver(function (entries) {
+                    entries.forEach(function (entry) {
+                        if (entry.isIntersecting) {
+                            observer.unobserve(entry.target);
+                            load(entry.target);
+                        }
+                    });
+                }, {rootMargin: '200px'}) : null;
+
+                function load(element) {
+                    var id = element.getAttribute('data-fragment');
+                    if (waiting[id]) {
+                        waiting[id].push(element);
+                        return;
+                    }
+                    waiting[id] = [element];
+                    var script = document.createElement('script');
+                    script.src = path + id + '.js';
+                    script.onload = function () {
+                        script.parentNode.removeChild(script);
+                    };
+                    document.head.appendChild(script);
+                }
+
+                function scan(root) {
+                    var elements = root.querySelectorAll('[data-fragment]');
+                    for (var i = 0; i < elements.length; i++) {
+                        if (observer) {
+                            observer.observe(elements[i]);
+                        } else {
+                            load(elements[i]);
+                        }
+                    }
+                }
+
+                function loaded(id, markup) {
+                    (waiting[id] || []).forEach(function (element) {
+                        element.removeAttribute('data-fragment');
+                        element.innerHTML = markup;
+                        scan(element);
+                    });
+                    delete waiting[id];
+                }
+
+                document.addEventListener('DOMContentLoaded', function () {
+                    scan(document);
+                });
+                return {loaded: loaded};
+            })();
+        </script>
+    </#if>
 </head>
 <body>
 
@@ -62,6 +125,15 @@
                 <li class="nav-item">
                     <a class="nav-link" href="#condition-section">${i18["menu.condition"]}</a>
                 </li>
+                <li class="nav-item">
+                    <a class="nav-link" href="#heatmap-section">${i18["menu.heatmap"]}</a>
+                </li>
+                <li class="nav-item">
+                    <a class="nav-link" href="#latency-section">${i18["menu.latency"]}</a>
+                </li>
+                <li class="nav-item">
+                    <a class="nav-link" href="#payload-section">${i18["menu.payload"]}</a>
+                </li>
                 <li class="nav-item">
                     <a class="nav-link" href="#system-section">${i18["menu.generation"]}</a>
                 </li>
@@ -151,34 +223,29 @@
                 <div class="col-12">
                     <div class="tab-content" id="details-content">
                         <div class="tab-pane fade show active" id="condition" role="tabpanel" aria-labelledby="condition-tab">
-                            <@condition.list
-                                coverage=data.coverageOperationMap.full + data.coverageOperationMap.party + data.coverageOperationMap.empty
-                                prefix="condition"/>
+                            <@ui.lazy id="state-condition"><@content.operationTab prefix="condition"/></@ui.lazy>
                         </div>
                         <div class="tab-pane fade" id="full" role="tabpanel" aria-labelledby="full-tab">
-                            <@condition.list coverage=data.coverageOperationMap.full prefix="full"/>
+                            <@ui.lazy id="state-full"><@content.operationTab prefix="full"/></@ui.lazy>
                         </div>
                         <div class="tab-pane fade" id="party" role="tabpanel" aria-labelledby="party-tab">
-                            <@condition.list coverage=data.coverageOperationMap.party prefix="party"/>
+                            <@ui.lazy id="state-party"><@content.operationTab prefix="party"/></@ui.lazy>
                         </div>
                         <div class="tab-pane fade" id="empty" role="tabpanel" aria-labelledby="empty-tab">
-                            <@condition.list coverage=data.coverageOperationMap.empty prefix="empty"/>
+                            <@ui.lazy id="state-empty"><@content.operationTab prefix="empty"/></@ui.lazy>
                         </div>
                         <div class="tab-pane fade" id="zero" role="tabpanel" aria-labelledby="zero-tab">
-                            <@condition.list coverage=data.zeroCall prefix="zero"/>
+                            <@ui.lazy id="state-zero"><@content.operationTab prefix="zero"/></@ui.lazy>
                         </div>
                         <div class="tab-pane fade" id="missed" role="tabpanel" aria-labelledby="missed-tab">
-                            <@operations.list coverage=data.missed prefix="missed"/>
+                            <@ui.lazy id="state-missed"><@content.operationTab prefix="missed"/></@ui.lazy>
                         </div>
                         <div class="tab-pane fade" id="deprecated" role="tabpanel" aria-labelledby="deprecated-tab">
-                            <@operations.list coverage=data.deprecated prefix="deprecated"/>
+                            <@ui.lazy id="state-deprecated"><@content.operationTab prefix="deprecated"/></@ui.lazy>
                         </div>
                         <#if (data.excludedOperations?size > 0)>
                         <div class="tab-pane fade" id="excluded" role="tabpanel" aria-labelledby="excluded-tab">
-                            <div class="alert alert-info" role="alert">
-                                <strong>Excluded Operations:</strong> These operations were excluded from coverage statistics based on configuration.
-                            </div>
-                            <@condition.list coverage=data.excludedOperations prefix="excluded"/>
+                            <@ui.lazy id="state-excluded"><@content.operationTab prefix="excluded"/></@ui.lazy>
                         </div>
                         </#if>
                     </div>
@@ -201,114 +268,34 @@
                     <h2 class="title" id="conditions">${i18["menu.condition"]}</h2>
                 </div>
             </div>
+            <@ui.lazy id="section-conditions"><@content.conditions/></@ui.lazy>
+        </section>
+
+        <section id="heatmap-section">
+            <div class="row">
+                <div class="col-12">
+                    <h2 class="title" id="heatmap">${i18["menu.heatmap"]}</h2>
+                </div>
+            </div>
+            <@ui.lazy id="section-heatmap"><@content.heatmaps/></@ui.lazy>
+        </section>
+
+        <section id="latency-section">
             <div class="row">
-                <div class="accordion col-12" id="conditions-by-type-accordion">
-                    <#list data.conditionStatisticsMap as key, value>
-                        <div class="card">
-                            <div class="card-header">
-                                <div class="row"
-                                     data-toggle="collapse"
-                                     data-target="#conditions-by-type-${key?index}"
-                                     aria-expanded="true"
-                                     aria-controls="collapseOne">
-                                    <div class="col-8">
-                                        <#assign nameKey = "predicate.${key}.name">
-                                        <#assign descriptionKey = "predicate.${key}.description">
-                                        <p><strong>${i18[nameKey]!nameKey}</strong></p>
-                                        <small>${i18[descriptionKey]!descriptionKey}</small>
-                                    </div>
-                                    <div class="col-4">
-                                        <@ui.progress
-                                            full=value.allCount
-                                            current=value.coveredCount
-                                            postfix=i18["details.conditionprogress.postfix"]
-                                        />
-                                    </div>
-                                </div>
-                            </div>
-                            <div id="conditions-by-type-${key?index}" class="collapse" aria-labelledby="headingOne">
-                                <div class="card-body">
-                                    <div class="row">
-                                        <div class="col-12">
-                                            <ul class="nav nav-pills nav-fill" id="condition-tabs-${key?index}" role="tablist">
-                                                <li class="nav-item">
-                                                    <a class="nav-link active" id="tab-condition-covered-${key?index}" data-toggle="tab" href="#condition-covered-${key?index}" role="tab"
-                                                       aria-controls="condition-covered-${key?index}" aria-selected="true">
-                                                        ${i18["summary.conditions.covered"]}: ${value.coveredOperation?size}
-                                                    </a>
-                                                </li>
-                                                <li class="nav-item">
-                                                    <a class="nav-link" id="tab-condition-uncovered-${key?index}" data-toggle="tab" href="#condition-uncovered-${key?index}" role="tab"
-                                                       aria-controls="condition-uncovered-${key?index}" aria-selected="true">
-                                                        ${i18["summary.conditions.uncovered"]}: ${value.uncoveredOperation?size}
-                                                    </a>
-                                                </li>
-                                            </ul>
-                                        </div>
-                                    </div>
-                                    <br>
-                                    <div class="row">
-                                        <div class="col-12">
-                                            <div class="tab-content" id="details-content-${key?index}">
-                                                <div class="tab-pane fade show active" id="condition-covered-${key?index}" role="tabpanel" aria-labelledby="tab-condition-covered-${key?index}">
-                                                    <table class="table table-sm">
-                                                        <thead>
-                                                        <tr>
-                                                            <th scope="col">${i18["details.condition.operation"]}</th>
-                                                            <th scope="col">${i18["details.condition.conditionname"]}e</th>
-                                                            <th scope="col">${i18["details.condition.details"]}</th>
-                                                        </tr>
-                                                        </thead>
-                                                        <tbody>
-                                                        <#list value.coveredOperation as conditionItem>
-                                                            <tr class="table-success">
-                                                                <td>
-                                                                    <span>
-                                                                        <i class="fas fa-check"></i>
-                                                                    </span>
-                                                                    &nbsp;${conditionItem.operation}
-                                                                </td>
-                                                                <td>${conditionItem.condition.name}</td>
-                                                                <td>${conditionItem.condition.reason?no_esc}</td>
-                                                            </tr>
-                                                        </#list>
-                                                        </tbody>
-                                                    </table>
-                                                </div>
-                                                <div class="tab-pane fade" id="condition-uncovered-${key?index}" role="tabpanel" aria-labelledby="tab-condition-uncovered-${key?index}">
-                                                    <table class="table table-sm">
-                                                        <thead>
-                                                        <tr>
-                                                            <th scope="col">${i18["details.condition.operation"]}</th>
-                                                            <th scope="col">${i18["details.condition.conditionname"]}e</th>
-                                                            <th scope="col">${i18["details.condition.details"]}</th>
-                                                        </tr>
-                                                        </thead>
-                                                        <tbody>
-                                                        <#list value.uncoveredOperation as conditionItem>
-                                                            <tr class="table-danger">
-                                                                <td>
-                                                                    <span>
-                                                                        <i class="fas fa-bug"></i>
-                                                                    </span>
-                                                                    &nbsp;${conditionItem.operation}
-                                                                </td>
-                                                                <td>${conditionItem.condition.name}</td>
-                                                                <td>${conditionItem.condition.reason?no_esc}</td>
-                                                            </tr>
-                                                        </#list>
-                                                        </tbody>
-                                                    </table>
-                                                </div>
-                                            </div>
-                                        </div>
-                                    </div>
-                                </div>
-                            </div>
-                        </div>
-                    </#list>
+                <div class="col-12">
+                    <h2 class="title" id="latency">${i18["menu.latency"]}</h2>
+                </div>
+            </div>
+            <@ui.lazy id="section-latency"><@content.latencies/></@ui.lazy>
+        </section>
+
+        <section id="payload-section">
+            <div class="row">
+                <div class="col-12">
+                    <h2 class="title" id="payload">${i18["menu.payload"]}</h2>
                 </div>
             </div>
+            <@ui.lazy id="section-payload"><@content.payloads/></@ui.lazy>
         </section>
 
         <section id="system-section">
@@ -0,0 +1,183 @@
+<#ftl output_format="HTML">
+<#-- Parts of the report which are rendered inline or, in split mode, as fragments loaded on demand -->
+<#import "../details/operation.ftl" as operations />
+<#import "../details/condition.ftl" as condition />
+<#import "../details/heatmap.ftl" as heatmap />
+<#import "../details/latency.ftl" as latency />
+<#import "../details/payload.ftl" as payload />
+<#import "../ui.ftl" as ui/>
+
+<#macro operationTab prefix>
+    <#switch prefix>
+        <#case "condition">
+            <@condition.list
+                coverage=data.coverageOperationMap.full + data.coverageOperationMap.party + data.coverageOperationMap.empty
+                prefix="condition"/>
+            <#break>
+        <#case "full">
+            <@condition.list coverage=data.coverageOperationMap.full prefix="full"/>
+            <#break>
+        <#case "party">
+            <@condition.list coverage=data.coverageOperationMap.party prefix="party"/>
+            <#break>
+        <#case "empty">
+            <@condition.list coverage=data.coverageOperationMap.empty prefix="empty"/>
+            <#break>
+        <#case "zero">
+            <@condition.list coverage=data.zeroCall prefix="zero"/>
+            <#break>
+        <#case "missed">
+            <@operations.list coverage=data.missed prefix="missed"/>
+            <#break>
+        <#case "deprecated">
+            <@operations.list coverage=data.deprecated prefix="deprecated"/>
+            <#break>
+        <#case "excluded">
+            <div class="alert alert-info" role="alert">
+                <strong>Excluded Operations:</strong> These operations were excluded from coverage statistics based on configuration.
+            </div>
+            <@condition.list coverage=data.excludedOperations prefix="excluded"/>
+            <#break>
+    </#switch>
+</#macro>
+
+<#macro conditions>
+    <div class="row">
+        <div class="accordion col-12" id="conditions-by-type-accordion">
+            <#list data.conditionStatisticsMap as key, value>
+                <div class="card">
+                    <div class="card-header">
+                        <div class="row"
+                             data-toggle="collapse"
+                             data-target="#conditions-by-type-${key?index}"
+                             aria-expanded="true"
+                             aria-controls="collapseOne">
+                            <div class="col-8">
+                                <#assign nameKey = "predicate.${key}.name">
+                                <#assign descriptionKey = "predicate.${key}.description">
+                                <p><strong>${i18[nameKey]!nameKey}</strong></p>
+                                <small>${i18[descriptionKey]!descriptionKey}</small>
+                            </div>
+                            <div class="col-4">
+                                <@ui.progress
+                                    full=value.allCount
+                                    current=value.coveredCount
+                                    postfix=i18["details.conditionprogress.postfix"]
+                                />
+                            </div>
+                        </div>
+                    </div>
+                    <div id="conditions-by-type-${key?index}" class="collapse" aria-labelledby="headingOne">
+                        <div class="card-body">
+                            <div class="row">
+                                <div class="col-12">
+                                    <ul class="nav nav-pills nav-fill" id="condition-tabs-${key?index}" role="tablist">
+                                        <li class="nav-item">
+                                            <a class="nav-link active" id="tab-condition-covered-${key?index}" data-toggle="tab" href="#condition-covered-${key?index}" role="tab"
+                                               aria-controls="condition-covered-${key?index}" aria-selected="true">
+                                                ${i18["summary.conditions.covered"]}: ${value.coveredOperation?size}
+                                            </a>
+                                        </li>
+                                        <li class="nav-item">
+                                            <a class="nav-link" id="tab-condition-uncovered-${key?index}" data-toggle="tab" href="#condition-uncovered-${key?index}" role="tab"
+                                               aria-controls="condition-uncovered-${key?index}" aria-selected="true">
+                                                ${i18["summary.conditions.uncovered"]}: ${value.uncoveredOperation?size}
+                                            </a>
+                                        </li>
+                                    </ul>
+                                </div>
+                            </div>
+                            <br>
+                            <div class="row">
+                                <div class="col-12">
+                                    <div class="tab-content" id="details-content-${key?index}">
+                                        <div class="tab-pane fade show active" id="condition-covered-${key?index}" role="tabpanel" aria-labelledby="tab-condition-covered-${key?index}">
+                                            <table class="table table-sm">
+                                                <thead>
+                                                <tr>
+                                                    <th scope="col">${i18["details.condition.operation"]}</th>
+                                                    <th scope="col">${i18["details.condition.conditionname"]}e</th>
+                                                    <th scope="col">${i18["details.condition.details"]}</th>
+                                                </tr>
+                                                </thead>
+                                                <tbody>
+                                                <#list value.coveredOperation as conditionItem>
+                                                    <tr class="table-success">
+                                                        <td>
+                                                            <span>
+                                                                <i class="fas fa-check"></i>
+                                                            </span>
+                                                            &nbsp;${conditionItem.operation}
+                                                        </td>
+                                                        <td>${conditionItem.condition.name}</td>
+                                                        <td>${conditionItem.condition.reason?no_esc}</td>
+                                                    </tr>
+                                                </#list>
+                                                </tbody>
+                                            </table>
+                                        </div>
+                                        <div class="tab-pane fade" id="condition-uncovered-${key?index}" role="tabpanel" aria-labelledby="tab-condition-uncovered-${key?index}">
+                                            <table class="table table-sm">
+                                                <thead>
+                                                <tr>
+                                                    <th scope="col">${i18["details.condition.operation"]}</th>
+                                                    <th scope="col">${i18["details.condition.conditionname"]}e</th>
+                                                    <th scope="col">${i18["details.condition.details"]}</th>
+                                                </tr>
+                                                </thead>
+                                                <tbody>
+                                                <#list value.uncoveredOperation as conditionItem>
+                                                    <tr class="table-danger">
+                                                        <td>
+                                                            <span>
+                                                                <i class="fas fa-bug"></i>
+                                                            </span>
+                                                            &nbsp;${conditionItem.operation}
+                                                        </td>
+                                                        <td>${conditionItem.condition.name}</td>
+                                                        <td>${conditionItem.condition.reason?no_esc}</td>
+                                                    </tr>
+                                                </#list>
+                                                </tbody>
+                                            </table>
+                                        </div>
+                                    </div>
+                                </div>
+                            </div>
+                        </div>
+                    </div>
+                </div>
+            </#list>
+        </div>
+    </div>
+</#macro>
+
+<#macro heatmaps>
+    <div class="row">
+        <div class="col-12">
+            <@heatmap.list heatmap=data.conditionHeatmap operations=data.operations/>
+        </div>
+    </div>
+    <div class="row">
+        <div class="col-12">
+            <@heatmap.singleHit heatmap=data.conditionHeatmap/>
+        </div>
+    </div>
+</#macro>
+
+<#macro latencies>
+    <div class="row">
+        <div class="col-12">
+            <@latency.regressions regressions=data.latencyRegressions/>
+            <@latency.list operations=data.operations/>
+        </div>
+    </div>
+</#macro>
+
+<#macro payloads>
+    <div class="row">
+        <div class="col-12">
+            <@payload.list operations=data.operations/>
+        </div>
+    </div>
+</#macro>
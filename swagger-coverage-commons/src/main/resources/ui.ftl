@@ -158,3 +158,12 @@
     </svg>
     ${text}
 </#macro>
+
+<#-- Renders nested content in place, in split mode a placeholder which loads the fragment with the id when shown -->
+<#macro lazy id>
+    <#if (split!false) && id?has_content>
+        <div data-fragment="${id}"><small class="text-muted">${i18["details.operation.loading"]}</small></div>
+    <#else>
+        <#nested>
+    </#if>
+</#macro>
@@ -0,0 +1,17 @@
+package com.github.viclovsky.swagger.coverage.karate;
+
+/**
+ * How {@link SwaggerCoverageRunner} captures HTTP calls of the tests.
+ */
+public enum CaptureMode {
+
+    /**
+     * Calls are sent through the local proxy server, which also works for remote targets. Default.
+     */
+    PROXY,
+
+    /**
+     * Calls are recorded in-process by {@link SwaggerCoverageHook}, without the network hop.
+     */
+    HOOK
+}
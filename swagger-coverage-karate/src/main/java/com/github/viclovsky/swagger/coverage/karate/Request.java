@@ -14,6 +14,9 @@ public class Request {
     private String method;
     private int statusCode;
     private Map<String, List<String>> responseHeaders;
+    private long responseTime = -1;
+    private long requestSize = -1;
+    private long responseSize = -1;
 
     // #region Getter/Setter
     public String getBaseUrl() {
@@ -88,6 +91,30 @@ public class Request {
         this.statusCode = statusCode;
     }
 
+    public long getResponseTime() {
+        return responseTime;
+    }
+
+    public void setResponseTime(long responseTime) {
+        this.responseTime = responseTime;
+    }
+
+    public long getRequestSize() {
+        return requestSize;
+    }
+
+    public void setRequestSize(long requestSize) {
+        this.requestSize = requestSize;
+    }
+
+    public long getResponseSize() {
+        return responseSize;
+    }
+
+    public void setResponseSize(long responseSize) {
+        this.responseSize = responseSize;
+    }
+
     public Boolean hasBody() {
         return hasBody;
     }
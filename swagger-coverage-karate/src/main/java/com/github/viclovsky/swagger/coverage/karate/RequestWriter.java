@@ -7,6 +7,8 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
+import com.github.viclovsky.swagger.coverage.BodySize;
+import com.github.viclovsky.swagger.coverage.CaptureProjection;
 import com.github.viclovsky.swagger.coverage.CoverageOutputWriter;
 import com.github.viclovsky.swagger.coverage.FileSystemOutputWriter;
 import com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants;
@@ -26,12 +28,22 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 public class RequestWriter {
     
     private CoverageOutputWriter writer;
+    private CaptureProjection projection = CaptureProjection.load();
 
     public RequestWriter(String workingDir){
         File dir = new File(workingDir, SwaggerCoverageConstants.OUTPUT_DIRECTORY);
         writer = new FileSystemOutputWriter(dir.toPath());
     }
 
+    public RequestWriter(CoverageOutputWriter writer){
+        this.writer = writer;
+    }
+
+    public RequestWriter setProjection(CaptureProjection projection){
+        this.projection = projection;
+        return this;
+    }
+
     public void write(Request request, Boolean oas3){
         if (oas3){
             writeOAS3(request);
@@ -49,29 +61,44 @@ public class RequestWriter {
         Map<String, String> pathParams = request.getPathParams();
         Operation operation = new Operation();
 
-        headerParams.forEach((n, v) -> operation.addParameter(new HeaderParameter().name(n)));
+        headerParams.keySet().stream().filter(n -> !SwaggerCoverageOptions.isHeader(n))
+                .filter(n -> projection.keepName(CaptureProjection.HEADER, n))
+                .forEach(n -> operation.addParameter(new HeaderParameter().name(n)));
 
         if (pathParams != null){
-            pathParams.forEach((n, v) -> operation.addParameter(new PathParameter().name(n)));
+            pathParams.keySet().stream().filter(n -> projection.keepName(CaptureProjection.PATH, n))
+                    .forEach(n -> operation.addParameter(new PathParameter().name(n)));
         }
 
         if (request.hasBody()) {
             operation.addConsumes(getContentType(headerParams));
             operation.addParameter(new BodyParameter().name("body"));
-            requestParams.forEach((n, v) -> operation.addParameter(new FormParameter().name(n)));
+            requestParams.keySet().stream().filter(n -> projection.keepName(CaptureProjection.BODY, n))
+                    .forEach(n -> operation.addParameter(new FormParameter().name(n)));
 
             if (requestParts != null) {
-                requestParts.forEach((n, v) -> operation.addParameter(new FormParameter().name(n)));
+                requestParts.keySet().stream().filter(n -> projection.keepName(CaptureProjection.BODY, n))
+                        .forEach(n -> operation.addParameter(new FormParameter().name(n)));
             }
         } else {
-            requestParams.forEach((n, v) -> operation.addParameter(new QueryParameter().name(n)));
+            requestParams.keySet().stream().filter(n -> projection.keepName(CaptureProjection.QUERY, n))
+                    .forEach(n -> operation.addParameter(new QueryParameter().name(n)));
         }
 
-        if (responseHeaders.containsKey("content-type")) {
+        if (projection.isAll() && responseHeaders.containsKey("content-type")) {
             operation.addProduces(getContentType(responseHeaders));
         }
 
         operation.addResponse(Integer.toString(request.getStatusCode()), new Response());
+        if (request.getResponseTime() >= 0) {
+            operation.setVendorExtension(SwaggerCoverageConstants.RESPONSE_TIME_EXTENSION, request.getResponseTime());
+        }
+        if (requestSize(request) >= 0) {
+            operation.setVendorExtension(SwaggerCoverageConstants.REQUEST_SIZE_EXTENSION, requestSize(request));
+        }
+        if (responseSize(request) >= 0) {
+            operation.setVendorExtension(SwaggerCoverageConstants.RESPONSE_SIZE_EXTENSION, responseSize(request));
+        }
 
         URI uri = URI.create(request.getBaseUrl());
         String path = "/" + trimAfterChar(request.getPath(), "?");
@@ -90,34 +117,48 @@ public class RequestWriter {
         Map<String, String> pathParams = request.getPathParams();
         io.swagger.v3.oas.models.Operation operation = new io.swagger.v3.oas.models.Operation();
 
-        headerParams.forEach((n, v) -> operation
+        headerParams.keySet().stream().filter(n -> !SwaggerCoverageOptions.isHeader(n))
+                .filter(n -> projection.keepName(CaptureProjection.HEADER, n)).forEach(n -> operation
                 .addParametersItem(new io.swagger.v3.oas.models.parameters.HeaderParameter().name(n)));
 
         if (pathParams != null){
-            pathParams.forEach((n, v) -> operation
+            pathParams.keySet().stream().filter(n -> projection.keepName(CaptureProjection.PATH, n)).forEach(n -> operation
                 .addParametersItem(new io.swagger.v3.oas.models.parameters.PathParameter().name(n)));  
         }
 
         if (request.hasBody()) {
             MediaType mediaType = new MediaType();
             Schema<Object> schema = new Schema<>();
-            requestParams.forEach((n, v) -> schema.addProperties(n, new Schema<>()));
+            requestParams.keySet().stream().filter(n -> projection.keepName(CaptureProjection.BODY, n))
+                    .forEach(n -> schema.addProperties(n, new Schema<>()));
 
             if (requestParts != null) {
-                requestParts.forEach((n, v) -> schema.addProperties(n, new Schema<>()));
+                requestParts.keySet().stream().filter(n -> projection.keepName(CaptureProjection.BODY, n))
+                        .forEach(n -> schema.addProperties(n, new Schema<>()));
             }
 
             mediaType.setSchema(schema);
             operation.requestBody(
                     new RequestBody().content(new Content().addMediaType(getContentType(headerParams), mediaType)));
         } else {
-            requestParams.forEach((n, v) -> operation
+            requestParams.keySet().stream().filter(n -> projection.keepName(CaptureProjection.QUERY, n)).forEach(n -> operation
                     .addParametersItem(new io.swagger.v3.oas.models.parameters.QueryParameter().name(n)));
         }
 
-        operation.responses(new ApiResponses().addApiResponse(Integer.toString(request.getStatusCode()),
-                new ApiResponse()
-                        .content(new Content().addMediaType(getContentType(responseHeaders), new MediaType()))));
+        ApiResponse apiResponse = new ApiResponse();
+        if (projection.isAll()){
+            apiResponse.content(new Content().addMediaType(getContentType(responseHeaders), new MediaType()));
+        }
+        operation.responses(new ApiResponses().addApiResponse(Integer.toString(request.getStatusCode()), apiResponse));
+        if (request.getResponseTime() >= 0) {
+            operation.addExtension(SwaggerCoverageConstants.RESPONSE_TIME_EXTENSION, request.getResponseTime());
+        }
+        if (requestSize(request) >= 0) {
+            operation.addExtension(SwaggerCoverageConstants.REQUEST_SIZE_EXTENSION, requestSize(request));
+        }
+        if (responseSize(request) >= 0) {
+            operation.addExtension(SwaggerCoverageConstants.RESPONSE_SIZE_EXTENSION, responseSize(request));
+        }
 
         URI uri = URI.create(request.getBaseUrl());
         String path = "/" + trimAfterChar(request.getPath(), "?");
@@ -131,6 +172,27 @@ public class RequestWriter {
         writer.write(openAPI);
     }
 
+    /**
+     * Byte count of body, or Content-Length header if the proxy did not pass it.
+     */
+    private long requestSize(Request request) {
+        if (!Boolean.TRUE.equals(request.hasBody())) {
+            return BodySize.UNKNOWN;
+        }
+        return request.getRequestSize() >= 0 ? request.getRequestSize() : contentLength(request.getHeaderParams());
+    }
+
+    private long responseSize(Request request) {
+        return request.getResponseSize() >= 0 ? request.getResponseSize() : contentLength(request.getResponseHeaders());
+    }
+
+    private long contentLength(Map<String, List<String>> headerList) {
+        if (headerList == null || !headerList.containsKey("content-length") || headerList.get("content-length").isEmpty()) {
+            return BodySize.UNKNOWN;
+        }
+        return BodySize.contentLength(headerList.get("content-length").get(0));
+    }
+
     private String getContentType(Map<String, List<String>> headerList) {
         if (!headerList.containsKey("content-type")) {
             return "";
@@ -0,0 +1,151 @@
+package com.github.viclovsky.swagger.coverage.karate;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.intuit.karate.RuntimeHook;
+import com.intuit.karate.core.ScenarioRuntime;
+import com.intuit.karate.http.HttpRequest;
+import com.intuit.karate.http.Response;
+
+/**
+ * Captures HTTP calls of Karate scenarios in-process, without routing them through the proxy server.
+ * The call is mapped to the same {@link Request} which the proxy feature builds and is passed to {@link RequestWriter}.
+ */
+public class SwaggerCoverageHook implements RuntimeHook {
+
+    private static final String CONTENT_TYPE = "content-type";
+    private static final Pattern MULTIPART_NAME = Pattern.compile("Content-Disposition:\\s*form-data;\\s*name=\"([^\"]+)\"",
+            Pattern.CASE_INSENSITIVE);
+
+    private final RequestWriter writer;
+    private final boolean oas3;
+
+    public SwaggerCoverageHook(RequestWriter writer, boolean oas3) {
+        this.writer = writer;
+        this.oas3 = oas3;
+    }
+
+    @Override
+    public void afterHttpCall(HttpRequest request, Response response, ScenarioRuntime sr) {
+        try {
+            if (!SwaggerCoverageOptions.getIgnoreCall()) {
+                writer.write(toRequest(request, response, SwaggerCoverageOptions.getPathPattern()), oas3);
+            }
+        } finally {
+            SwaggerCoverageOptions.reset();
+        }
+    }
+
+    static Request toRequest(HttpRequest httpRequest, Response response, String pathPattern) {
+        URI uri = URI.create(httpRequest.getUrl());
+        Map<String, List<String>> headers = lowerCaseKeys(httpRequest.getHeaders());
+        byte[] body = httpRequest.getBody();
+        String contentType = headers.containsKey(CONTENT_TYPE) ? headers.get(CONTENT_TYPE).get(0) : "";
+
+        Map<String, List<String>> params = parseParams(uri.getRawQuery());
+        Map<String, List<Map<String, String>>> parts = null;
+        if (body != null && contentType.startsWith("application/x-www-form-urlencoded")) {
+            params.putAll(parseParams(new String(body, StandardCharsets.UTF_8)));
+        } else if (body != null && contentType.startsWith("multipart/")) {
+            parts = parseParts(body);
+        }
+
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        String query = uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery();
+
+        Request request = new Request();
+        request.setBaseUrl(uri.getScheme() + "://" + uri.getRawAuthority());
+        request.setPath((path.startsWith("/") ? path.substring(1) : path) + query);
+        request.setRequestParams(params);
+        request.setHeaderParams(headers);
+        request.setRequestParts(parts);
+        request.setPathParams(matchPath(pathPattern, path));
+        request.setMethod(httpRequest.getMethod());
+        request.setStatusCode(response.getStatus());
+        request.setHasBody(body != null);
+        request.setResponseHeaders(lowerCaseKeys(response.getHeaders()));
+        request.setResponseTime(response.getResponseTime());
+        request.setRequestSize(body == null ? -1 : body.length);
+        request.setResponseSize(response.getBody() == null ? -1 : response.getBody().length);
+        return request;
+    }
+
+    private static Map<String, List<String>> lowerCaseKeys(Map<String, List<String>> headers) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        if (headers != null) {
+            headers.forEach((name, values) -> result.put(name.toLowerCase(), values));
+        }
+        return result;
+    }
+
+    private static Map<String, List<String>> parseParams(String query) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int index = pair.indexOf('=');
+            String name = decode(index < 0 ? pair : pair.substring(0, index));
+            String value = index < 0 ? "" : decode(pair.substring(index + 1));
+            params.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        return params;
+    }
+
+    private static Map<String, List<Map<String, String>>> parseParts(byte[] body) {
+        Map<String, List<Map<String, String>>> parts = new LinkedHashMap<>();
+        Matcher matcher = MULTIPART_NAME.matcher(new String(body, StandardCharsets.ISO_8859_1));
+        while (matcher.find()) {
+            parts.computeIfAbsent(matcher.group(1), key -> new ArrayList<>())
+                    .add(Collections.singletonMap("name", matcher.group(1)));
+        }
+        return parts;
+    }
+
+    /**
+     * Same as {@code pathMatches} of Karate server: path params by pattern like {@code /pet/{petId}}.
+     */
+    static Map<String, String> matchPath(String pattern, String path) {
+        if (pattern == null || pattern.isEmpty()) {
+            return null;
+        }
+        String[] patternSegments = pattern.split("/");
+        String[] pathSegments = path.split("/");
+        if (patternSegments.length != pathSegments.length) {
+            return null;
+        }
+
+        Map<String, String> params = new HashMap<>();
+        for (int i = 0; i < patternSegments.length; i++) {
+            String segment = patternSegments[i];
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                params.put(segment.substring(1, segment.length() - 1), decode(pathSegments[i]));
+            } else if (!segment.equals(pathSegments[i])) {
+                return null;
+            }
+        }
+        return params;
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return value;
+        }
+    }
+}
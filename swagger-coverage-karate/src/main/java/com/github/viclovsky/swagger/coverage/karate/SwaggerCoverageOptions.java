@@ -1,36 +1,134 @@
 package com.github.viclovsky.swagger.coverage.karate;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coverage options of the next call.
+ * <p>
+ * Options are kept per scenario thread, so parallel scenarios do not overwrite each other. The runtime hook
+ * reads them on the same thread. In proxy mode {@link SwaggerCoverageOptionsHook} adds the {@link #HEADER} with the
+ * id of the scenario's options to every call, and the proxy feature resolves them with {@link #forRequest(Map)}.
+ * The hook releases the options when the scenario ends.
+ */
 public class SwaggerCoverageOptions {
-    private static String destUrl;
-    private static String pathPattern = "";
-    private static boolean ignoreCall = false;
+    public static final String HEADER = "X-Swagger-Coverage-Options";
+
+    private static volatile String defaultDestUrl;
+
+    private static final Map<String, SwaggerCoverageOptions> REGISTRY = new ConcurrentHashMap<>();
+    private static final ThreadLocal<SwaggerCoverageOptions> CURRENT =
+            ThreadLocal.withInitial(() -> new SwaggerCoverageOptions(UUID.randomUUID().toString()));
+
+    private final String id;
+    private volatile String destUrl;
+    private volatile String pathPattern = "";
+    private volatile boolean ignoreCall = false;
+
+    private SwaggerCoverageOptions(String id) {
+        this.id = id;
+    }
 
     public static void setDestinationURL(String url){
-        destUrl = url;
+        defaultDestUrl = url;
+        CURRENT.get().destUrl = url;
     }
 
     public static String getDestinationURL(){
-        return destUrl;
+        return CURRENT.get().getDestUrl();
     }
 
     public static void reset(){
-        pathPattern = "";
-        ignoreCall = false;
+        CURRENT.get().resetCall();
+    }
+
+    /**
+     * Forgets options of the current thread, the next scenario of the thread gets new ones.
+     */
+    public static void release(){
+        REGISTRY.remove(CURRENT.get().id);
+        CURRENT.remove();
     }
 
     public static void setPathPattern(String pattern){
-        pathPattern = pattern;
+        CURRENT.get().pathPattern = pattern;
     }
 
     public static String getPathPattern(){
-        return pathPattern;
+        return CURRENT.get().pathPattern;
     }
 
     public static void setIgnoreCall(boolean ignore){
-        ignoreCall = ignore;
+        CURRENT.get().ignoreCall = ignore;
     }
 
     public static boolean getIgnoreCall(){
+        return CURRENT.get().ignoreCall;
+    }
+
+    /**
+     * @return value of {@link #HEADER} for calls of the current scenario
+     */
+    public static String getHeaderValue(){
+        SwaggerCoverageOptions options = CURRENT.get();
+        REGISTRY.putIfAbsent(options.id, options);
+        return options.id;
+    }
+
+    public static boolean isHeader(String name){
+        return HEADER.equalsIgnoreCase(name);
+    }
+
+    /**
+     * @return copy of request headers without {@link #HEADER}, the proxy forwards them to the destination URL
+     */
+    public static Map<String, List<String>> withoutHeader(Map<String, List<String>> headers){
+        Map<String, List<String>> forwarded = new LinkedHashMap<>();
+        if (headers != null) {
+            headers.forEach((name, values) -> {
+                if (!isHeader(name)) {
+                    forwarded.put(name, values);
+                }
+            });
+        }
+        return forwarded;
+    }
+
+    /**
+     * Options of the call received by the proxy. Calls without the header, e.g. when the proxy is used without
+     * {@link SwaggerCoverageOptionsHook}, get default options: no path pattern, captured, default destination URL.
+     */
+    public static SwaggerCoverageOptions forRequest(Map<String, List<String>> headers){
+        if (headers != null) {
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                if (isHeader(header.getKey()) && header.getValue() != null && !header.getValue().isEmpty()) {
+                    SwaggerCoverageOptions options = REGISTRY.get(header.getValue().get(0));
+                    if (options != null) {
+                        return options;
+                    }
+                }
+            }
+        }
+        return new SwaggerCoverageOptions(null);
+    }
+
+    public String getDestUrl(){
+        return destUrl != null ? destUrl : defaultDestUrl;
+    }
+
+    public String getPattern(){
+        return pathPattern;
+    }
+
+    public boolean isIgnoreCall(){
         return ignoreCall;
     }
-}
\ No newline at end of file
+
+    public void resetCall(){
+        pathPattern = "";
+        ignoreCall = false;
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.viclovsky.swagger.coverage.karate;
+
+import com.intuit.karate.RuntimeHook;
+import com.intuit.karate.core.ScenarioRuntime;
+import com.intuit.karate.http.HttpRequest;
+
+/**
+ * Adds {@link SwaggerCoverageOptions#HEADER} to every call of a scenario in proxy mode, so the proxy finds the options
+ * of the calling scenario even when the feature configures its own headers.
+ * Options left by the previous scenario of the thread are reset when a scenario starts, and released when a top level
+ * scenario ends, called features share the options of their caller.
+ */
+public class SwaggerCoverageOptionsHook implements RuntimeHook {
+
+    @Override
+    public boolean beforeScenario(ScenarioRuntime sr) {
+        SwaggerCoverageOptions.reset();
+        return true;
+    }
+
+    @Override
+    public void afterScenario(ScenarioRuntime sr) {
+        if (sr.caller.isNone()) {
+            SwaggerCoverageOptions.release();
+        }
+    }
+
+    @Override
+    public void beforeHttpCall(HttpRequest request, ScenarioRuntime sr) {
+        request.putHeader(SwaggerCoverageOptions.HEADER, SwaggerCoverageOptions.getHeaderValue());
+    }
+}
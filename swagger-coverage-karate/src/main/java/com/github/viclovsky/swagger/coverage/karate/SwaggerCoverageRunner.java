@@ -14,6 +14,7 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants;
+import com.github.viclovsky.swagger.coverage.core.generator.CoverageSession;
 import com.github.viclovsky.swagger.coverage.core.generator.Generator;
 import com.intuit.karate.FileUtils;
 import com.intuit.karate.Logger;
@@ -39,6 +40,7 @@ public class SwaggerCoverageRunner extends Runner {
     private static void stopProxy(){
         if (mockServer != null){
             mockServer.stop();
+            mockServer = null;
         }
     }
 
@@ -52,6 +54,9 @@ public class SwaggerCoverageRunner extends Runner {
         String inputPath;
         String coverageDir;
         boolean backupCoverageOutput;
+        boolean inMemoryCoverage;
+        CaptureMode captureMode = CaptureMode.PROXY;
+        CoverageSession session;
 
         private void prepareTests(){
             if(backupCoverageOutput){
@@ -61,11 +66,27 @@ public class SwaggerCoverageRunner extends Runner {
             File outputDir = new File(coverageDir, SwaggerCoverageConstants.OUTPUT_DIRECTORY);
             if (outputDir.exists()) FileUtils.deleteDirectory(outputDir);
 
+            if (inMemoryCoverage) {
+                if (coverageDir == null) coverageDir = "";
+                session = CoverageSession.open(Collections.singletonList(getSpecificationPath()), getConfigPath());
+            }
+
+            if (captureMode == CaptureMode.HOOK) {
+                RequestWriter writer = session != null ? new RequestWriter(session) : new RequestWriter(coverageDir);
+                hook(new SwaggerCoverageHook(writer, oas3));
+                logger.info("Capture calls with runtime hook");
+                return;
+            }
+
             Map<String, Object> args = new HashMap<String, Object>();
             args.put("oas3", oas3);
             args.put("workingDir", coverageDir);
+            if (session != null) {
+                args.put("coverageWriter", session);
+            }
             int proxyPort = startProxy(args);
             systemProperty("proxy.port", proxyPort + "");
+            hook(new SwaggerCoverageOptionsHook());
             logger.info("Started proxy at port: {}", proxyPort);
         }
         
@@ -82,6 +103,12 @@ public class SwaggerCoverageRunner extends Runner {
         }
 
         private void generateReport() {
+            if (session != null) {
+                session.finish();
+                session = null;
+                return;
+            }
+
             if (coverageDir == null) coverageDir = "";
 
             Path inputPath = Paths.get(coverageDir, SwaggerCoverageConstants.OUTPUT_DIRECTORY);
@@ -97,34 +124,36 @@ public class SwaggerCoverageRunner extends Runner {
             }
 
             Generator generator = new Generator()
-                .setInputPath(inputPath);
-            
+                .setInputPath(inputPath)
+                .setSpecPaths(Collections.singletonList(getSpecificationPath()))
+                .setConfigurationPath(getConfigPath());
+
+            generator.run();
+        }
+
+        private URI getSpecificationPath(){
             if (specificationPath != null) {
-                generator.setSpecPaths(Collections.singletonList(specificationPath));
+                return specificationPath;
             }
-            else{
-                File specFile = Optional.of(Paths.get(coverageDir, SPECIFICATION_NAME + ".json").toFile())
+
+            File specFile = Optional.of(Paths.get(coverageDir, SPECIFICATION_NAME + ".json").toFile())
                 .filter((file) -> file.exists())
                 .orElseGet(()-> Paths.get(coverageDir, SPECIFICATION_NAME + ".yaml").toFile());
-                
-                if (!specFile.exists()){
-                    throw new NoSuchElementException();
-                }
 
-                generator.setSpecPaths(Collections.singletonList(specFile.toURI())); 
+            if (!specFile.exists()){
+                throw new NoSuchElementException();
             }
 
+            return specFile.toURI();
+        }
+
+        private Path getConfigPath(){
             if (configPath != null){
-                generator.setConfigurationPath(Paths.get(configPath));
-            }
-            else{
-                File configFile = Paths.get(coverageDir, CONFIG_NAME).toFile();
-                if (configFile.exists()){
-                    generator.setConfigurationPath(configFile.toPath());
-                }
+                return Paths.get(configPath);
             }
 
-            generator.run();
+            File configFile = Paths.get(coverageDir, CONFIG_NAME).toFile();
+            return configFile.exists() ? configFile.toPath() : null;
         }
 
         public SwaggerCoverageBuilder swagger(){
@@ -157,6 +186,16 @@ public class SwaggerCoverageRunner extends Runner {
             return this;
         }
 
+        public SwaggerCoverageBuilder inMemoryCoverage(boolean value){
+            this.inMemoryCoverage = value;
+            return this;
+        }
+
+        public SwaggerCoverageBuilder captureMode(CaptureMode captureMode){
+            this.captureMode = captureMode;
+            return this;
+        }
+
         @Override
         public Results parallel(int threadCount){
             prepareTests();
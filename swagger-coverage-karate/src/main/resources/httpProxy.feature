@@ -9,21 +9,30 @@ Background:
     """
         function(dir){
             var RequestWriter = Java.type('com.github.viclovsky.swagger.coverage.karate.RequestWriter');
-            return new RequestWriter(dir);
+            var coverageWriter = karate.get('coverageWriter', null);
+            return coverageWriter != null ? new RequestWriter(coverageWriter) : new RequestWriter(dir);
         }
     """
     * def writer = callonce initWriter workingDir
     * def scOptions = Java.type("com.github.viclovsky.swagger.coverage.karate.SwaggerCoverageOptions");
+    * def System = Java.type('java.lang.System')
 
-Scenario: scOptions.getIgnoreCall()
+Scenario: scOptions.forRequest(requestHeaders).isIgnoreCall()
+    * def callOptions = scOptions.forRequest(requestHeaders)
+    * def requestHeaders = scOptions.withoutHeader(requestHeaders)
     * print "Call ignored for Swagger Coverage Report."
-    * karate.proceed(scOptions.getDestinationURL())
-    * scOptions.reset()
+    * karate.proceed(callOptions.getDestUrl())
+    * callOptions.resetCall()
 
 Scenario:
-    * karate.proceed(scOptions.getDestinationURL())
+    * def callOptions = scOptions.forRequest(requestHeaders)
+    * def requestHeaders = scOptions.withoutHeader(requestHeaders)
+    * def startTime = System.currentTimeMillis()
+    * karate.proceed(callOptions.getDestUrl())
+    * def callTime = System.currentTimeMillis() - startTime
     
-    * def pathParams = pathMatches(scOptions.getPathPattern()) ? pathParams : null
+    * def pathParams = pathMatches(callOptions.getPattern()) ? pathParams : null
+    * def requestSize = requestBytes != null ? requestBytes.length : -1
     
     * def multipart = karate.get('requestParts', null)
     * if (multipart != null) karate.remove("multipart", ".[*].value")
@@ -40,10 +49,12 @@ Scenario:
             pathParams: '#(pathParams)',
             method: '#(requestMethod)',
             statusCode: '#(responseStatus)',
+            responseTime: '#(callTime)',
+            requestSize: '#(requestSize)',
             hasBody: '#(request != null)'
         }
     """
 
     * def coverageRequest = karate.toBean(reqJson, 'com.github.viclovsky.swagger.coverage.karate.Request')
     * eval writer.write(coverageRequest, oas3)
-    * scOptions.reset()
+    * callOptions.resetCall()
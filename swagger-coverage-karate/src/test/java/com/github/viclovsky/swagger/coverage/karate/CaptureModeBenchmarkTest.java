@@ -0,0 +1,112 @@
+package com.github.viclovsky.swagger.coverage.karate;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.intuit.karate.Logger;
+import com.intuit.karate.Results;
+
+import org.apache.http.HttpStatus;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertEquals;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Compares per-request overhead of proxy and runtime hook capture.
+ * <p>
+ * Only the calls are timed, by the feature itself, so runner start and report are not counted.
+ * Modes are measured alternately in one run after a warm-up, the best round of each mode is compared.
+ */
+public class CaptureModeBenchmarkTest {
+
+    private static final Logger logger = new Logger();
+    private static final int CALLS = 200;
+    private static final int ROUNDS = 3;
+
+    private static final AtomicLong elapsed = new AtomicLong();
+
+    @Rule
+    public WireMockRule mock = new WireMockRule(options().dynamicPort().withRootDirectory(getDirFromResources("/wiremock")), false);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp(){
+        configureFor(mock.port());
+        stubFor(get(urlMatching("/pet/.*"))
+                .willReturn(aResponse().withStatus(HttpStatus.SC_OK)
+                        .withBody("{ name: MockPet }")));
+    }
+
+    /**
+     * Called by benchmark.feature with time spent on the calls.
+     */
+    public static void record(long nanos) {
+        elapsed.set(nanos);
+    }
+
+    @Test
+    public void shouldCompareCaptureModes() throws IOException {
+        // warm up both modes before measuring
+        run(CaptureMode.PROXY);
+        run(CaptureMode.HOOK);
+
+        long proxy = Long.MAX_VALUE;
+        long hook = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            proxy = Math.min(proxy, run(CaptureMode.PROXY));
+            hook = Math.min(hook, run(CaptureMode.HOOK));
+        }
+
+        logger.info("Time per request: proxy {} us, hook {} us, hook saves {} us",
+                proxy / CALLS / 1000, hook / CALLS / 1000, (proxy - hook) / CALLS / 1000);
+        assertThat(proxy, greaterThan(0L));
+        assertThat(hook, greaterThan(0L));
+        assertThat(mock.findAll(getRequestedFor(urlMatching("/pet/.*"))), hasSize(CALLS * 2 * (ROUNDS + 1)));
+    }
+
+    private long run(CaptureMode mode) throws IOException {
+        File coverageDir = folder.newFolder();
+        elapsed.set(0);
+        Results results = SwaggerCoverageRunner.path("classpath:benchmark.feature")
+                .backupReportDir(false)
+                .coverageDir(coverageDir.toString())
+                .swaggerSpec(URI.create(mock.url("/openapi.yaml")))
+                .oas3()
+                .captureMode(mode)
+                .inMemoryCoverage(true)
+                .systemProperty("baseUrl", mock.baseUrl())
+                .systemProperty("calls", String.valueOf(CALLS))
+                .parallel(1);
+
+        assertEquals(results.getErrorMessages(), 0, results.getFailCount());
+        return elapsed.get();
+    }
+
+    private String getDirFromResources(String name) {
+        try {
+            return Paths.get(this.getClass().getResource(name).toURI()).toString();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+}
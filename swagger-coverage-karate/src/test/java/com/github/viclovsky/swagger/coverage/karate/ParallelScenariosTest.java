@@ -0,0 +1,172 @@
+package com.github.viclovsky.swagger.coverage.karate;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants;
+import com.github.viclovsky.swagger.coverage.model.SwaggerCoverage2ModelJackson;
+import com.intuit.karate.Logger;
+import com.intuit.karate.Results;
+
+import org.apache.http.HttpStatus;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Every scenario sets own options, parallel scenarios must not see options of each other.
+ */
+public class ParallelScenariosTest {
+
+    private static final Logger logger = new Logger();
+    private static final int SCENARIOS = 64;
+    private static final int DELAY = 50;
+
+    @Rule
+    public WireMockRule mock = new WireMockRule(options().dynamicPort().withRootDirectory(getDirFromResources("/wiremock")), false);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp(){
+        configureFor(mock.port());
+        stubFor(get(urlMatching("/pet/.*"))
+                .willReturn(aResponse().withStatus(HttpStatus.SC_OK)
+                        .withFixedDelay(DELAY)
+                        .withBody("{ name: MockPet }")));
+    }
+
+    @Test
+    public void shouldKeepOptionsOfSequentialScenarios() throws IOException {
+        assertOwnOptions(run(1));
+    }
+
+    @Test
+    public void shouldKeepOptionsOfParallelScenarios() throws IOException {
+        assertOwnOptions(run(16));
+    }
+
+    /**
+     * Runner start and report are timed too, they take the same time in both runs.
+     */
+    @Test
+    public void shouldSaveDelaysOfCallsInParallelScenarios() throws IOException {
+        // warm up before measuring
+        run(16);
+        long start = System.nanoTime();
+        assertOwnOptions(run(16));
+        long parallel = System.nanoTime() - start;
+        start = System.nanoTime();
+        assertOwnOptions(run(1));
+        long sequential = System.nanoTime() - start;
+
+        logger.info("{} scenarios: 1 thread {} ms, 16 threads {} ms, speed-up {}", SCENARIOS,
+                sequential / 1_000_000, parallel / 1_000_000, String.format("%.1f", (double) sequential / parallel));
+        // 16 threads wait for the mock at most SCENARIOS / 16 times instead of SCENARIOS times
+        assertThat(sequential - parallel, greaterThan(TimeUnit.MILLISECONDS.toNanos(SCENARIOS * DELAY / 2)));
+    }
+
+    /**
+     * Every fourth scenario ignores its call, the others set a path pattern with the parameter name depending on id.
+     * Every third scenario configures own headers, the options of those scenarios must reach the proxy too.
+     */
+    private void assertOwnOptions(Map<Integer, JsonNode> operations) {
+        for (int id = 0; id < SCENARIOS; id++) {
+            if (id % 4 == 0) {
+                assertFalse("call " + id + " must be ignored", operations.containsKey(id));
+                continue;
+            }
+            JsonNode operation = operations.get(id);
+            assertNotNull("call " + id + " must be captured", operation);
+            List<String> parameters = new ArrayList<>();
+            operation.path("parameters").forEach(parameter -> parameters.add(parameter.path("name").asText()));
+
+            assertTrue(id + ": " + parameters, parameters.contains(id % 4 == 2 ? "id" : "petId"));
+            assertFalse(id + ": " + parameters, parameters.contains(id % 4 == 2 ? "petId" : "id"));
+            assertEquals(id + ": " + parameters, id % 3 == 0,
+                    parameters.stream().anyMatch("X-Request-Id"::equalsIgnoreCase));
+            assertFalse(id + ": " + parameters, parameters.stream().anyMatch(SwaggerCoverageOptions::isHeader));
+        }
+        assertEquals(48, operations.size());
+    }
+
+    /**
+     * @return captured GET operations by pet id
+     */
+    private Map<Integer, JsonNode> run(int threads) throws IOException {
+        File coverageDir = folder.newFolder();
+        Results results = SwaggerCoverageRunner.path("classpath:parallel.feature")
+                .backupReportDir(false)
+                .coverageDir(coverageDir.toString())
+                .swaggerSpec(URI.create(mock.url("/openapi.yaml")))
+                .oas3()
+                .systemProperty("baseUrl", mock.baseUrl())
+                .parallel(threads);
+        assertEquals(results.getErrorMessages(), 0, results.getFailCount());
+        assertHeaderNotForwarded();
+
+        ObjectMapper mapper = SwaggerCoverage2ModelJackson.createYamlMapper();
+        Map<Integer, JsonNode> operations = new HashMap<>();
+        try (Stream<Path> files = Files.list(coverageDir.toPath().resolve(SwaggerCoverageConstants.OUTPUT_DIRECTORY))) {
+            for (Path output : files.collect(Collectors.toList())) {
+                Iterator<Map.Entry<String, JsonNode>> paths = mapper.readTree(output.toFile()).path("paths").fields();
+                while (paths.hasNext()) {
+                    Map.Entry<String, JsonNode> path = paths.next();
+                    int id = Integer.parseInt(path.getKey().substring(path.getKey().lastIndexOf('/') + 1));
+                    assertNull("call " + id + " is captured twice", operations.put(id, path.getValue().path("get")));
+                }
+            }
+        }
+        return operations;
+    }
+
+    private void assertHeaderNotForwarded() {
+        List<LoggedRequest> requests = mock.findAll(getRequestedFor(urlMatching("/pet/.*")));
+        assertFalse(requests.isEmpty());
+        for (LoggedRequest request : requests) {
+            assertFalse(request.getUrl(), request.containsHeader(SwaggerCoverageOptions.HEADER));
+        }
+    }
+
+    private String getDirFromResources(String name) {
+        try {
+            return Paths.get(this.getClass().getResource(name).toURI()).toString();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+}
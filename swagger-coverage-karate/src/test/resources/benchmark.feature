@@ -0,0 +1,15 @@
+Feature: Capture overhead benchmark
+
+Background:
+    * def baseUrl = karate.properties["baseUrl"]
+    * url baseUrl
+    * eval scOptions.setDestUrl(baseUrl)
+
+Scenario: Many calls
+    * def calls = karate.properties["calls"] * 1
+    * def pets = karate.repeat(calls, function(i){ return { id: i } })
+    * def System = Java.type('java.lang.System')
+    * def Benchmark = Java.type('com.github.viclovsky.swagger.coverage.karate.CaptureModeBenchmarkTest')
+    * def start = System.nanoTime()
+    * def result = call read('classpath:pet-call.feature') pets
+    * eval Benchmark.record(System.nanoTime() - start)
@@ -0,0 +1,16 @@
+Feature: Parallel scenarios with own coverage options
+
+Background:
+    * def baseUrl = karate.properties["baseUrl"]
+    * url baseUrl
+    * eval scOptions.setDestUrl(baseUrl)
+
+Scenario Outline: Pet <id>
+    * if (id % 3 == 0) karate.configure('headers', { 'X-Request-Id': '' + id })
+    * if (id % 4 == 0) scOptions.ignoreNextCall(); else if (id % 4 == 2) scOptions.setPathPattern("/pet/{id}"); else scOptions.setPathPattern("/pet/{petId}")
+    Given path "pet", id
+    When method GET
+    Then status 200
+
+Examples:
+    | karate.repeat(64, function(i){ return { id: i } }) |
@@ -0,0 +1,9 @@
+@ignore
+Feature: Single pet call
+
+Scenario:
+    * eval scOptions.setPathPattern("/pet/{petId}")
+    Given url karate.properties["baseUrl"]
+    And path "pet", id
+    When method GET
+    Then status 200
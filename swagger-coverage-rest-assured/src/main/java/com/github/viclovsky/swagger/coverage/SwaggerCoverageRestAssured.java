@@ -7,6 +7,7 @@ import io.restassured.specification.FilterableRequestSpecification;
 import io.restassured.specification.FilterableResponseSpecification;
 import io.swagger.models.Operation;
 import io.swagger.models.Swagger;
+import io.swagger.models.parameters.AbstractSerializableParameter;
 import io.swagger.models.parameters.BodyParameter;
 import io.swagger.models.parameters.FormParameter;
 import io.swagger.models.parameters.HeaderParameter;
@@ -16,22 +17,36 @@ import io.swagger.models.parameters.QueryParameter;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
+import static com.github.viclovsky.swagger.coverage.CaptureProjection.BODY;
+import static com.github.viclovsky.swagger.coverage.CaptureProjection.HEADER;
+import static com.github.viclovsky.swagger.coverage.CaptureProjection.PATH;
+import static com.github.viclovsky.swagger.coverage.CaptureProjection.QUERY;
 import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.BODY_PARAM_NAME;
 import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.OUTPUT_DIRECTORY;
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.REQUEST_SIZE_EXTENSION;
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.RESPONSE_SIZE_EXTENSION;
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.RESPONSE_TIME_EXTENSION;
 import static io.swagger.models.Scheme.forValue;
 import static java.lang.String.valueOf;
 
 public class SwaggerCoverageRestAssured implements OrderedFilter {
 
     private CoverageOutputWriter writer;
+    private CaptureProjection projection;
 
-    public SwaggerCoverageRestAssured(CoverageOutputWriter writer) {
+    public SwaggerCoverageRestAssured(CoverageOutputWriter writer, CaptureProjection projection) {
         this.writer = writer;
+        this.projection = projection;
+    }
+
+    public SwaggerCoverageRestAssured(CoverageOutputWriter writer) {
+        this(writer, CaptureProjection.load());
     }
 
     public SwaggerCoverageRestAssured() {
-        this.writer = new FileSystemOutputWriter(Paths.get(OUTPUT_DIRECTORY));
+        this(new FileSystemOutputWriter(Paths.get(OUTPUT_DIRECTORY)));
     }
 
     @Override
@@ -42,41 +57,76 @@ public class SwaggerCoverageRestAssured implements OrderedFilter {
     @Override
     public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
         Operation operation = new Operation();
-        requestSpec.getPathParams().forEach((n, v) -> operation.addParameter(new PathParameter().name(n).example(v)));
+        requestSpec.getPathParams().forEach((n, v) -> addParameter(operation, new PathParameter(), PATH, n, v));
         //Ignore ClassCastException for https://github.com/rest-assured/rest-assured/issues/1232
         try {
-            requestSpec.getQueryParams().forEach((n, v) -> operation.addParameter(new QueryParameter().name(n).example(v)));
+            requestSpec.getQueryParams().forEach((n, v) -> addParameter(operation, new QueryParameter(), QUERY, n, v));
         } catch (ClassCastException ex) {
-            requestSpec.getQueryParams().keySet().forEach(n -> operation.addParameter(new QueryParameter().name(n)));
+            requestSpec.getQueryParams().keySet().forEach(n -> addParameter(operation, new QueryParameter(), QUERY, n, null));
         }
         try {
-            requestSpec.getFormParams().forEach((n, v) -> operation.addParameter(new FormParameter().name(n).example(v)));
+            requestSpec.getFormParams().forEach((n, v) -> addParameter(operation, new FormParameter(), BODY, n, v));
         } catch (ClassCastException ex) {
-            requestSpec.getFormParams().keySet().forEach((n -> operation.addParameter(new FormParameter().name(n))));
+            requestSpec.getFormParams().keySet().forEach((n -> addParameter(operation, new FormParameter(), BODY, n, null)));
         }
         //end
-        requestSpec.getHeaders().forEach(header -> operation.addParameter(new HeaderParameter().name(header.getName())
-                .example(header.getValue())));
+        requestSpec.getHeaders().forEach(header -> addParameter(operation, new HeaderParameter(), HEADER,
+                header.getName(), header.getValue()));
 
-        requestSpec.getMultiPartParams().forEach(multiPartSpecification -> operation.addParameter(new FormParameter()
-                .name(multiPartSpecification.getControlName())));
+        requestSpec.getMultiPartParams().forEach(multiPartSpecification -> addParameter(operation, new FormParameter(),
+                BODY, multiPartSpecification.getControlName(), null));
 
         if (Objects.nonNull(requestSpec.getBody())) {
             operation.addParameter(new BodyParameter().name(BODY_PARAM_NAME));
+            addSize(operation, REQUEST_SIZE_EXTENSION, requestSize(requestSpec));
         }
 
         final Response response = ctx.next(requestSpec, responseSpec);
 
         operation.addResponse(valueOf(response.statusCode()), new io.swagger.models.Response());
+        if (response.getTimeIn(TimeUnit.MILLISECONDS) >= 0) {
+            operation.setVendorExtension(RESPONSE_TIME_EXTENSION, response.getTimeIn(TimeUnit.MILLISECONDS));
+        }
+        addSize(operation, RESPONSE_SIZE_EXTENSION, BodySize.contentLength(response.getHeader("Content-Length")));
 
         Swagger swagger = new Swagger()
                 .scheme(forValue(URI.create(requestSpec.getURI()).getScheme()))
                 .host(URI.create(requestSpec.getURI()).getHost())
                 .consumes(requestSpec.getContentType())
-                .produces(response.getContentType())
                 .path(requestSpec.getUserDefinedPath(), new io.swagger.models.Path().set(requestSpec.getMethod().toLowerCase(), operation));
+        if (projection.isAll()) {
+            swagger.produces(response.getContentType());
+        }
 
         writer.write(swagger);
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * Size of serialized body, or Content-Length header for streamed bodies.
+     */
+    private static long requestSize(FilterableRequestSpecification requestSpec) {
+        long size = BodySize.of(requestSpec.getBody());
+        return size != BodySize.UNKNOWN ? size : BodySize.contentLength(requestSpec.getHeaders().getValue("Content-Length"));
+    }
+
+    private static void addSize(Operation operation, String extension, long size) {
+        if (size != BodySize.UNKNOWN) {
+            operation.setVendorExtension(extension, size);
+        }
+    }
+
+    /**
+     * Form data params become request body properties in the report, so they are projected as {@code body}.
+     */
+    private void addParameter(Operation operation, AbstractSerializableParameter<?> parameter, String in,
+                              String name, Object value) {
+        if (projection.keepName(in, name)) {
+            parameter.setName(name);
+            if (value != null && projection.keepValue(in, name)) {
+                parameter.setExample(value.toString());
+            }
+            operation.addParameter(parameter);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.parameters.PathParameter;
 import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
@@ -21,21 +22,52 @@ import io.swagger.v3.oas.models.servers.Server;
 
 import java.net.URI;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.OUTPUT_DIRECTORY;
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.REQUEST_SIZE_EXTENSION;
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.RESPONSE_SIZE_EXTENSION;
+import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.RESPONSE_TIME_EXTENSION;
 import static java.lang.String.valueOf;
 
 public class SwaggerCoverageV3RestAssured implements OrderedFilter {
 
     private CoverageOutputWriter writer;
+    private CaptureProjection projection;
+    private JsonBodyPropertyExtractor bodyExtractor = new JsonBodyPropertyExtractor();
+    private boolean responseProperties;
 
-    public SwaggerCoverageV3RestAssured(CoverageOutputWriter writer) {
+    public SwaggerCoverageV3RestAssured(CoverageOutputWriter writer, CaptureProjection projection) {
         this.writer = writer;
+        this.projection = projection;
+        this.responseProperties = projection.isRequested(CaptureProjection.RESPONSE);
+    }
+
+    public SwaggerCoverageV3RestAssured(CoverageOutputWriter writer) {
+        this(writer, CaptureProjection.load());
     }
 
     public SwaggerCoverageV3RestAssured() {
-        this.writer = new FileSystemOutputWriter(Paths.get(OUTPUT_DIRECTORY));
+        this(new FileSystemOutputWriter(Paths.get(OUTPUT_DIRECTORY)));
+    }
+
+    /**
+     * Sets depth, property count and size limits for reading properties of json request bodies.
+     */
+    public SwaggerCoverageV3RestAssured setBodyExtractor(JsonBodyPropertyExtractor bodyExtractor) {
+        this.bodyExtractor = bodyExtractor;
+        return this;
+    }
+
+    /**
+     * Records properties of json response bodies for response rules. Enabled when the projection names response
+     * properties, otherwise response bodies are not read.
+     */
+    public SwaggerCoverageV3RestAssured setResponseProperties(boolean responseProperties) {
+        this.responseProperties = responseProperties;
+        return this;
     }
 
     @Override
@@ -46,15 +78,15 @@ public class SwaggerCoverageV3RestAssured implements OrderedFilter {
     @Override
     public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
         Operation operation = new Operation();
-        requestSpec.getPathParams().forEach((n, v) -> operation.addParametersItem(new PathParameter().name(n).example(v)));
+        requestSpec.getPathParams().forEach((n, v) -> addParameter(operation, new PathParameter(), n, v));
         //Ignore ClassCastException for https://github.com/rest-assured/rest-assured/issues/1232
         try {
-            requestSpec.getQueryParams().forEach((n, v) -> operation.addParametersItem(new QueryParameter().name(n).example(v)));
+            requestSpec.getQueryParams().forEach((n, v) -> addParameter(operation, new QueryParameter(), n, v));
         } catch (ClassCastException ex) {
-            requestSpec.getQueryParams().keySet().forEach(n -> operation.addParametersItem(new QueryParameter().name(n)));
+            requestSpec.getQueryParams().keySet().forEach(n -> addParameter(operation, new QueryParameter(), n, null));
         }
-        requestSpec.getHeaders().forEach(header -> operation.addParametersItem(new HeaderParameter().name(header.getName())
-                .example(header.getValue())));
+        requestSpec.getHeaders().forEach(header -> addParameter(operation, new HeaderParameter(), header.getName(),
+                header.getValue()));
 
         final Response response = ctx.next(requestSpec, responseSpec);
 
@@ -63,19 +95,39 @@ public class SwaggerCoverageV3RestAssured implements OrderedFilter {
             mediaType.setSchema(new Schema());
             //Ignore ClassCastException for https://github.com/rest-assured/rest-assured/issues/1232
             try {
-                requestSpec.getFormParams().forEach((n, v) -> mediaType.getSchema().addProperties(n, new Schema().example(v)));
+                requestSpec.getFormParams().forEach((n, v) -> addProperty(mediaType.getSchema(), n, v));
             } catch (ClassCastException ex) {
-                requestSpec.getFormParams().keySet().forEach((n -> mediaType.getSchema().addProperties(n, new Schema())));
+                requestSpec.getFormParams().keySet().forEach((n -> addProperty(mediaType.getSchema(), n, null)));
+            }
+            requestSpec.getMultiPartParams().forEach(multiPartSpecification -> addProperty(mediaType.getSchema(),
+                    multiPartSpecification.getControlName(), null));
+            if (JsonBodyPropertyExtractor.isJson(requestSpec.getContentType())) {
+                addJsonProperties(mediaType.getSchema(), requestSpec.getBody());
             }
-            requestSpec.getMultiPartParams().forEach(multiPartSpecification -> mediaType.getSchema().addProperties(multiPartSpecification.getControlName(), new Schema()));
             operation.requestBody(
                     new RequestBody().content(new Content().addMediaType(requestSpec.getContentType(), mediaType)));
-
+            addSize(operation, REQUEST_SIZE_EXTENSION, requestSize(requestSpec));
         }
 
-        operation.responses(new ApiResponses()
-                .addApiResponse(valueOf(response.statusCode()),
-                        new ApiResponse().content(new Content().addMediaType(response.getContentType(), new MediaType()))));
+        ApiResponse apiResponse = new ApiResponse();
+        MediaType responseMediaType = new MediaType();
+        long responseSize = BodySize.contentLength(response.getHeader("Content-Length"));
+        //bodies of unknown length are not copied, they may be of any size
+        if (responseProperties && responseSize != BodySize.UNKNOWN && responseSize <= bodyExtractor.getMaxBytes()
+                && JsonBodyPropertyExtractor.isJson(response.getContentType())) {
+            responseMediaType.setSchema(new Schema());
+            //rest-assured keeps the read body for the test, reading its raw stream here would consume it
+            byte[] responseBody = response.asByteArray();
+            bodyExtractor.extract(responseBody, (path, value) -> addResponseProperty(responseMediaType.getSchema(), path, value));
+        }
+        if (projection.isAll() || responseMediaType.getSchema() != null) {
+            apiResponse.content(new Content().addMediaType(response.getContentType(), responseMediaType));
+        }
+        operation.responses(new ApiResponses().addApiResponse(valueOf(response.statusCode()), apiResponse));
+        if (response.getTimeIn(TimeUnit.MILLISECONDS) >= 0) {
+            operation.addExtension(RESPONSE_TIME_EXTENSION, response.getTimeIn(TimeUnit.MILLISECONDS));
+        }
+        addSize(operation, RESPONSE_SIZE_EXTENSION, responseSize);
 
         PathItem pathItem = new PathItem();
         pathItem.operation(PathItem.HttpMethod.valueOf(requestSpec.getMethod().toUpperCase()), operation);
@@ -86,4 +138,83 @@ public class SwaggerCoverageV3RestAssured implements OrderedFilter {
         writer.write(openAPI);
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * Size of serialized body, or Content-Length header for streamed bodies.
+     */
+    private static long requestSize(FilterableRequestSpecification requestSpec) {
+        long size = BodySize.of(requestSpec.getBody());
+        return size != BodySize.UNKNOWN ? size : BodySize.contentLength(requestSpec.getHeaders().getValue("Content-Length"));
+    }
+
+    private static void addSize(Operation operation, String extension, long size) {
+        if (size != BodySize.UNKNOWN) {
+            operation.addExtension(extension, size);
+        }
+    }
+
+    private void addParameter(Operation operation, Parameter parameter, String name, Object value) {
+        parameter.name(name);
+        if (projection.keepName(parameter.getIn(), name)) {
+            if (value != null && projection.keepValue(parameter.getIn(), name)) {
+                parameter.example(value);
+            }
+            operation.addParametersItem(parameter);
+        }
+    }
+
+    private void addProperty(Schema schema, String name, Object value) {
+        if (projection.keepName(CaptureProjection.BODY, name)) {
+            Schema property = new Schema();
+            if (value != null && projection.keepValue(CaptureProjection.BODY, name)) {
+                property.example(value);
+            }
+            schema.addProperties(name, property);
+        }
+    }
+
+    private void addJsonProperties(Schema schema, Object body) {
+        if (body instanceof String) {
+            bodyExtractor.extract((String) body, (path, value) -> addJsonProperty(schema, path, value));
+        } else if (body instanceof byte[]) {
+            bodyExtractor.extract((byte[]) body, (path, value) -> addJsonProperty(schema, path, value));
+        }
+    }
+
+    /**
+     * Response rules read top level properties only, items of array responses count as top level.
+     */
+    private void addResponseProperty(Schema schema, List<String> path, String value) {
+        if (path.size() == 1 && projection.keepName(CaptureProjection.RESPONSE, path.get(0))) {
+            Schema property = new Schema();
+            if (value != null && projection.keepValue(CaptureProjection.RESPONSE, path.get(0))) {
+                property.example(value);
+            }
+            schema.addProperties(path.get(0), property);
+        }
+    }
+
+    /**
+     * Nested properties are added to schemas of their parents, which are always reported first.
+     */
+    private void addJsonProperty(Schema schema, List<String> path, String value) {
+        String name = JsonBodyPropertyExtractor.propertyName(path);
+        if (!projection.keepName(CaptureProjection.BODY, name)) {
+            return;
+        }
+        Schema parent = schema;
+        for (String segment : path.subList(0, path.size() - 1)) {
+            Schema child = parent.getProperties() == null ? null : (Schema) parent.getProperties().get(segment);
+            if (child == null) {
+                child = new Schema();
+                parent.addProperties(segment, child);
+            }
+            parent = child;
+        }
+        Schema property = new Schema();
+        if (value != null && projection.keepValue(CaptureProjection.BODY, name)) {
+            property.example(value);
+        }
+        parent.addProperties(path.get(path.size() - 1), property);
+    }
+}
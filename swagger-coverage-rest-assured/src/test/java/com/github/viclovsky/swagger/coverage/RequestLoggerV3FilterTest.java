@@ -2,7 +2,12 @@ package com.github.viclovsky.swagger.coverage;
 
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
 import io.restassured.http.Header;
+import io.swagger.models.Swagger;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
 import org.apache.http.HttpStatus;
 import org.hamcrest.io.FileMatchers;
 import org.junit.Before;
@@ -14,7 +19,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -22,11 +29,17 @@ import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
 import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
 import static com.github.viclovsky.swagger.coverage.SwaggerCoverageConstants.OUTPUT_DIRECTORY;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.hamcrest.Matchers.nullValue;
 
 public class RequestLoggerV3FilterTest {
 
@@ -90,4 +103,89 @@ public class RequestLoggerV3FilterTest {
 
         assertThat(getPaths(output), iterableWithSize(1));
     }
+
+    @Test
+    public void shouldRecordOnlyProjectedParameters() {
+        List<OpenAPI> captured = new ArrayList<>();
+        CaptureProjection projection = new CaptureProjection()
+                .addName(CaptureProjection.HEADER, "X-Request-ID")
+                .addValue(CaptureProjection.QUERY, "status");
+
+        RestAssured.given().filter(new SwaggerCoverageV3RestAssured(writer(captured), projection))
+                .header(new Header("X-Request-ID", "h"))
+                .header(new Header("X-Trace", "t"))
+                .queryParam("status", "sold")
+                .queryParam("page", "1")
+                .get(mock.url("/hello"));
+
+        List<Parameter> parameters = captured.get(0).getPaths().get("/hello").getGet().getParameters();
+        assertThat(parameters, iterableWithSize(2));
+        assertThat(parameters.get(0).getName(), equalTo("status"));
+        assertThat(parameters.get(0).getExample(), equalTo("sold"));
+        assertThat(parameters.get(1).getName(), equalTo("X-Request-ID"));
+        assertThat(parameters.get(1).getExample(), nullValue());
+    }
+
+    @Test
+    public void shouldRecordJsonBodyProperties() {
+        List<OpenAPI> captured = new ArrayList<>();
+
+        RestAssured.given().filter(new SwaggerCoverageV3RestAssured(writer(captured), CaptureProjection.all())
+                        .setBodyExtractor(new JsonBodyPropertyExtractor().setMaxDepth(2)))
+                .contentType(ContentType.JSON)
+                .body("{\"name\": \"rex\", \"status\": \"sold\", \"category\": {\"id\": 1, \"tag\": {\"name\": \"a\"}}}")
+                .post(mock.url("/pet"));
+
+        Schema schema = captured.get(0).getPaths().get("/pet").getPost().getRequestBody().getContent()
+                .values().iterator().next().getSchema();
+        assertThat(schema.getProperties().keySet(), contains("name", "status", "category"));
+        assertThat(((Schema) schema.getProperties().get("status")).getExample(), equalTo("sold"));
+
+        Schema category = (Schema) schema.getProperties().get("category");
+        assertThat(category.getProperties().keySet(), contains("id", "tag"));
+        assertThat(((Schema) category.getProperties().get("tag")).getProperties(), nullValue());
+    }
+
+    @Test
+    public void shouldRecordResponseTime() {
+        List<OpenAPI> captured = new ArrayList<>();
+        stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withStatus(HttpStatus.SC_OK).withFixedDelay(50)));
+
+        RestAssured.given().filter(new SwaggerCoverageV3RestAssured(writer(captured), CaptureProjection.all()))
+                .get(mock.url("/slow"));
+
+        Object time = captured.get(0).getPaths().get("/slow").getGet().getExtensions()
+                .get(SwaggerCoverageConstants.RESPONSE_TIME_EXTENSION);
+        assertThat(((Number) time).longValue(), greaterThanOrEqualTo(50L));
+    }
+
+    @Test
+    public void shouldRecordBodySizes() {
+        List<OpenAPI> captured = new ArrayList<>();
+        stubFor(post(urlEqualTo("/order")).willReturn(aResponse().withStatus(HttpStatus.SC_OK)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\": 1}")));
+
+        RestAssured.given().filter(new SwaggerCoverageV3RestAssured(writer(captured), CaptureProjection.all()))
+                .contentType(ContentType.JSON)
+                .body("{\"name\": \"\u00e9t\u00e9\"}")
+                .post(mock.url("/order"));
+
+        Map<String, Object> extensions = captured.get(0).getPaths().get("/order").getPost().getExtensions();
+        assertThat(((Number) extensions.get(SwaggerCoverageConstants.REQUEST_SIZE_EXTENSION)).longValue(), equalTo(17L));
+        assertThat(((Number) extensions.get(SwaggerCoverageConstants.RESPONSE_SIZE_EXTENSION)).longValue(), equalTo(9L));
+    }
+
+    private static CoverageOutputWriter writer(List<OpenAPI> captured) {
+        return new CoverageOutputWriter() {
+            @Override
+            public void write(Swagger swagger) {
+            }
+
+            @Override
+            public void write(OpenAPI openAPI) {
+                captured.add(openAPI);
+            }
+        };
+    }
 }